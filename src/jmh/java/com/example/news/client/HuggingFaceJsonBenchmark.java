@@ -0,0 +1,54 @@
+package com.example.news.client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 요약 업스트림 요청 본문 직렬화 / 응답 readTree 파싱
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class HuggingFaceJsonBenchmark {
+
+  @Param({"1", "16"})
+  private int batchSize;
+
+  private List<String> inputs;
+  private String responseBody;
+
+  @Setup
+  public void setUp() {
+    String article = "The central bank kept its benchmark interest rate unchanged on Thursday, "
+        + "citing easing inflation and slowing economic growth. ".repeat(20);
+    inputs = new ArrayList<>(batchSize);
+    StringBuilder response = new StringBuilder("[");
+    for (int i = 0; i < batchSize; i++) {
+      inputs.add(article);
+      if (i > 0) {
+        response.append(',');
+      }
+      response.append("[{\"summary_text\":\"The central bank kept rates unchanged as inflation eased.\"}]");
+    }
+    responseBody = response.append(']').toString();
+  }
+
+  @Benchmark
+  public String buildRequestBody() throws Exception {
+    return HuggingFaceClient.requestBody(inputs);
+  }
+
+  @Benchmark
+  public List<String> parseResponse() throws Exception {
+    return HuggingFaceClient.parseSummaries(responseBody, batchSize);
+  }
+}
@@ -0,0 +1,83 @@
+package com.example.news.service.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 벤치마크용 프로세스 내 업스트림 스텁
+ * 업스트림 RestTemplate의 요청 팩토리만 바꿔치기하므로 가드/배처/헤지/JSON 처리는 실제 코드가 실행된다.
+ */
+@Configuration
+public class StubUpstreamConfig {
+
+  private static final Set<String> STUBBED = Set.of(
+      "summarizerRestTemplate", "libreTranslateRestTemplate", "myMemoryRestTemplate");
+
+  @Bean
+  static BeanPostProcessor stubUpstreamRestTemplates() {
+    ClientHttpRequestFactory stub = new StubRequestFactory();
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof RestTemplate restTemplate && STUBBED.contains(beanName)) {
+          restTemplate.setRequestFactory(stub);
+        }
+        return bean;
+      }
+    };
+  }
+
+  static class StubRequestFactory implements ClientHttpRequestFactory {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) {
+      return new MockClientHttpRequest(httpMethod, uri) {
+        @Override
+        protected ClientHttpResponse executeInternal() throws IOException {
+          return respond(uri, getBodyAsString(StandardCharsets.UTF_8));
+        }
+      };
+    }
+
+    private static ClientHttpResponse respond(URI uri, String body) throws IOException {
+      String json;
+      String host = uri.getHost();
+      if (host.contains("huggingface")) {
+        JsonNode inputs = OBJECT_MAPPER.readTree(body).get("inputs");
+        StringBuilder response = new StringBuilder("[");
+        for (int i = 0; i < inputs.size(); i++) {
+          if (i > 0) {
+            response.append(',');
+          }
+          response.append("[{\"summary_text\":\"The central bank kept rates unchanged as inflation eased.\"}]");
+        }
+        json = response.append(']').toString();
+      } else if (host.contains("mymemory")) {
+        json = "{\"responseData\":{\"translatedText\":\"중앙은행이 금리를 동결했다.\"}}";
+      } else {
+        json = "{\"translatedText\":\"중앙은행이 금리를 동결했다.\"}";
+      }
+      MockClientHttpResponse response = new MockClientHttpResponse(json.getBytes(StandardCharsets.UTF_8), HttpStatus.OK);
+      response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+      return response;
+    }
+  }
+}
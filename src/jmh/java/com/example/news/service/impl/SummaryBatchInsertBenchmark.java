@@ -0,0 +1,122 @@
+package com.example.news.service.impl;
+
+import com.example.news.NewsApplication;
+import com.example.news.dto.SummaryBatchResponse;
+import com.example.news.dto.SummaryRequest;
+import com.example.news.dto.SummaryResponse;
+import com.example.news.service.AIService;
+import com.example.news.service.SummaryProgressListener;
+import com.example.news.service.SummaryService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * 단건 생성 경로와 일괄 생성(JDBC 배치 INSERT) 경로의 초당 저장 건수 비교 (ops/s = rows/s)
+ * AI 호출은 고정 응답으로 바꿔 저장 경로만 잰다. DB는 내장 H2
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SummaryBatchInsertBenchmark {
+
+  private static final int BATCH_SIZE = 500;
+
+  private final AtomicLong sequence = new AtomicLong();
+  private ConfigurableApplicationContext context;
+  private SummaryService summaryService;
+
+  @Setup
+  public void setUp() {
+    SpringApplication application = new SpringApplication(NewsApplication.class, StubUpstreamConfig.class,
+        FixedAiServiceConfig.class);
+    application.setDefaultProperties(Map.of(
+        "server.port", "0",
+        "spring.datasource.url", "jdbc:h2:mem:bench-batch;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username", "sa",
+        "spring.jpa.hibernate.ddl-auto", "create-drop",
+        "ai.service.url", "http://localhost:0",
+        "ai.service.api-key", "bench",
+        "huggingface.api.token", "bench",
+        "embedding.provider", "local",
+        "summary.batch.max-items", String.valueOf(BATCH_SIZE),
+        "logging.level.root", "WARN"));
+    context = application.run();
+    summaryService = context.getBean(SummaryService.class);
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public void singleItemPath() {
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      summaryService.createSummary(nextRequest());
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public SummaryBatchResponse batchPath() {
+    List<SummaryRequest> items = new ArrayList<>(BATCH_SIZE);
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      items.add(nextRequest());
+    }
+    SummaryBatchResponse response = summaryService.createSummaries(items);
+    if (response.getFailed() != 0) {
+      throw new IllegalStateException(response.getFailed() + " batch items failed");
+    }
+    return response;
+  }
+
+  private SummaryRequest nextRequest() {
+    // 매번 다른 본문으로 캐시를 우회해 매 항목이 새 행으로 저장되게 한다
+    SummaryRequest request = new SummaryRequest();
+    request.setOriginalText("벤치마크 기사 본문 " + sequence.incrementAndGet());
+    return request;
+  }
+
+  @Configuration
+  static class FixedAiServiceConfig {
+
+    @Bean
+    @Primary
+    AIService fixedAiService() {
+      return new AIService() {
+        @Override
+        public SummaryResponse summarizeText(SummaryRequest request) {
+          return summarizeText(request, SummaryProgressListener.NONE);
+        }
+
+        @Override
+        public SummaryResponse summarizeText(SummaryRequest request, SummaryProgressListener listener) {
+          return SummaryResponse.builder().summaryText("요약 결과").build();
+        }
+
+        @Override
+        public SummaryResponse searchText(SummaryRequest request) {
+          return summarizeText(request, SummaryProgressListener.NONE);
+        }
+      };
+    }
+  }
+}
@@ -0,0 +1,70 @@
+package com.example.news.service.impl;
+
+import com.example.news.NewsApplication;
+import com.example.news.dto.SummaryRequest;
+import com.example.news.dto.SummaryResponse;
+import com.example.news.service.SummaryService;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 요약 생성 전체 경로 (정규화 → 캐시 미스 → 배치 요약 → 헤지 번역 → 저장 → 인덱스 갱신)
+ * 업스트림은 프로세스 내 스텁, DB는 내장 H2
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SummaryCreateBenchmark {
+
+  private static final String ARTICLE = "The central bank kept its benchmark interest rate unchanged on Thursday, "
+      + "citing easing inflation and slowing economic growth. Analysts said a cut could come next year. ";
+
+  private final AtomicLong sequence = new AtomicLong();
+  private ConfigurableApplicationContext context;
+  private SummaryService summaryService;
+
+  @Setup
+  public void setUp() {
+    SpringApplication application = new SpringApplication(NewsApplication.class, StubUpstreamConfig.class);
+    application.setDefaultProperties(Map.of(
+        "server.port", "0",
+        "spring.datasource.url", "jdbc:h2:mem:bench;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username", "sa",
+        "spring.jpa.hibernate.ddl-auto", "create-drop",
+        "ai.service.url", "http://localhost:0",
+        "ai.service.api-key", "bench",
+        "huggingface.api.token", "bench",
+        "embedding.provider", "local",
+        // 스텁은 지연이 없으므로 배치 대기도 없앤다
+        "huggingface.batch.linger", "PT0S",
+        "logging.level.root", "WARN"));
+    context = application.run();
+    summaryService = context.getBean(SummaryService.class);
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  @Threads(8)
+  public SummaryResponse createSummary() {
+    // 매번 다른 본문으로 캐시를 우회해 전체 경로를 태운다
+    SummaryRequest request = new SummaryRequest();
+    request.setOriginalText(ARTICLE + sequence.incrementAndGet());
+    return summaryService.createSummary(request);
+  }
+}
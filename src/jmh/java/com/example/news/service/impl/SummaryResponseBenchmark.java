@@ -0,0 +1,45 @@
+package com.example.news.service.impl;
+
+import com.example.news.dto.SummaryResponse;
+import com.example.news.entity.Summary;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 엔티티 → 응답 DTO 변환
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SummaryResponseBenchmark {
+
+  private Summary summary;
+  private String originalText;
+
+  @Setup
+  public void setUp() {
+    summary = Summary.builder()
+        .id(42L)
+        .summaryText("한국은행이 기준금리를 동결했다. 물가 상승률 둔화가 이유로 꼽혔다.")
+        .createdAt(LocalDateTime.now())
+        .build();
+    originalText = "한국은행은 이날 기준금리를 동결했다고 밝혔다. ".repeat(100);
+  }
+
+  @Benchmark
+  public SummaryResponse convertWithOriginal() {
+    return SummaryServiceImpl.convertToResponse(summary, originalText);
+  }
+
+  @Benchmark
+  public SummaryResponse convertWithoutOriginal() {
+    return SummaryServiceImpl.convertToResponse(summary, null);
+  }
+}
@@ -0,0 +1,119 @@
+package com.example.news.util;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * HNSW 검색 QPS (정확한 전수 비교 대비), recall@k는 셋업에서 계산해 출력
+ * 100만 벡터: ./gradlew jmh -PjmhIncludes=HnswIndex -PhnswVectors=1000000
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class HnswIndexBenchmark {
+
+  private static final int DIMENSION = 64;
+  private static final int CLUSTERS = 1000;
+  private static final int QUERIES = 200;
+  private static final int K = 10;
+  private static final double MIN_RECALL = 0.9;
+
+  @Param({"100000"})
+  private int vectors;
+
+  @Param({"128"})
+  private int efSearch;
+
+  private HnswIndex index;
+  private float[][] queries;
+  private int next;
+
+  @Setup
+  public void setUp() {
+    SplittableRandom random = new SplittableRandom(7);
+
+    // 실제 임베딩처럼 군집이 있는 분포 (균일 난수는 고차원에서 이웃 구조가 없음)
+    float[][] centroids = new float[CLUSTERS][];
+    for (int i = 0; i < CLUSTERS; i++) {
+      centroids[i] = randomUnitVector(random, null, 1.0f);
+    }
+
+    index = new HnswIndex(DIMENSION, 16, 100, 42L);
+    for (int i = 0; i < vectors; i++) {
+      index.add(i, randomUnitVector(random, centroids[random.nextInt(CLUSTERS)], 0.06f));
+    }
+
+    queries = new float[QUERIES][];
+    for (int i = 0; i < QUERIES; i++) {
+      queries[i] = randomUnitVector(random, centroids[random.nextInt(CLUSTERS)], 0.06f);
+    }
+
+    // recall이 떨어진 설정의 QPS는 의미가 없으므로 측정 전에 멈춘다
+    double recall = recall();
+    System.out.printf("%nrecall@%d (vectors=%d, efSearch=%d): %.4f%n", K, vectors, efSearch, recall);
+    if (recall < MIN_RECALL) {
+      throw new IllegalStateException("recall@" + K + " " + recall + " < " + MIN_RECALL);
+    }
+  }
+
+  @Benchmark
+  public List<HnswIndex.Result> approximateSearch() {
+    return index.search(nextQuery(), K, efSearch);
+  }
+
+  @Benchmark
+  public List<HnswIndex.Result> exactSearch() {
+    return index.exactSearch(nextQuery(), K);
+  }
+
+  private float[] nextQuery() {
+    float[] query = queries[next];
+    next = (next + 1) % QUERIES;
+    return query;
+  }
+
+  private double recall() {
+    int found = 0;
+    for (float[] query : queries) {
+      Set<Long> truth = new HashSet<>();
+      for (HnswIndex.Result result : index.exactSearch(query, K)) {
+        truth.add(result.externalId());
+      }
+      for (HnswIndex.Result result : index.search(query, K, efSearch)) {
+        if (truth.contains(result.externalId())) {
+          found++;
+        }
+      }
+    }
+    return (double) found / (QUERIES * K);
+  }
+
+  private static float[] randomUnitVector(SplittableRandom random, float[] center, float noise) {
+    float[] vector = new float[DIMENSION];
+    double norm = 0;
+    for (int i = 0; i < DIMENSION; i++) {
+      float value = (float) random.nextGaussian() * noise;
+      if (center != null) {
+        value += center[i];
+      }
+      vector[i] = value;
+      norm += value * value;
+    }
+    float scale = (float) (1 / Math.sqrt(norm));
+    for (int i = 0; i < DIMENSION; i++) {
+      vector[i] *= scale;
+    }
+    return vector;
+  }
+}
@@ -0,0 +1,63 @@
+package com.example.news.util;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 본문 정규화/해시(캐시 키), 언어 판별 및 청크 분할
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TextProcessingBenchmark {
+
+  // 짧은 기사 / 일반 기사 / 긴 기사 (문자 수)
+  @Param({"500", "5000", "50000"})
+  private int length;
+
+  private String text;
+
+  @Setup
+  public void setUp() {
+    String paragraph = "한국은행은 이날 기준금리를  동결했다고 밝혔다.  관계자는 물가 상승률이 둔화되고 있다고 설명했다. "
+        + "The government said it would expand support for exporters.\n\n";
+    StringBuilder builder = new StringBuilder(length + paragraph.length());
+    while (builder.length() < length) {
+      builder.append(paragraph);
+    }
+    text = builder.substring(0, length);
+  }
+
+  @Benchmark
+  public String normalize() {
+    return TextNormalizer.normalize(text);
+  }
+
+  @Benchmark
+  public String contentHash() {
+    return TextNormalizer.contentHash(text);
+  }
+
+  @Benchmark
+  public LanguageDetector.Language detectLanguage() {
+    return LanguageDetector.detect(text);
+  }
+
+  @Benchmark
+  public List<String> chunk() {
+    return TextChunker.split(text, 1000);
+  }
+
+  @Benchmark
+  public byte[] compressArticle() {
+    return ArticleCodec.encode(text);
+  }
+}
@@ -0,0 +1,74 @@
+package com.example.news.util;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 추출 요약 기사 1건당 지연 (단일 스레드 평균 시간 = 기사당 CPU 시간, gc 프로파일러로 할당량)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TextRankSummarizerBenchmark {
+
+  private static final String[] KOREAN = {
+      "한국은행은 이날 기준금리를 연 3.5%로 동결했다고 밝혔다.",
+      "관계자는 물가 상승률이 둔화되고 있지만 경기 하방 위험이 커졌다고 설명했다.",
+      "반도체 수출은 다섯 달 연속 증가세를 이어갔다.",
+      "정부는 수도권 주택 공급 확대 방안을 발표했다.",
+      "전문가들은 내년 상반기 금리 인하 가능성을 점쳤다.",
+      "남부 지방에는 집중 호우로 일부 도로가 통제됐다.",
+      "야당은 정부 예산안이 지나치게 긴축적이라고 비판했다.",
+      "배터리 업계는 북미 생산 설비 증설에 속도를 내고 있다.",
+      "소비자심리지수는 두 달 연속 개선됐다.",
+      "금융당국은 가계부채 관리 강화를 위해 대출 규제를 손보기로 했다."
+  };
+  private static final String[] ENGLISH = {
+      "The central bank kept its benchmark interest rate unchanged on Thursday.",
+      "Officials said inflation was easing but downside risks to growth had increased.",
+      "Semiconductor exports rose for the fifth consecutive month.",
+      "The government announced a plan to expand housing supply around the capital.",
+      "Analysts expect a rate cut in the first half of next year.",
+      "Heavy rain forced the closure of several roads in the south.",
+      "The opposition said the budget proposal was too tight.",
+      "Battery makers are accelerating capacity expansion in North America.",
+      "Consumer sentiment improved for a second straight month.",
+      "Regulators plan to tighten lending rules to curb household debt."
+  };
+
+  @Param({"ko", "en"})
+  private String language;
+
+  // 짧은 기사 / 일반 기사 / 긴 기사 (문자 수)
+  @Param({"1500", "6000", "30000"})
+  private int length;
+
+  private String text;
+
+  @Setup
+  public void setUp() {
+    String[] pool = "ko".equals(language) ? KOREAN : ENGLISH;
+    Random random = new Random(42);
+    StringBuilder builder = new StringBuilder(length + 200);
+    while (builder.length() < length) {
+      builder.append(pool[random.nextInt(pool.length)]).append(' ');
+      if (random.nextInt(5) == 0) {
+        builder.append('\n');
+      }
+    }
+    text = builder.toString();
+  }
+
+  @Benchmark
+  public String summarize() {
+    return TextRankSummarizer.summarize(text, 3);
+  }
+}
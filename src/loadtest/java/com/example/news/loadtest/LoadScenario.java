@@ -0,0 +1,55 @@
+package com.example.news.loadtest;
+
+import com.example.news.loadtest.UpstreamSimulator.Profile;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * 부하 테스트 시나리오별 업스트림 동작
+ */
+public enum LoadScenario {
+
+  // 정상: 요약 0.8s(p99 3s), 번역 0.3~0.4s
+  BASELINE("baseline", Map.of(
+      UpstreamSimulator.SUMMARIZER, new Profile(800, 3_000, 0, 0),
+      UpstreamSimulator.LIBRETRANSLATE, new Profile(300, 1_500, 0, 0),
+      UpstreamSimulator.MYMEMORY, new Profile(400, 2_000, 0, 0),
+      UpstreamSimulator.EMBEDDING, new Profile(50, 200, 0, 0))),
+
+  // 요약 모델 콜드 스타트: 20%가 503 "model is currently loading"
+  MODEL_LOADING("model-loading", Map.of(
+      UpstreamSimulator.SUMMARIZER, new Profile(800, 3_000, 0.2, 0),
+      UpstreamSimulator.LIBRETRANSLATE, new Profile(300, 1_500, 0, 0),
+      UpstreamSimulator.MYMEMORY, new Profile(400, 2_000, 0, 0),
+      UpstreamSimulator.EMBEDDING, new Profile(50, 200, 0, 0))),
+
+  // 불안정: 모든 업스트림 5% 500 오류, 1차 번역 긴 꼬리 지연(p99 8s)
+  FLAKY("flaky", Map.of(
+      UpstreamSimulator.SUMMARIZER, new Profile(1_000, 5_000, 0, 0.05),
+      UpstreamSimulator.LIBRETRANSLATE, new Profile(300, 8_000, 0, 0.05),
+      UpstreamSimulator.MYMEMORY, new Profile(400, 2_000, 0, 0.05),
+      UpstreamSimulator.EMBEDDING, new Profile(50, 200, 0, 0.05)));
+
+  private final String id;
+  private final Map<String, Profile> profiles;
+
+  LoadScenario(String id, Map<String, Profile> profiles) {
+    this.id = id;
+    this.profiles = profiles;
+  }
+
+  public String id() {
+    return id;
+  }
+
+  public Map<String, Profile> profiles() {
+    return profiles;
+  }
+
+  public static LoadScenario fromName(String name) {
+    return Arrays.stream(values())
+        .filter(scenario -> scenario.id.equalsIgnoreCase(name) || scenario.name().equalsIgnoreCase(name))
+        .findFirst()
+        .orElseThrow(() -> new IllegalArgumentException("알 수 없는 시나리오: " + name));
+  }
+}
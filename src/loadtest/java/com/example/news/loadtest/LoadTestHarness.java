@@ -0,0 +1,376 @@
+package com.example.news.loadtest;
+
+import com.example.news.NewsApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.Writer;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 엔드투엔드 부하 테스트: 업스트림 시뮬레이터 + 내장 H2로 애플리케이션을 띄우고
+ * REST 엔드포인트에 폐쇄 루프(고정 동시 사용자) 부하를 건 뒤 엔드포인트별 처리량과 p50/p99를 보고한다.
+ *
+ * ./gradlew loadHarness -Pscenario=all -Pduration=PT60S -Pconcurrency=32
+ * 결과: build/results/loadtest/<scenario>.csv, summary.json
+ *
+ * 가상 스레드/플랫폼 스레드 비교: ./gradlew loadHarness -PjavaVersion=21 -Pthreads=both
+ * (spring.threads.virtual.enabled 를 켜고 끈 애플리케이션에 같은 부하를 걸어 <scenario>-virtual/-platform 으로 기록)
+ */
+public class LoadTestHarness {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+  private static final String[] SENTENCES = {
+      "The central bank kept its benchmark interest rate unchanged on Thursday.",
+      "Officials cited easing inflation and slowing economic growth.",
+      "Semiconductor exports rose for the fifth consecutive month.",
+      "The government announced a new housing supply plan for the capital region.",
+      "Analysts expect a rate cut early next year.",
+      "Heavy rain caused flooding in several southern cities.",
+      "The opposition party criticized the budget proposal.",
+      "Battery makers are expanding production in North America.",
+      "The national team advanced to the quarterfinals.",
+      "Consumer sentiment improved for the second month in a row."
+  };
+  private static final String[] KOREAN_SENTENCES = {
+      "한국은행은 이날 기준금리를 동결했다고 밝혔다.",
+      "관계자는 물가 상승률이 둔화되고 있다고 설명했다.",
+      "반도체 수출은 다섯 달 연속 증가했다.",
+      "정부는 수도권 주택 공급 확대 방안을 발표했다.",
+      "전문가들은 내년 초 금리 인하 가능성을 점쳤다.",
+      "남부 지방에는 집중 호우로 피해가 잇따랐다."
+  };
+  private static final String[] QUERIES = {"금리", "반도체 수출", "주택 공급", "홍수", "배터리", "예산"};
+
+  private final Duration warmup;
+  private final Duration duration;
+  private final int concurrency;
+  private final double repeatRatio;
+  private final Path resultsDir;
+  // spring.threads.virtual.enabled 값 (null이면 애플리케이션 기본값)
+  private final Boolean virtualThreads;
+  private final HttpClient httpClient = HttpClient.newBuilder()
+      .connectTimeout(Duration.ofSeconds(5))
+      .build();
+
+  public LoadTestHarness(Duration warmup, Duration duration, int concurrency, double repeatRatio, Path resultsDir) {
+    this(warmup, duration, concurrency, repeatRatio, resultsDir, null);
+  }
+
+  public LoadTestHarness(Duration warmup, Duration duration, int concurrency, double repeatRatio, Path resultsDir,
+      Boolean virtualThreads) {
+    this.warmup = warmup;
+    this.duration = duration;
+    this.concurrency = concurrency;
+    this.repeatRatio = repeatRatio;
+    this.resultsDir = resultsDir;
+    this.virtualThreads = virtualThreads;
+  }
+
+  public static void main(String[] args) throws Exception {
+    Map<String, String> options = parseArgs(args);
+    String requested = options.getOrDefault("scenario", "all");
+    List<LoadScenario> scenarios = "all".equalsIgnoreCase(requested)
+        ? Arrays.asList(LoadScenario.values())
+        : List.of(LoadScenario.fromName(requested));
+
+    Map<String, List<EndpointStats>> report = new LinkedHashMap<>();
+    LoadTestHarness harness = null;
+    for (Boolean virtualThreads : threadModes(options.getOrDefault("threads", "default"))) {
+      harness = new LoadTestHarness(
+          Duration.parse(options.getOrDefault("warmup", "PT10S")),
+          Duration.parse(options.getOrDefault("duration", "PT60S")),
+          Integer.parseInt(options.getOrDefault("concurrency", "32")),
+          Double.parseDouble(options.getOrDefault("repeat-ratio", "0.2")),
+          Path.of(options.getOrDefault("results-dir", "build/results/loadtest")),
+          virtualThreads);
+      for (LoadScenario scenario : scenarios) {
+        report.put(harness.resultId(scenario), harness.run(scenario));
+      }
+    }
+    harness.writeSummary(report);
+    System.exit(0);
+  }
+
+  // default: 애플리케이션 설정 그대로, virtual/platform: 한쪽만, both: 같은 시나리오를 두 모드로 한 번씩
+  static List<Boolean> threadModes(String threads) {
+    return switch (threads.toLowerCase()) {
+      case "default" -> Arrays.asList((Boolean) null);
+      case "virtual" -> List.of(true);
+      case "platform" -> List.of(false);
+      case "both" -> List.of(false, true);
+      default -> throw new IllegalArgumentException("알 수 없는 스레드 모드: " + threads);
+    };
+  }
+
+  private String resultId(LoadScenario scenario) {
+    if (virtualThreads == null) {
+      return scenario.id();
+    }
+    return scenario.id() + (virtualThreads ? "-virtual" : "-platform");
+  }
+
+  /**
+   * 시나리오 하나: 시뮬레이터와 애플리케이션을 새로 띄워 이전 시나리오의 캐시/서킷 상태가 섞이지 않게 한다.
+   */
+  public List<EndpointStats> run(LoadScenario scenario) throws Exception {
+    String id = resultId(scenario);
+    try (UpstreamSimulator simulator = new UpstreamSimulator(0, scenario.profiles(), 42L);
+        ConfigurableApplicationContext context = startApplication(scenario, simulator)) {
+      int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+      String baseUrl = "http://127.0.0.1:" + port + "/api/v1/summaries";
+
+      System.out.printf("%n[%s] warmup %s, measure %s, concurrency %d%n", id, warmup, duration, concurrency);
+      drive(baseUrl, warmup, new HashMap<>());
+      Map<String, Recorder> recorders = new TreeMap<>();
+      for (Endpoint endpoint : Endpoint.values()) {
+        recorders.put(endpoint.label, new Recorder());
+      }
+      drive(baseUrl, duration, recorders);
+
+      List<EndpointStats> stats = new ArrayList<>();
+      for (Map.Entry<String, Recorder> entry : recorders.entrySet()) {
+        stats.add(entry.getValue().stats(entry.getKey(), duration));
+      }
+      print(id, stats, simulator.requestCount());
+      writeCsv(id, stats);
+      return stats;
+    }
+  }
+
+  private ConfigurableApplicationContext startApplication(LoadScenario scenario, UpstreamSimulator simulator) {
+    Map<String, Object> properties = new HashMap<>(simulator.applicationProperties());
+    properties.put("server.port", "0");
+    properties.put("spring.datasource.url", "jdbc:h2:mem:loadtest-" + resultId(scenario) + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+    properties.put("spring.datasource.username", "sa");
+    properties.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+    properties.put("ai.service.url", simulator.baseUrl());
+    properties.put("ai.service.api-key", "loadtest");
+    properties.put("huggingface.api.token", "loadtest");
+    properties.put("logging.level.root", "WARN");
+    // 모든 부하가 한 IP(비회원)에서 나오므로 입장 제어는 끄고 파이프라인 자체를 측정
+    properties.put("admission.enabled", "false");
+    if (virtualThreads != null) {
+      properties.put("spring.threads.virtual.enabled", virtualThreads.toString());
+    }
+
+    SpringApplication application = new SpringApplication(NewsApplication.class);
+    application.setDefaultProperties(properties);
+    return application.run();
+  }
+
+  /**
+   * 고정 동시 사용자 수만큼 스레드가 응답을 받자마자 다음 요청을 보낸다 (폐쇄 루프)
+   * 엔드포인트 구성: 생성 70%, 키워드 검색 20%, 의미 검색 10%
+   */
+  private void drive(String baseUrl, Duration window, Map<String, Recorder> recorders) throws InterruptedException {
+    long deadline = System.nanoTime() + window.toNanos();
+    ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+    CountDownLatch done = new CountDownLatch(concurrency);
+    for (int worker = 0; worker < concurrency; worker++) {
+      SplittableRandom random = new SplittableRandom(1_000L + worker);
+      workers.execute(() -> {
+        try {
+          while (System.nanoTime() < deadline) {
+            Endpoint endpoint = Endpoint.pick(random.nextDouble());
+            HttpRequest request = endpoint.request(baseUrl, body(endpoint, random));
+            long start = System.nanoTime();
+            int status;
+            try {
+              status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            } catch (IOException e) {
+              status = -1;
+            }
+            Recorder recorder = recorders.get(endpoint.label);
+            if (recorder != null) {
+              recorder.record(System.nanoTime() - start, status);
+            }
+          }
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        } finally {
+          done.countDown();
+        }
+      });
+    }
+    // 진행 중 요청이 업스트림 타임아웃까지 걸릴 수 있으므로 여유를 둔다
+    done.await(window.toSeconds() + 120, TimeUnit.SECONDS);
+    workers.shutdownNow();
+  }
+
+  private String body(Endpoint endpoint, SplittableRandom random) {
+    try {
+      return switch (endpoint) {
+        case CREATE -> OBJECT_MAPPER.writeValueAsString(Map.of("originalText", article(random)));
+        case SEARCH -> OBJECT_MAPPER.writeValueAsString(
+            Map.of("originalText", QUERIES[random.nextInt(QUERIES.length)], "page", 0, "size", 10));
+        case SEMANTIC_SEARCH -> OBJECT_MAPPER.writeValueAsString(
+            Map.of("query", QUERIES[random.nextInt(QUERIES.length)], "maxResults", 10));
+      };
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  // repeatRatio 비율은 소수의 고정 본문을 반복해 캐시 적중 경로도 함께 측정한다
+  // 나머지는 한국어/영어 기사를 반씩 섞는다 (언어별 요약 경로)
+  private String article(SplittableRandom random) {
+    if (random.nextDouble() < repeatRatio) {
+      return SENTENCES[random.nextInt(3)] + " " + SENTENCES[3 + random.nextInt(3)];
+    }
+    String[] pool = random.nextBoolean() ? KOREAN_SENTENCES : SENTENCES;
+    StringBuilder text = new StringBuilder();
+    int sentences = 3 + random.nextInt(6);
+    for (int i = 0; i < sentences; i++) {
+      text.append(pool[random.nextInt(pool.length)]).append(' ');
+    }
+    return text.append("Ref ").append(random.nextLong()).append('.').toString();
+  }
+
+  private static void print(String id, List<EndpointStats> stats, long upstreamRequests) {
+    System.out.printf("[%s] upstream requests: %d%n", id, upstreamRequests);
+    System.out.printf("%-16s %9s %10s %9s %9s %9s %8s  %s%n",
+        "endpoint", "requests", "req/s", "p50(ms)", "p99(ms)", "max(ms)", "errors", "status");
+    for (EndpointStats stat : stats) {
+      System.out.printf("%-16s %9d %10.1f %9.1f %9.1f %9.1f %8d  %s%n", stat.endpoint(), stat.requests(),
+          stat.throughput(), stat.p50Millis(), stat.p99Millis(), stat.maxMillis(), stat.errors(),
+          stat.statusCounts());
+    }
+  }
+
+  private void writeCsv(String id, List<EndpointStats> stats) throws IOException {
+    Files.createDirectories(resultsDir);
+    try (Writer writer = Files.newBufferedWriter(resultsDir.resolve(id + ".csv"), StandardCharsets.UTF_8)) {
+      writer.write("endpoint,requests,throughput,p50_ms,p99_ms,max_ms,errors\n");
+      for (EndpointStats stat : stats) {
+        writer.write(String.format("%s,%d,%.2f,%.2f,%.2f,%.2f,%d%n", stat.endpoint(), stat.requests(),
+            stat.throughput(), stat.p50Millis(), stat.p99Millis(), stat.maxMillis(), stat.errors()));
+      }
+    }
+  }
+
+  private void writeSummary(Map<String, List<EndpointStats>> report) throws IOException {
+    Files.createDirectories(resultsDir);
+    Map<String, Object> summary = new LinkedHashMap<>();
+    summary.put("warmup", warmup.toString());
+    summary.put("duration", duration.toString());
+    summary.put("concurrency", concurrency);
+    summary.put("repeatRatio", repeatRatio);
+    summary.put("scenarios", report);
+    OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValue(resultsDir.resolve("summary.json").toFile(), summary);
+    System.out.printf("%nresults written to %s%n", resultsDir.toAbsolutePath());
+  }
+
+  static Map<String, String> parseArgs(String[] args) {
+    Map<String, String> options = new HashMap<>();
+    for (String arg : args) {
+      if (arg.startsWith("--") && arg.contains("=")) {
+        int separator = arg.indexOf('=');
+        options.put(arg.substring(2, separator), arg.substring(separator + 1));
+      }
+    }
+    return options;
+  }
+
+  private enum Endpoint {
+    CREATE("create", "", 0.7),
+    SEARCH("search", "/search", 0.9),
+    SEMANTIC_SEARCH("search/semantic", "/search/semantic", 1.0);
+
+    private final String label;
+    private final String path;
+    // 누적 선택 확률 상한
+    private final double cumulativeWeight;
+
+    Endpoint(String label, String path, double cumulativeWeight) {
+      this.label = label;
+      this.path = path;
+      this.cumulativeWeight = cumulativeWeight;
+    }
+
+    static Endpoint pick(double draw) {
+      for (Endpoint endpoint : values()) {
+        if (draw < endpoint.cumulativeWeight) {
+          return endpoint;
+        }
+      }
+      return SEMANTIC_SEARCH;
+    }
+
+    HttpRequest request(String baseUrl, String body) {
+      return HttpRequest.newBuilder(URI.create(baseUrl + path))
+          .timeout(Duration.ofSeconds(60))
+          .header("Content-Type", "application/json")
+          .POST(HttpRequest.BodyPublishers.ofString(body))
+          .build();
+    }
+  }
+
+  /**
+   * 엔드포인트 하나의 지연 표본과 상태 코드 집계
+   */
+  private static final class Recorder {
+
+    private long[] latencies = new long[1 << 12];
+    private int count;
+    private final Map<Integer, Integer> statusCounts = new TreeMap<>();
+
+    synchronized void record(long latencyNanos, int status) {
+      if (count == latencies.length) {
+        latencies = Arrays.copyOf(latencies, count * 2);
+      }
+      latencies[count++] = latencyNanos;
+      statusCounts.merge(status, 1, Integer::sum);
+    }
+
+    synchronized EndpointStats stats(String endpoint, Duration window) {
+      long[] sorted = Arrays.copyOf(latencies, count);
+      Arrays.sort(sorted);
+      int errors = 0;
+      for (Map.Entry<Integer, Integer> entry : statusCounts.entrySet()) {
+        if (entry.getKey() < 200 || entry.getKey() >= 300) {
+          errors += entry.getValue();
+        }
+      }
+      return new EndpointStats(endpoint, count, count / (window.toNanos() / 1e9),
+          percentileMillis(sorted, 0.50), percentileMillis(sorted, 0.99),
+          count == 0 ? 0 : sorted[count - 1] / 1e6, errors, new TreeMap<>(statusCounts));
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+      if (sorted.length == 0) {
+        return 0;
+      }
+      int index = (int) Math.ceil(percentile * sorted.length) - 1;
+      return sorted[Math.max(0, index)] / 1e6;
+    }
+  }
+
+  /**
+   * 엔드포인트별 결과 (상태 코드 -1은 연결/타임아웃 오류)
+   */
+  public record EndpointStats(String endpoint, int requests, double throughput, double p50Millis,
+                              double p99Millis, double maxMillis, int errors, Map<Integer, Integer> statusCounts) {
+  }
+}
@@ -0,0 +1,216 @@
+package com.example.news.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * HuggingFace / LibreTranslate / MyMemory 요청·응답 형식을 흉내 내는 로컬 업스트림 스텁
+ * 업스트림별로 지연 분포(로그정규: 중앙값/p99), 503 모델 로딩 비율, 500 오류 비율을 주입한다.
+ *
+ * 단독 실행: ./gradlew upstreamSimulator -Pport=9000 -Pscenario=model-loading
+ * 애플리케이션 설정:
+ *   huggingface.summarize.url=http://localhost:9000/models/facebook/bart-large-cnn
+ *   huggingface.summarize.korean-url=http://localhost:9000/models/gogamza/kobart-summarization
+ *   translation.libretranslate.url=http://localhost:9000/translate
+ *   translation.mymemory.url=http://localhost:9000/get
+ */
+public class UpstreamSimulator implements AutoCloseable {
+
+  public static final String SUMMARIZER = "summarizer";
+  public static final String LIBRETRANSLATE = "libretranslate";
+  public static final String MYMEMORY = "mymemory";
+  public static final String EMBEDDING = "embedding";
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+  private static final int EMBEDDING_DIMENSION = 384;
+  // 표준정규분포 99 백분위수
+  private static final double Z_99 = 2.326;
+
+  private final HttpServer server;
+  private final ExecutorService executor;
+  private final Map<String, Profile> profiles;
+  private final SplittableRandom seedSource;
+  private final AtomicLong requests = new AtomicLong();
+
+  /**
+   * 업스트림 하나의 동작
+   *
+   * @param medianMillis 지연 중앙값
+   * @param p99Millis    지연 p99 (중앙값과 같으면 고정 지연)
+   * @param loadingRate  503 "model is currently loading" 응답 비율 (요약 업스트림만 해당)
+   * @param errorRate    500 응답 비율
+   */
+  public record Profile(long medianMillis, long p99Millis, double loadingRate, double errorRate) {
+  }
+
+  public UpstreamSimulator(int port, Map<String, Profile> profiles, long seed) throws IOException {
+    this.profiles = profiles;
+    this.seedSource = new SplittableRandom(seed);
+    this.executor = Executors.newCachedThreadPool(runnable -> {
+      Thread thread = new Thread(runnable, "upstream-simulator");
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 1024);
+    server.setExecutor(executor);
+    server.createContext("/models/", exchange -> handle(exchange, SUMMARIZER));
+    server.createContext("/pipeline/feature-extraction/", exchange -> handle(exchange, EMBEDDING));
+    server.createContext("/translate", exchange -> handle(exchange, LIBRETRANSLATE));
+    server.createContext("/get", exchange -> handle(exchange, MYMEMORY));
+    server.start();
+  }
+
+  public String baseUrl() {
+    return "http://127.0.0.1:" + server.getAddress().getPort();
+  }
+
+  /**
+   * 애플리케이션이 이 스텁을 보도록 하는 설정값
+   */
+  public Map<String, Object> applicationProperties() {
+    return Map.of(
+        "huggingface.summarize.url", baseUrl() + "/models/facebook/bart-large-cnn",
+        "huggingface.summarize.korean-url", baseUrl() + "/models/gogamza/kobart-summarization",
+        "embedding.huggingface.url", baseUrl() + "/pipeline/feature-extraction/sentence-transformers/stub",
+        "translation.libretranslate.url", baseUrl() + "/translate",
+        "translation.mymemory.url", baseUrl() + "/get");
+  }
+
+  public long requestCount() {
+    return requests.get();
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+    executor.shutdownNow();
+  }
+
+  private void handle(HttpExchange exchange, String upstream) throws IOException {
+    requests.incrementAndGet();
+    try (exchange) {
+      byte[] requestBytes = exchange.getRequestBody().readAllBytes();
+      Profile profile = profiles.getOrDefault(upstream, new Profile(0, 0, 0, 0));
+      SplittableRandom random;
+      synchronized (seedSource) {
+        random = seedSource.split();
+      }
+
+      if (SUMMARIZER.equals(upstream) && random.nextDouble() < profile.loadingRate()) {
+        // HuggingFace Inference API의 콜드 스타트 응답
+        String model = exchange.getRequestURI().getPath().substring("/models/".length());
+        respond(exchange, 503, "{\"error\":\"Model " + model + " is currently loading\","
+            + "\"estimated_time\":20.0}");
+        return;
+      }
+
+      JsonNode request = requestBytes.length > 0 ? OBJECT_MAPPER.readTree(requestBytes) : null;
+      int items = SUMMARIZER.equals(upstream) && request != null && request.path("inputs").isArray()
+          ? request.get("inputs").size() : 1;
+      sleep(latencyMillis(profile, random, items));
+
+      if (random.nextDouble() < profile.errorRate()) {
+        respond(exchange, 500, "{\"error\":\"simulated upstream failure\"}");
+        return;
+      }
+
+      switch (upstream) {
+        case SUMMARIZER -> respond(exchange, 200, summaries(items, exchange.getRequestURI().getPath().contains("kobart")));
+        case EMBEDDING -> respond(exchange, 200, embedding(request));
+        case LIBRETRANSLATE -> respond(exchange, 200, OBJECT_MAPPER.writeValueAsString(
+            Map.of("translatedText", "[ko] " + request.path("q").asText())));
+        default -> respond(exchange, 200, myMemory(exchange.getRequestURI().getRawQuery()));
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  // 로그정규 지연, 배치 요약은 항목이 늘수록 조금씩 길어진다
+  private static long latencyMillis(Profile profile, SplittableRandom random, int items) {
+    if (profile.medianMillis() <= 0) {
+      return 0;
+    }
+    double sigma = profile.p99Millis() > profile.medianMillis()
+        ? Math.log((double) profile.p99Millis() / profile.medianMillis()) / Z_99 : 0;
+    double latency = profile.medianMillis() * Math.exp(sigma * random.nextGaussian());
+    return (long) (latency * (1 + 0.1 * (items - 1)));
+  }
+
+  private static String summaries(int items, boolean korean) {
+    ArrayNode root = OBJECT_MAPPER.createArrayNode();
+    for (int i = 0; i < items; i++) {
+      ObjectNode summary = OBJECT_MAPPER.createObjectNode();
+      summary.put("summary_text", korean ? "한국은행이 물가 둔화로 기준금리를 동결했다."
+          : "The central bank kept rates unchanged as inflation eased.");
+      root.addArray().add(summary);
+    }
+    return root.toString();
+  }
+
+  // 같은 입력이면 같은 벡터 (의미 검색 결과가 실행마다 달라지지 않도록)
+  private static String embedding(JsonNode request) {
+    SplittableRandom random = new SplittableRandom(request == null ? 0 : request.path("inputs").asText().hashCode());
+    ArrayNode vector = OBJECT_MAPPER.createArrayNode();
+    for (int i = 0; i < EMBEDDING_DIMENSION; i++) {
+      vector.add(random.nextGaussian());
+    }
+    return vector.toString();
+  }
+
+  private static String myMemory(String rawQuery) throws IOException {
+    String text = "";
+    if (rawQuery != null) {
+      for (String pair : rawQuery.split("&")) {
+        if (pair.startsWith("q=")) {
+          text = URLDecoder.decode(pair.substring(2), StandardCharsets.UTF_8);
+        }
+      }
+    }
+    ObjectNode root = OBJECT_MAPPER.createObjectNode();
+    root.putObject("responseData").put("translatedText", "[ko] " + text);
+    root.put("responseStatus", 200);
+    return root.toString();
+  }
+
+  private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+    byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().set("Content-Type", "application/json");
+    exchange.sendResponseHeaders(status, bytes.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(bytes);
+    }
+  }
+
+  private static void sleep(long millis) throws InterruptedException {
+    if (millis > 0) {
+      TimeUnit.MILLISECONDS.sleep(millis);
+    }
+  }
+
+  public static void main(String[] args) throws Exception {
+    Map<String, String> options = LoadTestHarness.parseArgs(args);
+    LoadScenario scenario = LoadScenario.fromName(options.getOrDefault("scenario", "baseline"));
+    int port = Integer.parseInt(options.getOrDefault("port", "9000"));
+    UpstreamSimulator simulator = new UpstreamSimulator(port, scenario.profiles(), 42L);
+    System.out.printf("upstream simulator (%s) listening on %s%n", scenario.id(), simulator.baseUrl());
+    simulator.applicationProperties().forEach((key, value) -> System.out.printf("  %s=%s%n", key, value));
+    Runtime.getRuntime().addShutdownHook(new Thread(simulator::close));
+    Thread.currentThread().join();
+  }
+}
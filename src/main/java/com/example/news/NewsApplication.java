@@ -2,8 +2,10 @@ package com.example.news;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.PropertySource;
 
 @SpringBootApplication
+@PropertySource("classpath:news-defaults.properties")
 public class NewsApplication {
 
   public static void main(String[] args) {
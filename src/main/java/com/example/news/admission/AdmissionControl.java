@@ -0,0 +1,205 @@
+package com.example.news.admission;
+
+import com.example.news.config.AdmissionProperties;
+import com.example.news.util.StripedTokenBuckets;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요약 파이프라인 입장 제어
+ * 1) 동시 실행 한도: 전체 maxConcurrent 예산을 모든 레인이 공유하되, 레인별로 예산의 일정 비율까지만 차지할 수 있다
+ *    회원 대화형 외 레인은 합쳐서 (maxConcurrent - reserved) 까지만 점유하므로,
+ *    비회원/배치 요청이 몰려도 회원 대화형 요청 몫(reserved)은 항상 남는다
+ * 2) 속도 제한: 회원은 사용자 이름, 비회원은 IP 별 토큰 버킷 (배치 요청은 batchCost 만큼 차감)
+ * 두 검사 모두 CAS 몇 번으로 끝나므로, 거절은 요청 본문을 읽거나 AI 파이프라인에 닿기 전에 이뤄진다.
+ * 일괄 요약은 항목 수를 안 뒤 BatchAdmission으로 batchCost를 넘는 항목의 토큰과 병렬 실행분 슬롯을 더 받는다.
+ */
+@Component
+public class AdmissionControl {
+
+  private final boolean enabled;
+  // 배치 요청 차감 토큰 수 (버킷 용량을 넘지 않도록 등급별로 제한)
+  private final int memberBatchCost;
+  private final int guestBatchCost;
+  private final int maxConcurrent;
+  // 회원 대화형 전용 슬롯 수
+  private final int reserved;
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final Map<AdmissionLane, Integer> laneLimits = new EnumMap<>(AdmissionLane.class);
+  private final Map<AdmissionLane, AtomicInteger> laneInFlight = new EnumMap<>(AdmissionLane.class);
+  private final StripedTokenBuckets memberBuckets;
+  private final StripedTokenBuckets guestBuckets;
+  private final Map<AdmissionLane, Map<Result, Counter>> decisions = new EnumMap<>(AdmissionLane.class);
+
+  public enum Result {
+    ADMITTED,
+    // 사용자/IP 토큰 버킷 소진
+    RATE_LIMITED,
+    // 레인 또는 전체 동시 실행 한도 초과
+    OVERLOADED;
+
+    String tag() {
+      return name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+  }
+
+  /**
+   * @param retryAfterMillis 거절 시 재시도까지 권장 대기 시간
+   */
+  public record Decision(Result result, long retryAfterMillis) {
+
+    private static final Decision ADMIT = new Decision(Result.ADMITTED, 0);
+
+    public boolean admitted() {
+      return result == Result.ADMITTED;
+    }
+  }
+
+  public AdmissionControl(AdmissionProperties properties, MeterRegistry meterRegistry) {
+    this.enabled = properties.isEnabled();
+    this.memberBatchCost = Math.min(properties.getBatchCost(), properties.getMember().getBurst());
+    this.guestBatchCost = Math.min(properties.getBatchCost(), properties.getGuest().getBurst());
+    this.maxConcurrent = properties.getMaxConcurrent();
+    this.reserved = (int) Math.ceil(maxConcurrent * properties.getMemberInteractiveReserve());
+    if (maxConcurrent < 1 || reserved < 0 || reserved >= maxConcurrent) {
+      throw new IllegalArgumentException(
+          "admission.member-interactive-reserve는 0 이상이고 max-concurrent 전체보다 작아야 합니다.");
+    }
+    this.memberBuckets = buckets(properties.getStripes(), properties.getMember());
+    this.guestBuckets = buckets(properties.getStripes(), properties.getGuest());
+
+    AdmissionProperties.Lanes lanes = properties.getLanes();
+    laneLimits.put(AdmissionLane.MEMBER_INTERACTIVE, share(lanes.getMemberInteractive()));
+    laneLimits.put(AdmissionLane.MEMBER_BATCH, share(lanes.getMemberBatch()));
+    laneLimits.put(AdmissionLane.GUEST_INTERACTIVE, share(lanes.getGuestInteractive()));
+    laneLimits.put(AdmissionLane.GUEST_BATCH, share(lanes.getGuestBatch()));
+
+    for (AdmissionLane lane : AdmissionLane.values()) {
+      AtomicInteger count = new AtomicInteger();
+      laneInFlight.put(lane, count);
+      Gauge.builder("admission.in.flight", count, AtomicInteger::get)
+          .description("레인별 실행 중인 요약 요청 수")
+          .tag("lane", lane.tag())
+          .register(meterRegistry);
+      Map<Result, Counter> counters = new EnumMap<>(Result.class);
+      for (Result result : Result.values()) {
+        counters.put(result, Counter.builder("admission.decisions")
+            .description("요약 요청 입장 제어 결과 (admitted, rate-limited=토큰 버킷 소진, overloaded=동시 실행 한도 초과)")
+            .tag("lane", lane.tag())
+            .tag("result", result.tag())
+            .register(meterRegistry));
+      }
+      decisions.put(lane, counters);
+    }
+  }
+
+  /**
+   * 입장 판정
+   * @param holdSlot true면 허용 시 동시 실행 슬롯을 점유한다 (반드시 release 호출)
+   */
+  public Decision tryAdmit(AdmissionLane lane, String key, boolean holdSlot) {
+    if (!enabled) {
+      return Decision.ADMIT;
+    }
+    if (holdSlot && !acquireSlot(lane)) {
+      return record(lane, new Decision(Result.OVERLOADED, 1000));
+    }
+    long waitMillis = lane.isMember()
+        ? memberBuckets.tryAcquire(key, lane.isBatch() ? memberBatchCost : 1)
+        : guestBuckets.tryAcquire(key, lane.isBatch() ? guestBatchCost : 1);
+    if (waitMillis > 0) {
+      if (holdSlot) {
+        release(lane);
+      }
+      return record(lane, new Decision(Result.RATE_LIMITED, waitMillis));
+    }
+    return record(lane, Decision.ADMIT);
+  }
+
+  public void release(AdmissionLane lane) {
+    release(lane, 1);
+  }
+
+  public void release(AdmissionLane lane, int slots) {
+    if (!enabled) {
+      return;
+    }
+    laneInFlight.get(lane).addAndGet(-slots);
+    inFlight.addAndGet(-slots);
+  }
+
+  /**
+   * 배치 항목 토큰 차감: 입장 때 낸 batchCost만큼은 지불한 것으로 보고 나머지 항목은 1토큰씩, 버킷이 비면 멈춘다
+   * @return 허용된 항목 수 (앞에서부터)
+   */
+  int acquireBatchItems(AdmissionLane lane, String key, int items) {
+    if (!enabled) {
+      return items;
+    }
+    StripedTokenBuckets buckets = lane.isMember() ? memberBuckets : guestBuckets;
+    int admitted = Math.min(items, lane.isMember() ? memberBatchCost : guestBatchCost);
+    while (admitted < items && buckets.tryAcquire(key, 1) == 0) {
+      admitted++;
+    }
+    return admitted;
+  }
+
+  /**
+   * 이미 슬롯을 점유한 요청의 추가 슬롯 (레인/전체 한도 안에서 가능한 만큼, 반드시 release(lane, 반환값) 호출)
+   */
+  int acquireExtraSlots(AdmissionLane lane, int wanted) {
+    if (!enabled) {
+      return 0;
+    }
+    int acquired = 0;
+    while (acquired < wanted && acquireSlot(lane)) {
+      acquired++;
+    }
+    return acquired;
+  }
+
+  // 레인 슬롯 → 전체 슬롯 순서로 점유, 전체가 차 있으면 레인 슬롯 반납
+  // 회원 대화형 외 레인은 예약분을 뺀 전체 한도까지만 점유
+  private boolean acquireSlot(AdmissionLane lane) {
+    if (!tryIncrement(laneInFlight.get(lane), laneLimits.get(lane))) {
+      return false;
+    }
+    int globalLimit = lane == AdmissionLane.MEMBER_INTERACTIVE ? maxConcurrent : maxConcurrent - reserved;
+    if (!tryIncrement(inFlight, globalLimit)) {
+      laneInFlight.get(lane).decrementAndGet();
+      return false;
+    }
+    return true;
+  }
+
+  private static boolean tryIncrement(AtomicInteger counter, int limit) {
+    while (true) {
+      int current = counter.get();
+      if (current >= limit) {
+        return false;
+      }
+      if (counter.compareAndSet(current, current + 1)) {
+        return true;
+      }
+    }
+  }
+
+  private Decision record(AdmissionLane lane, Decision decision) {
+    decisions.get(lane).get(decision.result()).increment();
+    return decision;
+  }
+
+  private int share(double ratio) {
+    return Math.max(1, (int) Math.ceil(maxConcurrent * ratio));
+  }
+
+  private static StripedTokenBuckets buckets(int stripes, AdmissionProperties.Tier tier) {
+    return new StripedTokenBuckets(stripes, tier.getBurst(), tier.getRequestsPerMinute() / 60.0);
+  }
+}
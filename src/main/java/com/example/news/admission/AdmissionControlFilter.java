@@ -0,0 +1,165 @@
+package com.example.news.admission;
+
+import com.example.news.exception.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 요약 생성 요청(POST /api/v1/summaries, /batch, /stream, /jobs)에 입장 제어 적용
+ * 인증 이후에 실행되어 회원 여부로 레인을 고르고, 거절 시 본문을 읽기 전에 429 + Retry-After로 응답한다.
+ * - 동기 요청(/, /batch)과 SSE(/stream)는 응답이 끝날 때까지 동시 실행 슬롯을 점유한다
+ * - /batch 는 여기서 batchCost 토큰 + 슬롯 1개로 먼저 거르고, 항목별 토큰/추가 슬롯은 요청 속성의
+ *   BatchAdmission으로 서비스가 받는다 (추가 슬롯도 응답이 끝날 때 함께 반납)
+ * - /jobs 는 즉시 202를 돌려주고 작업 대기열이 따로 제한하므로 토큰 버킷만 적용한다
+ */
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+  private static final String SUMMARIES_PATH = "/api/v1/summaries";
+
+  private final AdmissionControl admissionControl;
+  private final ObjectMapper objectMapper;
+  private final boolean trustForwardedFor;
+
+  public AdmissionControlFilter(AdmissionControl admissionControl, ObjectMapper objectMapper,
+      boolean trustForwardedFor) {
+    this.admissionControl = admissionControl;
+    this.objectMapper = objectMapper;
+    this.trustForwardedFor = trustForwardedFor;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !"POST".equals(request.getMethod()) || endpoint(request) == null;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    String endpoint = endpoint(request);
+    boolean batch = "/batch".equals(endpoint) || "/jobs".equals(endpoint);
+    boolean holdSlot = !"/jobs".equals(endpoint);
+
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    boolean member = authentication != null && authentication.isAuthenticated()
+        && !(authentication instanceof AnonymousAuthenticationToken);
+    AdmissionLane lane = AdmissionLane.of(member, batch);
+    // 회원과 비회원 버킷은 분리되어 있으므로 키 공간이 겹쳐도 무방
+    String key = member ? authentication.getName() : clientAddress(request);
+
+    AdmissionControl.Decision decision = admissionControl.tryAdmit(lane, key, holdSlot);
+    if (!decision.admitted()) {
+      reject(response, decision);
+      return;
+    }
+    if (!holdSlot) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+
+    BatchAdmission batchAdmission = null;
+    if ("/batch".equals(endpoint)) {
+      batchAdmission = new BatchAdmission(admissionControl, lane, key);
+      request.setAttribute(BatchAdmission.ATTRIBUTE, batchAdmission);
+    }
+    boolean async = false;
+    try {
+      filterChain.doFilter(request, response);
+      async = request.isAsyncStarted();
+    } finally {
+      if (async) {
+        // SSE 는 비동기 처리가 끝날 때 반납 (onComplete 는 타임아웃/오류 후에도 호출된다)
+        request.getAsyncContext().addListener(new ReleaseOnComplete(admissionControl, lane));
+      } else {
+        admissionControl.release(lane);
+        if (batchAdmission != null) {
+          batchAdmission.release();
+        }
+      }
+    }
+  }
+
+  // /api/v1/summaries 하위 생성 엔드포인트면 접미사("", "/batch", "/stream", "/jobs"), 아니면 null
+  private static String endpoint(HttpServletRequest request) {
+    String path = request.getRequestURI().substring(request.getContextPath().length());
+    if (path.endsWith("/")) {
+      path = path.substring(0, path.length() - 1);
+    }
+    if (!path.startsWith(SUMMARIES_PATH)) {
+      return null;
+    }
+    String suffix = path.substring(SUMMARIES_PATH.length());
+    return switch (suffix) {
+      case "", "/batch", "/stream", "/jobs" -> suffix;
+      default -> null;
+    };
+  }
+
+  private String clientAddress(HttpServletRequest request) {
+    if (trustForwardedFor) {
+      String forwardedFor = request.getHeader("X-Forwarded-For");
+      if (forwardedFor != null && !forwardedFor.isBlank()) {
+        int comma = forwardedFor.indexOf(',');
+        return (comma < 0 ? forwardedFor : forwardedFor.substring(0, comma)).trim();
+      }
+    }
+    return request.getRemoteAddr();
+  }
+
+  private void reject(HttpServletResponse response, AdmissionControl.Decision decision) throws IOException {
+    String message = decision.result() == AdmissionControl.Result.RATE_LIMITED
+        ? "요약 요청 한도를 초과했습니다. 잠시 후 다시 시도해 주세요."
+        : "요약 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.";
+    long retryAfterSeconds = Math.max(1, (decision.retryAfterMillis() + 999) / 1000);
+    response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+    response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.setCharacterEncoding("UTF-8");
+    objectMapper.writeValue(response.getOutputStream(),
+        new ErrorResponse(HttpStatus.TOO_MANY_REQUESTS.value(), message));
+  }
+
+  private static final class ReleaseOnComplete implements AsyncListener {
+
+    private final AdmissionControl admissionControl;
+    private final AdmissionLane lane;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    ReleaseOnComplete(AdmissionControl admissionControl, AdmissionLane lane) {
+      this.admissionControl = admissionControl;
+      this.lane = lane;
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+      if (released.compareAndSet(false, true)) {
+        admissionControl.release(lane);
+      }
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+    }
+  }
+}
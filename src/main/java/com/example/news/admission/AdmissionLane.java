@@ -0,0 +1,41 @@
+package com.example.news.admission;
+
+import java.util.Locale;
+
+/**
+ * 입장 제어 우선순위 레인 (회원/비회원 x 대화형/배치)
+ */
+public enum AdmissionLane {
+  MEMBER_INTERACTIVE(true, false),
+  MEMBER_BATCH(true, true),
+  GUEST_INTERACTIVE(false, false),
+  GUEST_BATCH(false, true);
+
+  private final boolean member;
+  private final boolean batch;
+
+  AdmissionLane(boolean member, boolean batch) {
+    this.member = member;
+    this.batch = batch;
+  }
+
+  public static AdmissionLane of(boolean member, boolean batch) {
+    if (member) {
+      return batch ? MEMBER_BATCH : MEMBER_INTERACTIVE;
+    }
+    return batch ? GUEST_BATCH : GUEST_INTERACTIVE;
+  }
+
+  public boolean isMember() {
+    return member;
+  }
+
+  public boolean isBatch() {
+    return batch;
+  }
+
+  // 지표 태그 값 (member-interactive 등)
+  public String tag() {
+    return name().toLowerCase(Locale.ROOT).replace('_', '-');
+  }
+}
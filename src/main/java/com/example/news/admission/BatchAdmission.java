@@ -0,0 +1,53 @@
+package com.example.news.admission;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 일괄 요약(/batch)의 항목 단위 입장
+ * 필터가 본문을 읽기 전에 batchCost 토큰 + 슬롯 1개로 먼저 거르고, 항목 수를 안 뒤 서비스가 admit()으로
+ * 나머지 항목의 토큰과 병렬 실행분 슬롯을 받는다. 추가 슬롯은 응답이 끝날 때 필터가 함께 반납한다.
+ */
+public class BatchAdmission {
+
+  public static final String ATTRIBUTE = BatchAdmission.class.getName();
+  // 입장 제어를 거치지 않은 호출용 (항목 수/병렬도 제한 없음)
+  public static final BatchAdmission UNLIMITED = new BatchAdmission(null, null, null);
+
+  private final AdmissionControl admissionControl;
+  private final AdmissionLane lane;
+  private final String key;
+  private final AtomicInteger extraSlots = new AtomicInteger();
+
+  /**
+   * @param items 앞에서부터 처리해도 되는 항목 수 (나머지는 토큰 부족으로 거절)
+   * @param parallelism 동시에 실행해도 되는 항목 수 (점유한 슬롯 수)
+   */
+  public record Grant(int items, int parallelism) {
+  }
+
+  BatchAdmission(AdmissionControl admissionControl, AdmissionLane lane, String key) {
+    this.admissionControl = admissionControl;
+    this.lane = lane;
+    this.key = key;
+  }
+
+  /**
+   * items개 항목 입장: 항목당 1토큰, 슬롯은 min(허용 항목 수, parallelism)개까지 (필터가 잡은 1개 포함)
+   */
+  public Grant admit(int items, int parallelism) {
+    if (admissionControl == null) {
+      return new Grant(items, Math.max(1, Math.min(items, parallelism)));
+    }
+    int admitted = admissionControl.acquireBatchItems(lane, key, items);
+    int acquired = admissionControl.acquireExtraSlots(lane, Math.min(admitted, parallelism) - 1);
+    extraSlots.addAndGet(acquired);
+    return new Grant(admitted, 1 + acquired);
+  }
+
+  void release() {
+    int slots = extraSlots.getAndSet(0);
+    if (slots > 0) {
+      admissionControl.release(lane, slots);
+    }
+  }
+}
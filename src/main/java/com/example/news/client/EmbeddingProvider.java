@@ -0,0 +1,17 @@
+package com.example.news.client;
+
+/**
+ * 텍스트 → 임베딩 벡터 변환기
+ * 반환 벡터는 L2 정규화되어 있어야 한다 (내적 = 코사인 유사도).
+ */
+public interface EmbeddingProvider {
+
+  /**
+   * 지표 태그 등에 쓰는 제공자 이름
+   */
+  String name();
+
+  int dimension();
+
+  float[] embed(String text);
+}
@@ -0,0 +1,73 @@
+package com.example.news.client;
+
+import com.example.news.util.KoreanTokenizer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 외부 호출 없는 결정적 임베딩 (토큰 feature hashing)
+ * 같은 텍스트는 항상 같은 벡터가 되므로 테스트/로컬 환경에서 원격 임베딩 대신 쓴다.
+ * 어휘가 겹치는지만 보는 표현이라 의미 검색용이 아니며, embedding.provider=local 로 명시했을 때만 사용한다.
+ */
+@Component
+@ConditionalOnProperty(name = "embedding.provider", havingValue = "local")
+public class HashingEmbeddingProvider implements EmbeddingProvider {
+
+  private final int dimension;
+
+  public HashingEmbeddingProvider(@Value("${embedding.dimension:256}") int dimension) {
+    this.dimension = dimension;
+  }
+
+  @Override
+  public String name() {
+    return "local";
+  }
+
+  @Override
+  public int dimension() {
+    return dimension;
+  }
+
+  @Override
+  public float[] embed(String text) {
+    float[] vector = new float[dimension];
+    if (text == null) {
+      return vector;
+    }
+    List<String> tokens = KoreanTokenizer.tokenize(text);
+    for (String token : tokens) {
+      int hash = murmurMix(token);
+      // 부호 해시로 충돌 시 값이 한쪽으로 쏠리지 않게 한다
+      vector[Math.floorMod(hash, dimension)] += (hash & 0x8000_0000) == 0 ? 1f : -1f;
+    }
+
+    double norm = 0;
+    for (float value : vector) {
+      norm += value * value;
+    }
+    if (norm > 0) {
+      float scale = (float) (1 / Math.sqrt(norm));
+      for (int i = 0; i < dimension; i++) {
+        vector[i] *= scale;
+      }
+    }
+    return vector;
+  }
+
+  private static int murmurMix(String token) {
+    int h = 0x9747b28c;
+    for (byte b : token.getBytes(StandardCharsets.UTF_8)) {
+      h ^= b;
+      h *= 0x5bd1e995;
+      h ^= h >>> 15;
+    }
+    h ^= h >>> 13;
+    h *= 0x5bd1e995;
+    h ^= h >>> 15;
+    return h;
+  }
+}
@@ -0,0 +1,218 @@
+package com.example.news.client;
+
+import com.example.news.config.RestTemplateConfig;
+import com.example.news.exception.AIServiceException;
+import com.example.news.exception.UpstreamUnavailableException;
+import com.example.news.observability.PayloadLogger;
+import com.example.news.observability.PipelineObservations;
+import com.example.news.util.MicroBatcher;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * HuggingFace Inference API 요약 클라이언트
+ * - 영어: facebook/bart-large-cnn (요약 후 번역 필요)
+ * - 한국어: gogamza/kobart-summarization (번역 없이 바로 한국어 요약)
+ * 모델별로 개별 요약 요청을 마이크로 배치로 묶어 "inputs" 배열 한 번으로 호출한다.
+ * 서킷/동시 실행 한도도 모델별(summarizer, summarizer-ko)로 따로 둔다 (모델 로딩 503은 모델 단위로 발생).
+ */
+@Component
+@RequiredArgsConstructor
+public class HuggingFaceClient {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  @Qualifier("summarizerRestTemplate")
+  private final RestTemplate restTemplate;
+  private final MeterRegistry meterRegistry;
+  private final UpstreamGuards upstreamGuards;
+  private final PipelineObservations pipelineObservations;
+  private final PayloadLogger payloadLogger;
+  @Qualifier("aiPipelineExecutor")
+  private final AsyncTaskExecutor batchExecutor;
+
+  @Value("${huggingface.api.token}")
+  private String apiToken;
+
+  @Value("${huggingface.summarize.url:https://api-inference.huggingface.co/models/facebook/bart-large-cnn}")
+  private String summarizeUrl;
+
+  @Value("${huggingface.summarize.korean-url:https://api-inference.huggingface.co/models/gogamza/kobart-summarization}")
+  private String koreanSummarizeUrl;
+
+  @Value("${huggingface.batch.max-size:16}")
+  private int maxBatchSize;
+
+  @Value("${huggingface.batch.linger:PT0.05S}")
+  private Duration linger;
+
+  // 배치 결과 최대 대기 시간 (업스트림 전체 데드라인 + 배치 대기보다 길게)
+  @Value("${huggingface.batch.await-timeout:PT60S}")
+  private Duration awaitTimeout;
+
+  private MicroBatcher<String, String> batcher;
+  private MicroBatcher<String, String> koreanBatcher;
+
+  @PostConstruct
+  void init() {
+    this.batcher = new MicroBatcher<>("huggingface", this::summarizeBatch, maxBatchSize, linger,
+        batchExecutor, batchSizes(RestTemplateConfig.SUMMARIZER));
+    this.koreanBatcher = new MicroBatcher<>("huggingface-ko",
+        inputs -> summarizeBatch(RestTemplateConfig.SUMMARIZER_KO, koreanSummarizeUrl, inputs),
+        maxBatchSize, linger, batchExecutor, batchSizes(RestTemplateConfig.SUMMARIZER_KO));
+  }
+
+  private DistributionSummary batchSizes(String upstream) {
+    return DistributionSummary.builder("huggingface.batch.size")
+        .description("HuggingFace 요약 배치 1회당 요청 수")
+        .tag("upstream", upstream)
+        .register(meterRegistry);
+  }
+
+  @PreDestroy
+  void shutdown() {
+    batcher.close();
+    koreanBatcher.close();
+  }
+
+  /**
+   * 단일 본문 요약 (배치에 합류해 결과를 기다린다)
+   */
+  public String summarize(String text) {
+    return await(summarizeAsync(text));
+  }
+
+  /**
+   * 단일 본문 요약 (korean이면 한국어 모델, 아니면 영어 모델)
+   */
+  public String summarize(String text, boolean korean) {
+    return await(summarizeAsync(text, korean));
+  }
+
+  /**
+   * 배치 결과 대기 (배치 실패 원인을 AIServiceException으로 풀어서 던진다)
+   * 배치가 어떤 이유로든 완료되지 않아도 awaitTimeout 이후에는 호출 스레드를 풀어 준다.
+   */
+  public String await(CompletableFuture<String> pending) {
+    try {
+      return pending.get(awaitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof AIServiceException cause) {
+        throw cause;
+      }
+      throw new AIServiceException("AI 요약 요청 중 오류 발생", e.getCause());
+    } catch (TimeoutException e) {
+      pending.cancel(false);
+      throw new AIServiceException("AI 요약 응답 대기 시간 초과", e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new AIServiceException("AI 요약 대기 중 인터럽트", e);
+    }
+  }
+
+  /**
+   * 배치에 합류만 하고 결과는 Future로 돌려준다 (청크 병렬 요약용)
+   */
+  public CompletableFuture<String> summarizeAsync(String text) {
+    return summarizeAsync(text, false);
+  }
+
+  public CompletableFuture<String> summarizeAsync(String text, boolean korean) {
+    try {
+      // 서킷이 열려 있으면 배치 대기 없이 즉시 실패
+      upstreamGuards.forUpstream(korean ? RestTemplateConfig.SUMMARIZER_KO : RestTemplateConfig.SUMMARIZER)
+          .ensureAvailable();
+    } catch (UpstreamUnavailableException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+    return korean ? koreanBatcher.submit(text) : batcher.submit(text);
+  }
+
+  /**
+   * 여러 본문을 한 번의 HTTP 요청으로 요약 (응답 순서 = 요청 순서)
+   */
+  public List<String> summarizeBatch(List<String> inputs) {
+    return summarizeBatch(RestTemplateConfig.SUMMARIZER, summarizeUrl, inputs);
+  }
+
+  private List<String> summarizeBatch(String upstream, String url, List<String> inputs) {
+    try {
+      // ✅ 본문 구성
+      String json = requestBody(inputs);
+      payloadLogger.log(upstream, "request", () -> json);
+
+      // ✅ 헤더 설정
+      HttpHeaders headers = new HttpHeaders();
+      headers.setBearerAuth(apiToken);
+      headers.setContentType(MediaType.APPLICATION_JSON);
+      headers.setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
+
+      HttpEntity<String> entity = new HttpEntity<>(json, headers);
+
+      // ✅ 요약 요청 (배치에는 여러 요청이 섞여 있으므로 별도 span)
+      ResponseEntity<String> response = pipelineObservations.observe(PipelineObservations.SUMMARIZE_BATCH, upstream,
+          () -> upstreamGuards.forUpstream(upstream)
+              .call(() -> restTemplate.postForEntity(url, entity, String.class)));
+
+      payloadLogger.log(upstream, "response " + response.getStatusCode(), response::getBody);
+
+      return parseSummaries(response.getBody(), inputs.size());
+
+    } catch (AIServiceException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new AIServiceException("AI 요약 요청 중 오류 발생", e);
+    }
+  }
+
+  // {"inputs": [...]} 요청 본문
+  static String requestBody(List<String> inputs) throws JsonProcessingException {
+    Map<String, Object> requestBody = new HashMap<>();
+    requestBody.put("inputs", inputs);
+    return OBJECT_MAPPER.writeValueAsString(requestBody);
+  }
+
+  // 응답 배열 → 요청 순서대로 summary_text 목록
+  static List<String> parseSummaries(String responseBody, int expected) throws JsonProcessingException {
+    JsonNode root = OBJECT_MAPPER.readTree(responseBody);
+    if (!root.isArray() || root.size() != expected) {
+      throw new AIServiceException("AI 응답 개수가 요청 개수와 다릅니다.");
+    }
+
+    List<String> summaries = new ArrayList<>(expected);
+    for (JsonNode item : root) {
+      // 단일 입력은 [{...}], 배열 입력은 모델에 따라 [[{...}], ...] 형태로 올 수 있다
+      JsonNode node = item.isArray() && item.size() > 0 ? item.get(0) : item;
+      if (!node.has("summary_text")) {
+        throw new AIServiceException("AI 응답에 summary_text가 없습니다.");
+      }
+      summaries.add(node.get("summary_text").asText());
+    }
+    return summaries;
+  }
+}
@@ -0,0 +1,88 @@
+package com.example.news.client;
+
+import com.example.news.config.RestTemplateConfig;
+import com.example.news.exception.AIServiceException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * HuggingFace feature-extraction 파이프라인 임베딩 (sentence-transformers 계열, mean pooling 결과)
+ * 기본 임베딩 제공자 (embedding.provider 미설정 또는 huggingface)
+ */
+@Component
+@ConditionalOnProperty(name = "embedding.provider", havingValue = "huggingface", matchIfMissing = true)
+@RequiredArgsConstructor
+public class HuggingFaceEmbeddingClient implements EmbeddingProvider {
+
+  @Qualifier("embeddingRestTemplate")
+  private final RestTemplate restTemplate;
+  private final UpstreamGuards upstreamGuards;
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Value("${huggingface.api.token}")
+  private String apiToken;
+
+  @Value("${embedding.dimension:384}")
+  private int dimension;
+
+  @Value("${embedding.huggingface.url:https://api-inference.huggingface.co/pipeline/feature-extraction/"
+      + "sentence-transformers/paraphrase-multilingual-MiniLM-L12-v2}")
+  private String embeddingUrl;
+
+  @Override
+  public String name() {
+    return RestTemplateConfig.EMBEDDING;
+  }
+
+  @Override
+  public int dimension() {
+    return dimension;
+  }
+
+  @Override
+  public float[] embed(String text) {
+    try {
+      HttpHeaders headers = new HttpHeaders();
+      headers.setContentType(MediaType.APPLICATION_JSON);
+      headers.setBearerAuth(apiToken);
+      String body = objectMapper.writeValueAsString(Map.of("inputs", text));
+      HttpEntity<String> entity = new HttpEntity<>(body, headers);
+
+      ResponseEntity<String> response = upstreamGuards.forUpstream(name())
+          .call(() -> restTemplate.postForEntity(embeddingUrl, entity, String.class));
+
+      JsonNode root = objectMapper.readTree(response.getBody());
+      if (root == null || !root.isArray() || root.size() != dimension) {
+        throw new AIServiceException("임베딩 응답 차원이 올바르지 않습니다.");
+      }
+      float[] vector = new float[dimension];
+      double norm = 0;
+      for (int i = 0; i < dimension; i++) {
+        vector[i] = (float) root.get(i).asDouble();
+        norm += vector[i] * vector[i];
+      }
+      if (norm > 0) {
+        float scale = (float) (1 / Math.sqrt(norm));
+        for (int i = 0; i < dimension; i++) {
+          vector[i] *= scale;
+        }
+      }
+      return vector;
+    } catch (AIServiceException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new AIServiceException("임베딩 요청 중 오류 발생", e);
+    }
+  }
+}
@@ -0,0 +1,79 @@
+package com.example.news.client;
+
+import com.example.news.config.RestTemplateConfig;
+import com.example.news.exception.AIServiceException;
+import com.example.news.observability.PayloadLogger;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * LibreTranslate API를 사용하여 영어를 한글로 번역
+ */
+@Component
+@RequiredArgsConstructor
+public class LibreTranslateClient implements TranslationProvider {
+
+
+  @Qualifier("libreTranslateRestTemplate")
+  private final RestTemplate restTemplate;
+  private final UpstreamGuards upstreamGuards;
+  private final PayloadLogger payloadLogger;
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Value("${translation.libretranslate.url:https://libretranslate.de/translate}")
+  private String translateUrl;
+
+  @Override
+  public String name() {
+    return RestTemplateConfig.LIBRETRANSLATE;
+  }
+
+  @Override
+  public String translate(String englishText) {
+    try {
+      // LibreTranslate API 요청 본문
+      Map<String, String> translateRequest = new HashMap<>();
+      translateRequest.put("q", englishText);
+      translateRequest.put("source", "en");
+      translateRequest.put("target", "ko");
+
+      String translateJson = objectMapper.writeValueAsString(translateRequest);
+      payloadLogger.log(name(), "request", () -> translateJson);
+
+      // 번역 API 헤더
+      HttpHeaders translateHeaders = new HttpHeaders();
+      translateHeaders.setContentType(MediaType.APPLICATION_JSON);
+
+      HttpEntity<String> translateEntity = new HttpEntity<>(translateJson, translateHeaders);
+
+      // LibreTranslate API 호출
+      ResponseEntity<String> translateResponse = upstreamGuards.forUpstream(name())
+          .call(() -> restTemplate.postForEntity(translateUrl, translateEntity, String.class));
+
+      payloadLogger.log(name(), "response " + translateResponse.getStatusCode(), translateResponse::getBody);
+
+      // 번역 결과 파싱
+      JsonNode translateRoot = objectMapper.readTree(translateResponse.getBody());
+      if (translateRoot.has("translatedText")) {
+        return translateRoot.get("translatedText").asText();
+      }
+      throw new AIServiceException("번역 응답에 translatedText가 없습니다.");
+
+    } catch (AIServiceException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new AIServiceException("LibreTranslate 번역 중 오류 발생", e);
+    }
+  }
+}
@@ -0,0 +1,78 @@
+package com.example.news.client;
+
+import com.example.news.config.RestTemplateConfig;
+import com.example.news.exception.AIServiceException;
+import com.example.news.observability.PayloadLogger;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * MyMemory Translation API를 사용하여 영어를 한글로 번역 (헤지용 보조 업스트림)
+ */
+@Component
+@RequiredArgsConstructor
+public class MyMemoryClient implements TranslationProvider {
+
+
+  @Qualifier("myMemoryRestTemplate")
+  private final RestTemplate restTemplate;
+  private final UpstreamGuards upstreamGuards;
+  private final PayloadLogger payloadLogger;
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Value("${translation.mymemory.url:https://api.mymemory.translated.net/get}")
+  private String translateUrl;
+
+  @Override
+  public String name() {
+    return RestTemplateConfig.MYMEMORY;
+  }
+
+  @Override
+  public String translate(String englishText) {
+    try {
+      // MyMemory API는 GET 요청 사용, 쿼리 값은 여기서 한 번만 인코딩 ('+', '&' 포함)
+      URI uri = UriComponentsBuilder.fromUriString(translateUrl)
+          .queryParam("q", "{q}")
+          .queryParam("langpair", "{langpair}")
+          .encode()
+          .buildAndExpand(englishText, "en|ko")
+          .toUri();
+
+      payloadLogger.log(name(), "request", uri::toString);
+
+      ResponseEntity<String> response = upstreamGuards.forUpstream(name())
+          .call(() -> restTemplate.getForEntity(uri, String.class));
+
+      payloadLogger.log(name(), "response " + response.getStatusCode(), response::getBody);
+
+      JsonNode root = objectMapper.readTree(response.getBody());
+      // 할당량 초과/잘못된 요청도 HTTP 200에 오류 문구를 translatedText로 담아 돌려준다
+      if (root.path("quotaFinished").asBoolean(false)) {
+        throw new AIServiceException("MyMemory 일일 번역 할당량을 모두 사용했습니다.");
+      }
+      int status = root.path("responseStatus").asInt(200);
+      if (status != 200) {
+        throw new AIServiceException("MyMemory 번역 실패 (responseStatus " + status + "): "
+            + root.path("responseDetails").asText(""));
+      }
+      if (root.has("responseData") && root.get("responseData").has("translatedText")) {
+        return root.get("responseData").get("translatedText").asText();
+      }
+      throw new AIServiceException("MyMemory 번역 응답에 translatedText가 없습니다.");
+
+    } catch (AIServiceException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new AIServiceException("MyMemory 번역 중 오류 발생", e);
+    }
+  }
+}
@@ -0,0 +1,17 @@
+package com.example.news.client;
+
+/**
+ * 영어 → 한국어 번역 업스트림
+ */
+public interface TranslationProvider {
+
+  /**
+   * 지표 태그 등에 쓰는 업스트림 이름
+   */
+  String name();
+
+  /**
+   * 번역 실패 시 예외를 던진다 (대체 처리는 호출 측 책임)
+   */
+  String translate(String englishText);
+}
@@ -0,0 +1,102 @@
+package com.example.news.client;
+
+import com.example.news.exception.UpstreamUnavailableException;
+import com.example.news.util.AimdLimiter;
+import com.example.news.util.CancellationScope;
+import com.example.news.util.CircuitBreaker;
+import io.micrometer.core.instrument.Counter;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+/**
+ * 업스트림 하나에 대한 서킷 브레이커 + 적응형 동시 실행 제한
+ * 거절은 네트워크 호출 없이 UpstreamUnavailableException으로 즉시 반환된다.
+ */
+public class UpstreamGuard {
+
+  private final String upstream;
+  private final CircuitBreaker circuitBreaker;
+  private final AimdLimiter limiter;
+  private final Counter circuitRejections;
+  private final Counter limitRejections;
+
+  UpstreamGuard(String upstream, CircuitBreaker circuitBreaker, AimdLimiter limiter,
+      Counter circuitRejections, Counter limitRejections) {
+    this.upstream = upstream;
+    this.circuitBreaker = circuitBreaker;
+    this.limiter = limiter;
+    this.circuitRejections = circuitRejections;
+    this.limitRejections = limitRejections;
+  }
+
+  public <T> T call(Supplier<T> remoteCall) {
+    if (!limiter.tryAcquire()) {
+      limitRejections.increment();
+      throw new UpstreamUnavailableException(upstream, 1);
+    }
+    // 동시 실행 한도를 먼저 확보해야 HALF_OPEN 시험 호출 허가가 낭비되지 않는다
+    if (!circuitBreaker.tryAcquirePermission()) {
+      limiter.onIgnored();
+      circuitRejections.increment();
+      throw new UpstreamUnavailableException(upstream, retryAfterSeconds());
+    }
+
+    long start = System.nanoTime();
+    try {
+      T result = remoteCall.get();
+      circuitBreaker.onSuccess();
+      limiter.onSuccess(System.nanoTime() - start);
+      return result;
+    } catch (Throwable e) {
+      // Error(StackOverflowError 등)도 여기서 서킷 허가/동시 실행 슬롯을 돌려줘야 한다
+      if (CancellationScope.isCurrentCancelled()) {
+        // 호출 측이 끊은 요청 (헤지에서 진 쪽)은 업스트림 장애가 아니다
+        circuitBreaker.onIgnored();
+        limiter.onIgnored();
+      } else if (isUpstreamFailure(e)) {
+        circuitBreaker.onError();
+        limiter.onDropped();
+      } else {
+        circuitBreaker.onSuccess();
+        limiter.onIgnored();
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * 서킷이 열려 있으면 큐에 넣기 전에 바로 거절
+   */
+  public void ensureAvailable() {
+    if (!circuitBreaker.isCallPermitted()) {
+      circuitRejections.increment();
+      throw new UpstreamUnavailableException(upstream, retryAfterSeconds());
+    }
+  }
+
+  public CircuitBreaker getCircuitBreaker() {
+    return circuitBreaker;
+  }
+
+  public AimdLimiter getLimiter() {
+    return limiter;
+  }
+
+  private long retryAfterSeconds() {
+    return Math.max(1, TimeUnit.MILLISECONDS.toSeconds(circuitBreaker.remainingOpenMillis() + 999));
+  }
+
+  // 4xx(429 제외)는 요청 자체의 문제이므로 업스트림 장애로 보지 않는다
+  private boolean isUpstreamFailure(Throwable e) {
+    Throwable cause = e;
+    while (cause != null) {
+      if (cause instanceof HttpClientErrorException clientError) {
+        return clientError.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS);
+      }
+      cause = cause.getCause();
+    }
+    return true;
+  }
+}
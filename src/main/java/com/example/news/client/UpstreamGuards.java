@@ -0,0 +1,92 @@
+package com.example.news.client;
+
+import com.example.news.util.AimdLimiter;
+import com.example.news.util.CircuitBreaker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 업스트림 이름별 UpstreamGuard 생성/보관 및 상태 지표 등록
+ */
+@Component
+public class UpstreamGuards {
+
+  private final Map<String, UpstreamGuard> guards = new ConcurrentHashMap<>();
+  private final MeterRegistry meterRegistry;
+
+  @Value("${resilience.circuit.window-size:20}")
+  private int windowSize;
+
+  @Value("${resilience.circuit.minimum-calls:10}")
+  private int minimumCalls;
+
+  @Value("${resilience.circuit.failure-rate-threshold:0.5}")
+  private double failureRateThreshold;
+
+  @Value("${resilience.circuit.open-duration:PT30S}")
+  private Duration openDuration;
+
+  @Value("${resilience.circuit.half-open-calls:3}")
+  private int halfOpenCalls;
+
+  @Value("${resilience.limit.initial:20}")
+  private int initialLimit;
+
+  @Value("${resilience.limit.min:2}")
+  private int minLimit;
+
+  @Value("${resilience.limit.max:200}")
+  private int maxLimit;
+
+  @Value("${resilience.limit.backoff-ratio:0.7}")
+  private double backoffRatio;
+
+  @Value("${resilience.limit.latency-threshold:PT10S}")
+  private Duration latencyThreshold;
+
+  public UpstreamGuards(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  public UpstreamGuard forUpstream(String upstream) {
+    return guards.computeIfAbsent(upstream, this::create);
+  }
+
+  private UpstreamGuard create(String upstream) {
+    CircuitBreaker circuitBreaker = new CircuitBreaker(windowSize, minimumCalls, failureRateThreshold,
+        openDuration.toMillis(), halfOpenCalls);
+    AimdLimiter limiter = new AimdLimiter(initialLimit, minLimit, maxLimit, backoffRatio,
+        latencyThreshold.toNanos());
+
+    Gauge.builder("upstream.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+        .description("서킷 상태 (0=CLOSED, 1=HALF_OPEN, 2=OPEN)")
+        .tag("upstream", upstream)
+        .register(meterRegistry);
+    Gauge.builder("upstream.concurrency.limit", limiter, AimdLimiter::getLimit)
+        .description("현재 적응형 동시 실행 한도")
+        .tag("upstream", upstream)
+        .register(meterRegistry);
+    Gauge.builder("upstream.concurrency.in.flight", limiter, AimdLimiter::getInFlight)
+        .description("현재 진행 중인 업스트림 호출 수")
+        .tag("upstream", upstream)
+        .register(meterRegistry);
+
+    return new UpstreamGuard(upstream, circuitBreaker, limiter,
+        rejectionCounter(upstream, "circuit_open"),
+        rejectionCounter(upstream, "concurrency_limit"));
+  }
+
+  private Counter rejectionCounter(String upstream, String reason) {
+    return Counter.builder("upstream.rejected")
+        .description("네트워크 호출 없이 즉시 거절된 업스트림 요청 수")
+        .tag("upstream", upstream)
+        .tag("reason", reason)
+        .register(meterRegistry);
+  }
+}
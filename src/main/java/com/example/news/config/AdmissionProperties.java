@@ -0,0 +1,60 @@
+package com.example.news.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 요약 파이프라인 입장 제어 설정 (사용자/IP별 토큰 버킷 + 우선순위 레인별 동시 실행 한도)
+ * 예) admission.guest.requests-per-minute=10, admission.lanes.guest-batch=0.2
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "admission")
+public class AdmissionProperties {
+
+  private boolean enabled = true;
+  // 모든 레인이 나눠 쓰는 동시 실행 요약 요청 수 (업스트림 동시 호출 예산)
+  private int maxConcurrent = 64;
+  // max-concurrent 중 회원 대화형 요청만 쓸 수 있는 비율 (나머지 레인은 합쳐도 이 몫을 넘볼 수 없다)
+  private double memberInteractiveReserve = 0.25;
+  // 토큰 버킷 슬롯 수 (2의 거듭제곱으로 올림, 슬롯당 8바이트)
+  private int stripes = 65536;
+  // 배치/비동기 작업 요청 1건이 입장 시 차감하는 토큰 수 (일괄 요약은 이를 넘는 항목마다 1토큰씩 추가 차감)
+  private int batchCost = 5;
+  // 프록시 뒤에서만 true (그 외에는 클라이언트가 헤더를 위조해 버킷을 바꿔 쓸 수 있음)
+  private boolean trustForwardedFor = false;
+  private Tier member = new Tier(60, 20);
+  private Tier guest = new Tier(10, 5);
+  private Lanes lanes = new Lanes();
+
+  @Getter
+  @Setter
+  public static class Tier {
+    // 평균 허용 속도
+    private double requestsPerMinute;
+    // 순간 허용량 (버킷 용량)
+    private int burst;
+
+    public Tier() {
+    }
+
+    public Tier(double requestsPerMinute, int burst) {
+      this.requestsPerMinute = requestsPerMinute;
+      this.burst = burst;
+    }
+  }
+
+  /**
+   * 레인별로 쓸 수 있는 max-concurrent 비율 (한 레인이 예산을 다 차지하지 못하게 함)
+   * 회원 대화형 외 레인의 합계는 1을 넘어도 되지만, 합쳐서 (1 - member-interactive-reserve) 까지만 쓸 수 있다
+   */
+  @Getter
+  @Setter
+  public static class Lanes {
+    private double memberInteractive = 1.0;
+    private double memberBatch = 0.5;
+    private double guestInteractive = 0.4;
+    private double guestBatch = 0.2;
+  }
+}
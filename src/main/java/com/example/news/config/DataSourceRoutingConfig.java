@@ -0,0 +1,94 @@
+package com.example.news.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+/**
+ * 기본 DB + 읽기 복제본 구성 (datasource.routing.enabled=true 일 때만, 아니면 기본 DataSource 자동 구성)
+ * - 모든 풀은 spring.datasource.hikari.* 설정을 공유하고 풀 이름(primary, replica-N)으로 hikaricp.* 지표가 구분된다
+ * - 복제본 풀은 readOnly 커넥션이라 실수로 라우팅된 쓰기는 실패한다
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+public class DataSourceRoutingConfig {
+
+  private static final String HIKARI_PREFIX = "spring.datasource.hikari";
+
+  @Bean
+  public ReplicaRoutingDataSource replicaRoutingDataSource(
+      DataSourceProperties dataSourceProperties,
+      DataSourceRoutingProperties routingProperties,
+      Environment environment,
+      MeterRegistry meterRegistry) {
+    Binder binder = Binder.get(environment);
+    HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+        .type(HikariDataSource.class)
+        .build();
+    binder.bind(HIKARI_PREFIX, Bindable.ofInstance(primary));
+    primary.setPoolName(ReplicaRoutingDataSource.PRIMARY);
+    primary.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+
+    Map<String, DataSource> replicas = new LinkedHashMap<>();
+    List<DataSourceRoutingProperties.Replica> settings = routingProperties.getReplicas();
+    for (int i = 0; i < settings.size(); i++) {
+      DataSourceRoutingProperties.Replica replica = settings.get(i);
+      String name = "replica-" + i;
+      HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+          .type(HikariDataSource.class)
+          .url(replica.getUrl())
+          .username(StringUtils.hasText(replica.getUsername())
+              ? replica.getUsername() : dataSourceProperties.determineUsername())
+          .password(StringUtils.hasText(replica.getUsername())
+              ? replica.getPassword() : dataSourceProperties.determinePassword())
+          .build();
+      binder.bind(HIKARI_PREFIX, Bindable.ofInstance(dataSource));
+      dataSource.setPoolName(name);
+      dataSource.setMaximumPoolSize(replica.getMaxConnections());
+      dataSource.setReadOnly(true);
+      dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+      replicas.put(name, dataSource);
+    }
+    return new ReplicaRoutingDataSource(primary, replicas, routingProperties, meterRegistry);
+  }
+
+  /**
+   * JPA/트랜잭션 매니저가 쓰는 DataSource
+   * 트랜잭션의 readOnly 여부가 정해진 뒤 첫 SQL 시점에 실제 커넥션을 고르도록 지연 프록시로 감싼다.
+   */
+  @Bean
+  @Primary
+  public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+    return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+  }
+
+  /**
+   * 복제본 상태 (/actuator/health 상세의 replicaLag)
+   * 복제본을 못 써도 기본 DB로 읽으므로 DOWN 대신 상세 정보만 남긴다.
+   */
+  @Bean
+  public HealthIndicator replicaLagHealthIndicator(ReplicaRoutingDataSource replicaRoutingDataSource) {
+    return () -> Health.up()
+        .withDetail("readTarget", replicaRoutingDataSource.hasEligibleReplica() ? "replica" : "primary-fallback")
+        .withDetail("replicas", replicaRoutingDataSource.replicaStatus())
+        .build();
+  }
+}
@@ -0,0 +1,37 @@
+package com.example.news.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 읽기 전용 트랜잭션의 복제본 라우팅 설정 (기본 DB는 spring.datasource.*)
+ * 예) datasource.routing.enabled=true, datasource.routing.replicas[0].url=jdbc:mysql://replica-1:3306/news
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "datasource.routing")
+public class DataSourceRoutingProperties {
+
+  private boolean enabled = false;
+  // 이 값보다 뒤처진 복제본은 읽기 대상에서 제외 (쓰기 직후 다른 요청이 옛 데이터를 볼 수 있는 최대 시간)
+  private Duration maxLag = Duration.ofSeconds(2);
+  private Duration checkInterval = Duration.ofSeconds(1);
+  // 복제 지연(초)을 돌려주는 쿼리. Seconds_Behind_Source/Master 열이 있으면 그 값, 없으면 첫 열을 쓴다
+  // 행이 없거나 값이 NULL이면 복제가 멈춘 것으로 보고 제외
+  private String lagQuery = "SHOW REPLICA STATUS";
+  private List<Replica> replicas = new ArrayList<>();
+
+  @Getter
+  @Setter
+  public static class Replica {
+    private String url;
+    // 비어 있으면 spring.datasource 계정 사용
+    private String username;
+    private String password;
+    private int maxConnections = 10;
+  }
+}
@@ -0,0 +1,87 @@
+package com.example.news.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * AI 파이프라인(요약/번역 업스트림 호출) 실행기
+ * spring.threads.virtual.enabled=true + JDK 21 이상이면 가상 스레드, 아니면 고정 크기 플랫폼 스레드 풀
+ * 제출 스레드의 Observation(트레이싱) 컨텍스트를 작업 스레드로 전달한다.
+ */
+@Configuration
+public class ExecutorConfig {
+
+  @Bean
+  public AsyncTaskExecutor aiPipelineExecutor(
+      Environment environment,
+      @Value("${ai.pipeline.platform-threads:32}") int platformThreads) {
+    if (Threading.VIRTUAL.isActive(environment)) {
+      // 블로킹 업스트림 호출마다 가상 스레드 하나 (동시성 상한은 업스트림 커넥션 풀이 결정)
+      SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("ai-pipeline-");
+      executor.setVirtualThreads(true);
+      executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+      return executor;
+    }
+
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(platformThreads);
+    executor.setMaxPoolSize(platformThreads);
+    executor.setThreadNamePrefix("ai-pipeline-");
+    executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+    return executor;
+  }
+
+  /**
+   * 헤지 번역 시도(1차/2차 업스트림 호출) 실행기
+   * HuggingFace 배치와 같은 aiPipelineExecutor를 쓰면 느린 번역 업스트림의 헤지가 요약 호출 스레드를 잠식하므로 분리한다.
+   */
+  @Bean
+  public AsyncTaskExecutor translationHedgeExecutor(
+      Environment environment,
+      @Value("${translation.hedge.platform-threads:16}") int platformThreads) {
+    if (Threading.VIRTUAL.isActive(environment)) {
+      SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("translation-hedge-");
+      executor.setVirtualThreads(true);
+      executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+      return executor;
+    }
+
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(platformThreads);
+    executor.setMaxPoolSize(platformThreads);
+    executor.setThreadNamePrefix("translation-hedge-");
+    executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+    return executor;
+  }
+
+  /**
+   * 일괄 요약 요청의 항목별 파이프라인 실행기 (동시 실행 수 = parallelism)
+   * 파이프라인은 aiPipelineExecutor 작업을 기다리며 블로킹하므로 같은 풀을 쓰면 안 된다.
+   */
+  @Bean
+  public AsyncTaskExecutor summaryBatchExecutor(
+      Environment environment,
+      @Value("${summary.batch.parallelism:16}") int parallelism) {
+    if (Threading.VIRTUAL.isActive(environment)) {
+      SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("summary-batch-");
+      executor.setVirtualThreads(true);
+      executor.setConcurrencyLimit(parallelism);
+      executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+      return executor;
+    }
+
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(parallelism);
+    executor.setMaxPoolSize(parallelism);
+    executor.setThreadNamePrefix("summary-batch-");
+    executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+    return executor;
+  }
+}
@@ -0,0 +1,43 @@
+package com.example.news.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 외부 API(업스트림)별 HTTP 커넥션 풀/타임아웃 설정
+ * 예) http.client.upstreams.libretranslate.max-connections=20
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "http.client")
+public class HttpClientProperties {
+
+  private Map<String, Upstream> upstreams = new HashMap<>();
+
+  public Upstream forUpstream(String name) {
+    return upstreams.getOrDefault(name, new Upstream());
+  }
+
+  @Getter
+  @Setter
+  public static class Upstream {
+    // 풀 최대 커넥션 수 (업스트림 하나당 호스트가 하나이므로 route 당 최대값과 같다)
+    private int maxConnections = 50;
+    // 서버가 Keep-Alive 헤더를 주지 않을 때 커넥션 재사용 유지 시간
+    private Duration keepAlive = Duration.ofSeconds(30);
+    // 이 시간 이상 놀고 있는 커넥션은 백그라운드에서 정리
+    private Duration idleEviction = Duration.ofSeconds(60);
+    // 풀에서 커넥션을 빌려오기까지 최대 대기 시간
+    private Duration poolAcquireTimeout = Duration.ofSeconds(5);
+    private Duration connectTimeout = Duration.ofSeconds(10);
+    private Duration readTimeout = Duration.ofSeconds(30);
+    // 요청 전체(대기 + 연결 + 응답) 데드라인
+    private Duration totalTimeout = Duration.ofSeconds(45);
+    // HTTP/2 지원 업스트림은 커넥션 하나로 다중화
+    private boolean http2 = false;
+  }
+}
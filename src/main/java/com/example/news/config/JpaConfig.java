@@ -0,0 +1,24 @@
+package com.example.news.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JpaConfig {
+
+  /**
+   * 일괄 저장 시 INSERT를 JDBC 배치로 묶는다.
+   * (MySQL은 JDBC URL에 rewriteBatchedStatements=true 가 있어야 다중 VALUES로 재작성됨)
+   */
+  @Bean
+  public HibernatePropertiesCustomizer jdbcBatchingCustomizer(
+      @Value("${summary.batch.jdbc-batch-size:50}") int jdbcBatchSize) {
+    return properties -> {
+      properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, jdbcBatchSize);
+      properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+    };
+  }
+}
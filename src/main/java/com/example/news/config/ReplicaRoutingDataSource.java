@@ -0,0 +1,226 @@
+package com.example.news.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기 전용 트랜잭션은 복제본으로, 그 외(쓰기 트랜잭션/트랜잭션 밖 조회)는 기본 DB로 보내는 DataSource
+ * - 복제본 지연을 checkInterval 마다 조회해 maxLag 이내인 복제본만 라운드로빈으로 고른다
+ * - 쓸 수 있는 복제본이 없으면(지연 초과, 복제 중단, 연결 실패) 기본 DB로 읽는다
+ * - 트랜잭션 시작 시점에는 readOnly 플래그가 아직 설정되지 않으므로 LazyConnectionDataSourceProxy로 감싸 써야 한다
+ *   (첫 SQL 실행 시점에 커넥션을 고름)
+ * - 복제 지연 동안 옛 데이터를 읽으면 안 되는 조회(캐시 채우기, 방금 저장한 행 조회)는
+ *   읽기 전용이 아닌 트랜잭션으로 실행해 기본 DB를 쓴다
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+  private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+  static final String PRIMARY = "primary";
+  private static final List<String> LAG_COLUMNS = List.of("Seconds_Behind_Source", "Seconds_Behind_Master");
+
+  private final DataSource primary;
+  private final List<Replica> replicas = new ArrayList<>();
+  private final Duration maxLag;
+  private final Duration checkInterval;
+  private final String lagQuery;
+  private final AtomicInteger next = new AtomicInteger();
+  private final Counter replicaReads;
+  private final Counter fallbackReads;
+  private ScheduledExecutorService lagChecker;
+
+  public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+      DataSourceRoutingProperties properties, MeterRegistry meterRegistry) {
+    this.primary = primary;
+    this.maxLag = properties.getMaxLag();
+    this.checkInterval = properties.getCheckInterval();
+    this.lagQuery = properties.getLagQuery();
+
+    Map<Object, Object> targets = new HashMap<>();
+    targets.put(PRIMARY, primary);
+    replicas.forEach((name, dataSource) -> {
+      Replica replica = new Replica(name, dataSource);
+      this.replicas.add(replica);
+      targets.put(name, dataSource);
+      Gauge.builder("datasource.replica.lag", replica, r -> r.lagSeconds)
+          .description("복제본 복제 지연 (초, 조회 실패/복제 중단 시 NaN)")
+          .baseUnit("seconds")
+          .tag("replica", name)
+          .register(meterRegistry);
+      Gauge.builder("datasource.replica.eligible", replica, r -> r.eligible ? 1 : 0)
+          .description("복제본이 읽기 대상인지 여부 (1=지연 허용 범위 이내)")
+          .tag("replica", name)
+          .register(meterRegistry);
+    });
+    setTargetDataSources(targets);
+    setDefaultTargetDataSource(primary);
+    this.replicaReads = readCounter(meterRegistry, "replica");
+    this.fallbackReads = readCounter(meterRegistry, "primary-fallback");
+  }
+
+  @Override
+  public void afterPropertiesSet() {
+    super.afterPropertiesSet();
+    if (replicas.isEmpty()) {
+      return;
+    }
+    checkReplicas();
+    lagChecker = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread thread = new Thread(r, "replica-lag-check");
+      thread.setDaemon(true);
+      return thread;
+    });
+    long intervalMillis = checkInterval.toMillis();
+    lagChecker.scheduleWithFixedDelay(this::checkReplicas, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || replicas.isEmpty()) {
+      return PRIMARY;
+    }
+    // 라운드로빈 시작 위치부터 쓸 수 있는 첫 복제본
+    int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+    for (int i = 0; i < replicas.size(); i++) {
+      Replica replica = replicas.get((start + i) % replicas.size());
+      if (replica.eligible) {
+        replicaReads.increment();
+        return replica.name;
+      }
+    }
+    fallbackReads.increment();
+    return PRIMARY;
+  }
+
+  /**
+   * 모든 복제본의 지연을 한 번 조회해 읽기 대상 여부를 갱신
+   */
+  void checkReplicas() {
+    for (Replica replica : replicas) {
+      try {
+        double lag = queryLagSeconds(replica.dataSource);
+        replica.lagSeconds = lag;
+        replica.error = null;
+        replica.eligible = !Double.isNaN(lag) && lag <= maxLag.toMillis() / 1000.0;
+      } catch (SQLException | RuntimeException e) {
+        if (replica.eligible || replica.error == null) {
+          log.warn("복제본 지연 조회 실패 - {}: {}", replica.name, e.getMessage());
+        }
+        replica.lagSeconds = Double.NaN;
+        replica.error = e.getMessage();
+        replica.eligible = false;
+      }
+    }
+  }
+
+  private double queryLagSeconds(DataSource dataSource) throws SQLException {
+    try (Connection connection = dataSource.getConnection();
+        Statement statement = connection.createStatement()) {
+      statement.setQueryTimeout((int) Math.max(1, checkInterval.toSeconds()));
+      try (ResultSet resultSet = statement.executeQuery(lagQuery)) {
+        if (!resultSet.next()) {
+          return Double.NaN;
+        }
+        Object value = resultSet.getObject(lagColumn(resultSet.getMetaData()));
+        return value instanceof Number number ? number.doubleValue() : Double.NaN;
+      }
+    }
+  }
+
+  private static int lagColumn(ResultSetMetaData metaData) throws SQLException {
+    for (int column = 1; column <= metaData.getColumnCount(); column++) {
+      String label = metaData.getColumnLabel(column);
+      for (String lagColumn : LAG_COLUMNS) {
+        if (lagColumn.equalsIgnoreCase(label)) {
+          return column;
+        }
+      }
+    }
+    return 1;
+  }
+
+  /**
+   * 복제본별 상태 (헬스 체크 상세 정보용, 등록 순서 유지)
+   */
+  public Map<String, Map<String, Object>> replicaStatus() {
+    Map<String, Map<String, Object>> status = new LinkedHashMap<>();
+    for (Replica replica : replicas) {
+      Map<String, Object> detail = new LinkedHashMap<>();
+      detail.put("eligible", replica.eligible);
+      detail.put("lagSeconds", Double.isNaN(replica.lagSeconds) ? null : replica.lagSeconds);
+      if (replica.error != null) {
+        detail.put("error", replica.error);
+      }
+      status.put(replica.name, detail);
+    }
+    return status;
+  }
+
+  public boolean hasEligibleReplica() {
+    return replicas.stream().anyMatch(replica -> replica.eligible);
+  }
+
+  @Override
+  public void destroy() throws Exception {
+    if (lagChecker != null) {
+      lagChecker.shutdownNow();
+    }
+    for (Replica replica : replicas) {
+      closeQuietly(replica.dataSource);
+    }
+    closeQuietly(primary);
+  }
+
+  private static void closeQuietly(DataSource dataSource) {
+    if (dataSource instanceof AutoCloseable closeable) {
+      try {
+        closeable.close();
+      } catch (Exception e) {
+        log.debug("DataSource 종료 실패: {}", e.getMessage());
+      }
+    }
+  }
+
+  private static Counter readCounter(MeterRegistry meterRegistry, String target) {
+    return Counter.builder("datasource.routing.reads")
+        .description("읽기 전용 트랜잭션 커넥션 라우팅 결과 (replica, primary-fallback=쓸 수 있는 복제본 없음)")
+        .tag("target", target)
+        .register(meterRegistry);
+  }
+
+  private static final class Replica {
+
+    private final String name;
+    private final DataSource dataSource;
+    // 첫 조회 전에는 읽기 대상에서 제외
+    private volatile boolean eligible;
+    private volatile double lagSeconds = Double.NaN;
+    private volatile String error;
+
+    Replica(String name, DataSource dataSource) {
+      this.name = name;
+      this.dataSource = dataSource;
+    }
+  }
+}
@@ -1,19 +1,66 @@
 package com.example.news.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
+@EnableConfigurationProperties(HttpClientProperties.class)
 public class RestTemplateConfig {
 
+  public static final String SUMMARIZER = "summarizer";
+  // 한국어 요약 모델 (같은 HuggingFace 호스트라 summarizerRestTemplate 커넥션 풀을 함께 쓰고 가드만 따로 둔다)
+  public static final String SUMMARIZER_KO = "summarizer-ko";
+  public static final String LIBRETRANSLATE = "libretranslate";
+  public static final String MYMEMORY = "mymemory";
+  public static final String EMBEDDING = "embedding";
+
+  private final HttpClientProperties properties;
+  private final ObservationRegistry observationRegistry;
+
+  public RestTemplateConfig(HttpClientProperties properties, ObservationRegistry observationRegistry) {
+    this.properties = properties;
+    this.observationRegistry = observationRegistry;
+  }
+
   @Bean
-  public RestTemplate restTemplate() {
-    SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-    factory.setConnectTimeout(10000); // 10초 연결 타임아웃
-    factory.setReadTimeout(30000);    // 30초 읽기 타임아웃
-    
-    return new RestTemplate(factory);
+  public UpstreamHttpClients upstreamHttpClients(MeterRegistry meterRegistry) {
+    return new UpstreamHttpClients(meterRegistry);
+  }
+
+  // 업스트림별로 커넥션 풀을 분리해 한쪽 지연이 다른 쪽 커넥션을 잡아먹지 않도록 한다
+  @Bean
+  public RestTemplate restTemplate(UpstreamHttpClients clients) {
+    return build(clients, "default");
+  }
+
+  @Bean
+  public RestTemplate summarizerRestTemplate(UpstreamHttpClients clients) {
+    return build(clients, SUMMARIZER);
+  }
+
+  @Bean
+  public RestTemplate libreTranslateRestTemplate(UpstreamHttpClients clients) {
+    return build(clients, LIBRETRANSLATE);
+  }
+
+  @Bean
+  public RestTemplate myMemoryRestTemplate(UpstreamHttpClients clients) {
+    return build(clients, MYMEMORY);
+  }
+
+  @Bean
+  public RestTemplate embeddingRestTemplate(UpstreamHttpClients clients) {
+    return build(clients, EMBEDDING);
+  }
+
+  private RestTemplate build(UpstreamHttpClients clients, String upstream) {
+    RestTemplate restTemplate = new RestTemplate(clients.create(upstream, properties.forUpstream(upstream)));
+    // http.client.requests 지표 + 업스트림 호출 span (RestTemplateBuilder를 쓰지 않으므로 직접 연결)
+    restTemplate.setObservationRegistry(observationRegistry);
+    return restTemplate;
   }
 }
@@ -1,26 +1,39 @@
 package com.example.news.config;
 
+import com.example.news.admission.AdmissionControl;
+import com.example.news.admission.AdmissionControlFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
 
 @Configuration
 @EnableWebSecurity
+@EnableConfigurationProperties(AdmissionProperties.class)
 public class SecurityConfig {
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, AdmissionControl admissionControl,
+            AdmissionProperties admissionProperties, ObjectMapper objectMapper) throws Exception {
         http
             .csrf(AbstractHttpConfigurer::disable)
             .authorizeHttpRequests(auth -> auth
-                // 비회원/회원 모두 접근 가능한 엔드포인트
+                // 비회원/회원 모두 접근 가능한 엔드포인트 (검색은 요청자 본인의 요약만, 비회원은 비회원 요약만 반환)
                 .requestMatchers(
                     "/api/v1/summaries",
-                    "/api/v1/summaries/search"
+                    "/api/v1/summaries/search",
+                    "/api/v1/summaries/search/semantic",
+                    "/api/v1/summaries/stream",
+                    "/api/v1/summaries/jobs",
+                    "/api/v1/summaries/jobs/{jobId}"
                 ).permitAll()
+                // 헬스 체크/Prometheus 수집 (외부 노출은 네트워크 단에서 제한)
+                .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
                 // 회원 전용 엔드포인트
                 .requestMatchers(
                     "/api/v1/summaries/{summaryId}",
@@ -28,7 +41,11 @@ public class SecurityConfig {
                 ).authenticated()
                 // 나머지 모든 요청은 인증 필요
                 .anyRequest().authenticated()
-            );
+            )
+            // 요약 생성 요청 입장 제어 (인증 정보로 회원/비회원 레인 결정, 초과 시 429)
+            .addFilterAfter(
+                new AdmissionControlFilter(admissionControl, objectMapper, admissionProperties.isTrustForwardedFor()),
+                AuthorizationFilter.class);
         
         return http.build();
     }
@@ -0,0 +1,330 @@
+package com.example.news.config;
+
+import com.example.news.util.CancellationScope;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.io.LeaseRequest;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+
+/**
+ * 업스트림별 커넥션 풀 기반 ClientHttpRequestFactory 생성/정리
+ * - HTTP/1.1: Apache HttpClient 5 커넥션 풀 (keep-alive, 유휴 커넥션 정리, 풀 지표)
+ * - HTTP/2: JDK HttpClient (커넥션 하나로 다중화)
+ * 만든 클라이언트/풀/스레드는 destroy()에서 모두 닫는다.
+ */
+public class UpstreamHttpClients implements DisposableBean {
+
+  private static final Logger log = LoggerFactory.getLogger(UpstreamHttpClients.class);
+
+  private final MeterRegistry meterRegistry;
+  private final ScheduledThreadPoolExecutor deadlineScheduler;
+  private final List<AutoCloseable> resources = new CopyOnWriteArrayList<>();
+
+  public UpstreamHttpClients(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+    this.deadlineScheduler = (ScheduledThreadPoolExecutor) Executors.newScheduledThreadPool(1, r -> {
+      Thread thread = new Thread(r, "http-deadline");
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.deadlineScheduler.setRemoveOnCancelPolicy(true);
+  }
+
+  public ClientHttpRequestFactory create(String upstream, HttpClientProperties.Upstream settings) {
+    return settings.isHttp2() ? createHttp2(upstream, settings) : createPooled(upstream, settings);
+  }
+
+  private ClientHttpRequestFactory createPooled(String upstream, HttpClientProperties.Upstream settings) {
+    Timer waitTimer = Timer.builder("http.client.pool.wait")
+        .description("커넥션 풀에서 커넥션을 얻기까지 대기한 시간")
+        .tag("upstream", upstream)
+        .register(meterRegistry);
+
+    TimedConnectionManager connectionManager = new TimedConnectionManager(waitTimer);
+    connectionManager.setMaxTotal(settings.getMaxConnections());
+    connectionManager.setDefaultMaxPerRoute(settings.getMaxConnections());
+    connectionManager.setDefaultConnectionConfig(ConnectionConfig.custom()
+        .setConnectTimeout(Timeout.of(settings.getConnectTimeout()))
+        .setSocketTimeout(Timeout.of(settings.getReadTimeout()))
+        .build());
+    new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, upstream)
+        .bindTo(meterRegistry);
+
+    CloseableHttpClient httpClient = HttpClients.custom()
+        .setConnectionManager(connectionManager)
+        .setDefaultRequestConfig(RequestConfig.custom()
+            .setConnectionRequestTimeout(Timeout.of(settings.getPoolAcquireTimeout()))
+            .setResponseTimeout(Timeout.of(settings.getReadTimeout()))
+            .setConnectionKeepAlive(TimeValue.of(settings.getKeepAlive()))
+            .build())
+        .evictExpiredConnections()
+        .evictIdleConnections(TimeValue.of(settings.getIdleEviction()))
+        .build();
+    resources.add(httpClient);
+
+    return new DeadlineRequestFactory(httpClient, settings.getTotalTimeout().toMillis());
+  }
+
+  /**
+   * HTTP/2 업스트림: 요청들이 커넥션 하나에 다중화되므로 풀 관련 설정은 다음처럼 적용한다
+   * - max-connections: 커넥션 수가 아니라 클라이언트 내부 작업(응답 처리) 스레드 수 (기본 실행기는 상한 없는 캐시 풀)
+   * - total-timeout: 요청 타임아웃 (응답 헤더 수신까지)
+   * - keep-alive / idle-eviction: JDK HttpClient는 클라이언트별로 지정할 수 없다
+   *   (JVM 전역 jdk.httpclient.keepalive.timeout 시스템 속성, 기본 1200초로 유휴 커넥션을 닫음)
+   * - pool-acquire-timeout, read-timeout: 풀/소켓 단위 설정이 없어 total-timeout으로 대신한다
+   * 커넥션 풀 지표 대신 내부 실행기 지표(executor.*{name=http2-업스트림})를 등록한다.
+   */
+  private ClientHttpRequestFactory createHttp2(String upstream, HttpClientProperties.Upstream settings) {
+    AtomicInteger threadIndex = new AtomicInteger();
+    ExecutorService executor = ExecutorServiceMetrics.monitor(meterRegistry,
+        Executors.newFixedThreadPool(settings.getMaxConnections(), r -> {
+          Thread thread = new Thread(r, "http2-" + upstream + "-" + threadIndex.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        }), "http2-" + upstream, Tags.of("upstream", upstream));
+    HttpClient httpClient = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_2)
+        .connectTimeout(settings.getConnectTimeout())
+        .executor(executor)
+        .build();
+    resources.add(() -> {
+      // JDK 21부터 HttpClient가 AutoCloseable (17에서는 실행기 종료로 스레드만 정리)
+      if (httpClient instanceof AutoCloseable closeable) {
+        closeable.close();
+      }
+      executor.shutdownNow();
+    });
+
+    JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient);
+    // JDK HttpClient의 요청 타임아웃은 응답 헤더 수신까지의 전체 시간
+    factory.setReadTimeout(settings.getTotalTimeout());
+    return factory;
+  }
+
+  // 대기 중인 데드라인 작업 수 (완료된 요청의 작업이 남지 않는지 확인용)
+  int pendingDeadlines() {
+    return deadlineScheduler.getQueue().size();
+  }
+
+  @Override
+  public void destroy() {
+    deadlineScheduler.shutdownNow();
+    for (AutoCloseable resource : resources) {
+      try {
+        resource.close();
+      } catch (Exception e) {
+        log.warn("HTTP 클라이언트 종료 중 오류 발생: {}", e.getMessage());
+      }
+    }
+  }
+
+  /**
+   * 요청 전체 데드라인이 지나면 진행 중인 요청을 취소한다.
+   * 데드라인 작업은 실행 시점에 예약하고 응답을 닫을 때(또는 실행 실패 시) 취소해, 끝난 요청이 스케줄러 큐에 남지 않게 한다.
+   * 호출 스레드에 CancellationScope가 있으면 요청을 등록해 호출 측(헤지 번역)이 직접 취소할 수 있게 한다.
+   */
+  private class DeadlineRequestFactory extends HttpComponentsClientHttpRequestFactory {
+
+    private final long totalTimeoutMillis;
+    // createRequest → createHttpUriRequest는 같은 스레드에서 이어서 호출되므로 만든 요청을 넘겨받는 용도
+    private final ThreadLocal<HttpUriRequestBase> created = new ThreadLocal<>();
+
+    DeadlineRequestFactory(CloseableHttpClient httpClient, long totalTimeoutMillis) {
+      super(httpClient);
+      this.totalTimeoutMillis = totalTimeoutMillis;
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+      ClientHttpRequest request;
+      HttpUriRequestBase httpRequest;
+      try {
+        request = super.createRequest(uri, httpMethod);
+        httpRequest = created.get();
+      } finally {
+        created.remove();
+      }
+      if (httpRequest == null || totalTimeoutMillis <= 0) {
+        return request;
+      }
+      return new DeadlineRequest(request, httpRequest, totalTimeoutMillis);
+    }
+
+    @Override
+    protected ClassicHttpRequest createHttpUriRequest(HttpMethod httpMethod, URI uri) {
+      ClassicHttpRequest request = super.createHttpUriRequest(httpMethod, uri);
+      if (request instanceof HttpUriRequestBase cancellable) {
+        CancellationScope.register(cancellable);
+        created.set(cancellable);
+      }
+      return request;
+    }
+  }
+
+  private class DeadlineRequest implements ClientHttpRequest {
+
+    private final ClientHttpRequest delegate;
+    private final HttpUriRequestBase httpRequest;
+    private final long totalTimeoutMillis;
+
+    DeadlineRequest(ClientHttpRequest delegate, HttpUriRequestBase httpRequest, long totalTimeoutMillis) {
+      this.delegate = delegate;
+      this.httpRequest = httpRequest;
+      this.totalTimeoutMillis = totalTimeoutMillis;
+    }
+
+    @Override
+    public ClientHttpResponse execute() throws IOException {
+      ScheduledFuture<?> deadline =
+          deadlineScheduler.schedule(httpRequest::cancel, totalTimeoutMillis, TimeUnit.MILLISECONDS);
+      try {
+        return new DeadlineResponse(delegate.execute(), deadline);
+      } catch (IOException | RuntimeException e) {
+        deadline.cancel(false);
+        throw e;
+      }
+    }
+
+    @Override
+    public OutputStream getBody() throws IOException {
+      return delegate.getBody();
+    }
+
+    @Override
+    public HttpMethod getMethod() {
+      return delegate.getMethod();
+    }
+
+    @Override
+    public URI getURI() {
+      return delegate.getURI();
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+      return delegate.getHeaders();
+    }
+
+    @Override
+    public Map<String, Object> getAttributes() {
+      return delegate.getAttributes();
+    }
+  }
+
+  /**
+   * 본문을 다 읽은 뒤 닫히는 시점까지 데드라인을 유지하고, 닫히면 데드라인 작업을 취소
+   */
+  private static class DeadlineResponse implements ClientHttpResponse {
+
+    private final ClientHttpResponse delegate;
+    private final ScheduledFuture<?> deadline;
+
+    DeadlineResponse(ClientHttpResponse delegate, ScheduledFuture<?> deadline) {
+      this.delegate = delegate;
+      this.deadline = deadline;
+    }
+
+    @Override
+    public HttpStatusCode getStatusCode() throws IOException {
+      return delegate.getStatusCode();
+    }
+
+    @Override
+    public String getStatusText() throws IOException {
+      return delegate.getStatusText();
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+      return delegate.getHeaders();
+    }
+
+    @Override
+    public InputStream getBody() throws IOException {
+      return delegate.getBody();
+    }
+
+    @Override
+    public void close() {
+      try {
+        delegate.close();
+      } finally {
+        deadline.cancel(false);
+      }
+    }
+  }
+
+  /**
+   * 풀 대기 시간을 Timer로 기록하는 커넥션 매니저
+   */
+  static class TimedConnectionManager extends PoolingHttpClientConnectionManager {
+
+    private final Timer waitTimer;
+
+    TimedConnectionManager(Timer waitTimer) {
+      this.waitTimer = waitTimer;
+    }
+
+    @Override
+    public LeaseRequest lease(String id, HttpRoute route, Timeout requestTimeout, Object state) {
+      LeaseRequest delegate = super.lease(id, route, requestTimeout, state);
+      long start = System.nanoTime();
+      return new LeaseRequest() {
+        @Override
+        public ConnectionEndpoint get(Timeout timeout)
+            throws InterruptedException, ExecutionException, TimeoutException {
+          try {
+            return delegate.get(timeout);
+          } finally {
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+          }
+        }
+
+        @Override
+        public boolean cancel() {
+          return delegate.cancel();
+        }
+      };
+    }
+  }
+}
@@ -0,0 +1,69 @@
+package com.example.news.controller;
+
+import com.example.news.dto.SummaryJobResponse;
+import com.example.news.dto.SummaryResponse;
+import com.example.news.exception.ErrorResponse;
+import com.example.news.service.SummaryProgressListener;
+import java.io.IOException;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 요약 파이프라인 단계를 SSE 이벤트로 내보낸다.
+ * 클라이언트 연결이 끊겨도 파이프라인(저장 포함)은 계속 진행된다.
+ */
+class SseSummaryProgressListener implements SummaryProgressListener {
+
+  private static final Logger log = LoggerFactory.getLogger(SseSummaryProgressListener.class);
+
+  private final SseEmitter emitter;
+
+  SseSummaryProgressListener(SseEmitter emitter) {
+    this.emitter = emitter;
+  }
+
+  @Override
+  public void onAccepted(SummaryJobResponse job) {
+    send("accepted", job);
+  }
+
+  @Override
+  public void onEnglishSummary(String englishSummary) {
+    send("summary.english", Map.of("summaryText", englishSummary));
+  }
+
+  @Override
+  public void onKoreanSummary(String koreanSummary) {
+    send("summary.korean", Map.of("summaryText", koreanSummary));
+  }
+
+  @Override
+  public void onPersisted(SummaryResponse summary) {
+    send("persisted", summary);
+    emitter.complete();
+  }
+
+  @Override
+  public void onFailed(String message) {
+    fail(HttpStatus.INTERNAL_SERVER_ERROR, message);
+  }
+
+  /**
+   * error 이벤트를 보내고 스트림을 닫는다 (작업 등록 전 거절 포함)
+   */
+  void fail(HttpStatus status, String message) {
+    send("error", new ErrorResponse(status.value(), message));
+    emitter.complete();
+  }
+
+  private void send(String eventName, Object data) {
+    try {
+      emitter.send(SseEmitter.event().name(eventName).data(data));
+    } catch (IOException | IllegalStateException e) {
+      log.debug("SSE 이벤트 전송 실패 - event: {}, 원인: {}", eventName, e.getMessage());
+    }
+  }
+}
@@ -1,38 +1,147 @@
 package com.example.news.controller;
 
+import com.example.news.admission.BatchAdmission;
+import com.example.news.dto.SearchRequest;
+import com.example.news.dto.SummaryBatchRequest;
+import com.example.news.dto.SummaryBatchResponse;
+import com.example.news.dto.SummaryJobResponse;
 import com.example.news.dto.SummaryRequest;
 import com.example.news.dto.SummaryResponse;
+import com.example.news.dto.SummarySearchResponse;
+import com.example.news.dto.ai.AISearchRequest;
+import com.example.news.dto.ai.AISearchResponse;
+import com.example.news.exception.TooManyRequestsException;
+import com.example.news.service.SummaryJobService;
 import com.example.news.service.SummaryService;
+import com.example.news.service.impl.ExtractiveSummarizationEngine;
+import java.net.URI;
+import java.time.Duration;
+import java.time.ZoneOffset;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/v1/summaries")
 @RequiredArgsConstructor
 public class SummaryController {
 
+  // 요약(최대 30초) + 번역(최대 30초) + 여유
+  private static final long STREAM_TIMEOUT_MILLIS = 90_000L;
+
   private final SummaryService summaryService;
+  private final SummaryJobService summaryJobService;
+
+  @Value("${summary.http-cache.max-age:PT1H}")
+  private Duration httpCacheMaxAge;
+
+  @Value("${summary.http-cache.public:false}")
+  private boolean httpCachePublic;
 
   @PostMapping
   public ResponseEntity<SummaryResponse> createSummary(@RequestBody SummaryRequest request) {
     return ResponseEntity.ok(summaryService.createSummary(request));
   }
 
+  @PostMapping("/batch")
+  public ResponseEntity<SummaryBatchResponse> createSummaries(@RequestBody SummaryBatchRequest request,
+      @RequestAttribute(name = BatchAdmission.ATTRIBUTE, required = false) BatchAdmission admission) {
+    return ResponseEntity.ok(summaryService.createSummaries(request.getItems(),
+        admission != null ? admission : BatchAdmission.UNLIMITED));
+  }
+
+  /**
+   * 단계별 진행 이벤트 스트리밍 (accepted → summary.english → summary.korean → persisted)
+   * 작업 대기열이 가득 차면 429 + Retry-After 와 error 이벤트 하나로 응답한다
+   * (text/event-stream 핸들러라 JSON 오류 본문을 쓰는 예외 처리기로 넘기지 않는다).
+   */
+  @PostMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public ResponseEntity<SseEmitter> streamSummary(@RequestBody SummaryRequest request) {
+    SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MILLIS);
+    SseSummaryProgressListener listener = new SseSummaryProgressListener(emitter);
+    try {
+      summaryJobService.submit(request, listener);
+    } catch (TooManyRequestsException e) {
+      listener.fail(HttpStatus.TOO_MANY_REQUESTS, e.getMessage());
+      return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+          .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+          .body(emitter);
+    }
+    return ResponseEntity.ok(emitter);
+  }
+
+  @PostMapping("/jobs")
+  public ResponseEntity<SummaryJobResponse> createSummaryJob(@RequestBody SummaryRequest request) {
+    SummaryJobResponse job = summaryJobService.submit(request);
+    return ResponseEntity.accepted()
+        .location(URI.create("/api/v1/summaries/jobs/" + job.getJobId()))
+        .body(job);
+  }
+
+  @GetMapping("/jobs/{jobId}")
+  public ResponseEntity<SummaryJobResponse> getSummaryJob(@PathVariable String jobId) {
+    return ResponseEntity.ok(summaryJobService.getJob(jobId));
+  }
+
   @PostMapping("/search")
-  public ResponseEntity<SummaryResponse> searchSummary(@RequestBody SummaryRequest request) {
+  public ResponseEntity<SummarySearchResponse> searchSummary(@RequestBody SearchRequest request) {
     return ResponseEntity.ok(summaryService.searchSummary(request));
   }
 
+  @PostMapping("/search/semantic")
+  public ResponseEntity<AISearchResponse> semanticSearch(@RequestBody AISearchRequest request) {
+    return ResponseEntity.ok(summaryService.semanticSearch(request));
+  }
+
+  /**
+   * 요약은 저장 후 (추출 요약의 원격 요약 교체 외에는) 바뀌지 않으므로 강한 ETag + Cache-Control로 조건부 GET(304)을 지원한다
+   */
   @GetMapping("/{summaryId}")
-  public ResponseEntity<SummaryResponse> getSummary(@PathVariable Long summaryId) {
-    return ResponseEntity.ok(summaryService.getSummary(summaryId));
+  public ResponseEntity<SummaryResponse> getSummary(@PathVariable Long summaryId,
+      @RequestParam(defaultValue = "true") boolean includeOriginal,
+      WebRequest webRequest) {
+    // ETag는 id/생성 시각/엔진만으로 정해지므로 원문 없이 먼저 비교하고, 304면 원문을 읽거나 풀지 않는다
+    SummaryResponse summary = summaryService.getSummary(summaryId, false);
+    String etag = etag(summary, includeOriginal);
+    CacheControl cacheControl = summaryCacheControl(summary);
+    if (webRequest.checkNotModified(etag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+    }
+    SummaryResponse body = includeOriginal ? summaryService.getSummary(summaryId, true) : summary;
+    return ResponseEntity.ok().eTag(etag).cacheControl(cacheControl).body(body);
+  }
+
+  // id + 생성 시각 + 요약 엔진 + 표현 종류 (원문 포함 여부에 따라 본문이 다르므로 구분)
+  // 추출 요약이 원격 요약으로 교체되면 엔진이 바뀌어 ETag도 달라진다
+  private String etag(SummaryResponse summary, boolean includeOriginal) {
+    long createdAt = summary.getCreatedAt() != null
+        ? summary.getCreatedAt().toInstant(ZoneOffset.UTC).toEpochMilli() : 0L;
+    String engine = summary.getEngine() != null ? "-" + summary.getEngine() : "";
+    return "\"" + summary.getId() + "-" + Long.toHexString(createdAt) + engine + (includeOriginal ? "-o" : "-s") + "\"";
+  }
+
+  private CacheControl summaryCacheControl(SummaryResponse summary) {
+    // 추출 요약은 곧 원격 요약으로 교체될 수 있으므로 매번 ETag로 재검증 (교체 전까지는 304)
+    CacheControl cacheControl = ExtractiveSummarizationEngine.NAME.equals(summary.getEngine())
+        ? CacheControl.noCache()
+        : CacheControl.maxAge(httpCacheMaxAge);
+    // 회원 전용 리소스이므로 기본은 브라우저 캐시만 허용 (CDN이 인증별로 캐시 키를 나눌 때만 public)
+    return httpCachePublic ? cacheControl.cachePublic() : cacheControl.cachePrivate();
   }
 
   @DeleteMapping("/{summaryId}")
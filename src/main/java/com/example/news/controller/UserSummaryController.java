@@ -0,0 +1,28 @@
+package com.example.news.controller;
+
+import com.example.news.dto.SummaryHistoryResponse;
+import com.example.news.service.SummaryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/users/me/summaries")
+@RequiredArgsConstructor
+public class UserSummaryController {
+
+  private final SummaryService summaryService;
+
+  /**
+   * 내 요약 이력 (최신순, 키셋 페이지네이션)
+   */
+  @GetMapping
+  public ResponseEntity<SummaryHistoryResponse> getMySummaries(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") int size) {
+    return ResponseEntity.ok(summaryService.getMySummaries(cursor, size));
+  }
+}
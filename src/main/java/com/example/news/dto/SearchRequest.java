@@ -7,4 +7,7 @@ import lombok.Setter;
 @Setter
 public class SearchRequest {
   private String originalText;
+  // 0부터 시작
+  private int page = 0;
+  private int size = 10;
 }
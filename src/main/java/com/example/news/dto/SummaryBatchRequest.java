@@ -0,0 +1,11 @@
+package com.example.news.dto;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class SummaryBatchRequest {
+  private List<SummaryRequest> items;
+}
@@ -0,0 +1,26 @@
+package com.example.news.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+public class SummaryBatchResponse {
+  private int total;
+  private int succeeded;
+  private int failed;
+  private List<Item> results;
+
+  @Getter
+  @Setter
+  @Builder
+  public static class Item {
+    // 요청 items 내 순서
+    private int index;
+    private SummaryResponse summary;
+    private String error;
+  }
+}
@@ -0,0 +1,28 @@
+package com.example.news.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+public class SummaryHistoryResponse {
+  private List<Item> items;
+  private int size;
+  private boolean hasNext;
+  // 다음 페이지 요청 시 cursor 파라미터로 그대로 전달 (마지막 페이지면 null)
+  private String nextCursor;
+
+  @Getter
+  @Setter
+  @Builder
+  public static class Item {
+    private Long id;
+    private LocalDateTime createdAt;
+    // 요약문 앞부분
+    private String preview;
+  }
+}
@@ -0,0 +1,18 @@
+package com.example.news.dto;
+
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+public class SummaryJobResponse {
+  private String jobId;
+  private SummaryJobStatus status;
+  private SummaryResponse result;
+  private String error;
+  private LocalDateTime createdAt;
+  private LocalDateTime completedAt;
+}
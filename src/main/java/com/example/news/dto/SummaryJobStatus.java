@@ -0,0 +1,8 @@
+package com.example.news.dto;
+
+public enum SummaryJobStatus {
+  QUEUED,
+  RUNNING,
+  SUCCEEDED,
+  FAILED
+}
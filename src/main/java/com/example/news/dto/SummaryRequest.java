@@ -8,4 +8,6 @@ import lombok.Setter;
 public class SummaryRequest {
   private String originalText;
 
+  // 비동기 작업 완료 시 결과를 POST로 받을 URL (선택)
+  private String callbackUrl;
 }
@@ -1,5 +1,6 @@
 package com.example.news.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.time.LocalDateTime;
 import lombok.Builder;
 import lombok.Getter;
@@ -8,9 +9,14 @@ import lombok.Setter;
 @Getter
 @Setter
 @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class SummaryResponse {
   private Long id;
   private String originalText;
   private String summaryText;
   private LocalDateTime createdAt;
+  // 요약 엔진 (extractive/remote)
+  private String engine;
+  // true면 추출 요약을 먼저 반환한 것으로, 원격 요약이 끝나면 같은 id의 요약문이 교체된다
+  private Boolean provisional;
 }
@@ -0,0 +1,27 @@
+package com.example.news.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+public class SummarySearchResponse {
+  private String query;
+  private int page;
+  private int size;
+  private long totalHits;
+  private List<Hit> hits;
+
+  @Getter
+  @Setter
+  @Builder
+  public static class Hit {
+    private Long id;
+    // 요약문 앞부분
+    private String summaryText;
+    private double score;
+  }
+}
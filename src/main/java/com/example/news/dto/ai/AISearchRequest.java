@@ -1,10 +1,14 @@
 package com.example.news.dto.ai;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class AISearchRequest {
   private String query;
   private String language;
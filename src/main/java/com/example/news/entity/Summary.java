@@ -1,14 +1,20 @@
 package com.example.news.entity;
 
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.ForeignKey;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
@@ -18,26 +24,62 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "summaries")
+@Table(name = "summaries", indexes = {
+    @Index(name = "idx_summary_content_hash", columnList = "content_hash"),
+    // 사용자별 이력 키셋 페이지네이션 (user_id 동등 조건 + (created_at, id) 범위 스캔)
+    @Index(name = "idx_summary_user_created", columnList = "user_id, created_at, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Summary {
-  @Id 
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  public static final String ID_SEQUENCE = "summary_seq";
+  public static final int ID_ALLOCATION_SIZE = 50;
+
+  // IDENTITY는 INSERT마다 키를 받아와야 해서 JDBC 배치가 꺼지므로 pooled 시퀀스 사용
+  // (시퀀스가 없는 MySQL에서는 summary_seq 테이블로 에뮬레이션, 50개씩 미리 할당)
+  // IDENTITY 시절 행이 있는 DB는 기동 시 SummaryIdSequenceSeeder가 시퀀스를 max(id) 뒤로 맞춘다
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+  @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
   private Long id;
 
   @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "user_id", foreignKey = @ForeignKey(name = "fk_summary_user"))
   private User user; // 비회원일 경우 null
 
-  @Lob
-  private String originalText;
+  // 기사 원문은 별도 테이블에 압축 저장, 필요할 때만 로딩
+  @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+  @JoinColumn(name = "article_id", foreignKey = @ForeignKey(name = "fk_summary_article"))
+  private SummaryArticle article;
 
   @Lob
   private String summaryText;
 
+  // 정규화된 originalText의 SHA-256 (요약 캐시 2차 조회 키)
+  @Column(name = "content_hash", length = 64)
+  private String contentHash;
+
+  // 요약을 만든 엔진 (extractive/remote), 캐시 적중으로 만든 행은 null
+  @Column(name = "summary_engine", length = 32)
+  private String summaryEngine;
+
+  @Column(name = "created_at")
   private LocalDateTime createdAt;
+
+  /**
+   * 원문 (지연 로딩 + 압축 해제가 일어나므로 트랜잭션 안에서만 호출)
+   */
+  public String getOriginalText() {
+    return article != null ? article.getText() : null;
+  }
+
+  @PrePersist
+  void onCreate() {
+    if (createdAt == null) {
+      createdAt = LocalDateTime.now();
+    }
+  }
 }
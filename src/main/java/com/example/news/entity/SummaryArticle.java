@@ -0,0 +1,51 @@
+package com.example.news.entity;
+
+import com.example.news.util.ArticleCodec;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.nio.charset.StandardCharsets;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 요약 대상 기사 원문 (summaries와 분리된 테이블, 압축 저장)
+ * 요약 목록/단건 조회가 원문 LOB 페이지를 건드리지 않도록 Summary에서 지연 로딩한다.
+ */
+@Entity
+@Table(name = "summary_articles")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SummaryArticle {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "summary_article_seq")
+  @SequenceGenerator(name = "summary_article_seq", sequenceName = "summary_article_seq", allocationSize = 50)
+  private Long id;
+
+  // [코덱 1바이트][본문] (ArticleCodec 참고)
+  @Lob
+  @Column(name = "body", nullable = false)
+  private byte[] body;
+
+  // 압축 전 UTF-8 바이트 수 (압축 해제 버퍼 크기 + 손상 검사)
+  @Column(name = "original_length", nullable = false)
+  private int originalLength;
+
+  public static SummaryArticle of(String text) {
+    SummaryArticle article = new SummaryArticle();
+    article.body = ArticleCodec.encode(text);
+    article.originalLength = text.getBytes(StandardCharsets.UTF_8).length;
+    return article;
+  }
+
+  public String getText() {
+    return ArticleCodec.decode(body, originalLength);
+  }
+}
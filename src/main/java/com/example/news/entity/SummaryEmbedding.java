@@ -0,0 +1,61 @@
+package com.example.news.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 요약문 임베딩 벡터 (의미 검색 인덱스 재구성 시 다시 임베딩하지 않도록 생성 시 저장)
+ * 제공자/차원이 바뀌었거나 요약문이 바뀐 행(source_hash 불일치)은 재구성 때 다시 임베딩한다.
+ */
+@Entity
+@Table(name = "summary_embeddings")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SummaryEmbedding {
+
+  @Id
+  @Column(name = "summary_id")
+  private Long summaryId;
+
+  // EmbeddingProvider.name()
+  @Column(name = "provider", length = 32, nullable = false)
+  private String provider;
+
+  @Column(name = "dimension", nullable = false)
+  private int dimension;
+
+  // TextNormalizer.contentHash(임베딩한 요약문)
+  @Column(name = "source_hash", length = 64, nullable = false)
+  private String sourceHash;
+
+  // float32 little-endian, dimension * 4 바이트
+  @Lob
+  @Column(name = "vector", nullable = false)
+  private byte[] vector;
+
+  public static SummaryEmbedding of(Long summaryId, String provider, String sourceHash, float[] vector) {
+    SummaryEmbedding embedding = new SummaryEmbedding();
+    embedding.summaryId = summaryId;
+    embedding.provider = provider;
+    embedding.dimension = vector.length;
+    embedding.sourceHash = sourceHash;
+    ByteBuffer buffer = ByteBuffer.allocate(vector.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    buffer.asFloatBuffer().put(vector);
+    embedding.vector = buffer.array();
+    return embedding;
+  }
+
+  public float[] getVectorValues() {
+    float[] values = new float[dimension];
+    ByteBuffer.wrap(vector).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(values);
+    return values;
+  }
+}
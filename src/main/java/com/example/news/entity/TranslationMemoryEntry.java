@@ -0,0 +1,77 @@
+package com.example.news.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 문장 단위 번역 메모리 (정규화된 영어 문장 해시 → 한국어 번역)
+ * 키를 직접 지정하므로 Persistable로 새 엔티티임을 알려 save 전 SELECT(merge)를 생략한다.
+ */
+@Entity
+@Table(name = "translation_memory")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TranslationMemoryEntry implements Persistable<String> {
+
+  // TextNormalizer.contentHash(원문 문장)
+  @Id
+  @Column(name = "source_hash", length = 64)
+  private String sourceHash;
+
+  @Lob
+  @Column(name = "translated_text", nullable = false)
+  private String translatedText;
+
+  // 번역한 업스트림 (libretranslate/mymemory)
+  @Column(name = "provider", length = 32)
+  private String provider;
+
+  @Column(name = "created_at")
+  private LocalDateTime createdAt;
+
+  @Transient
+  private boolean isNew = true;
+
+  public static TranslationMemoryEntry of(String sourceHash, String translatedText, String provider) {
+    TranslationMemoryEntry entry = new TranslationMemoryEntry();
+    entry.sourceHash = sourceHash;
+    entry.translatedText = translatedText;
+    entry.provider = provider;
+    return entry;
+  }
+
+  @Override
+  public String getId() {
+    return sourceHash;
+  }
+
+  @Override
+  public boolean isNew() {
+    return isNew;
+  }
+
+  @PrePersist
+  void onCreate() {
+    if (createdAt == null) {
+      createdAt = LocalDateTime.now();
+    }
+  }
+
+  @PostLoad
+  @PostPersist
+  void markNotNew() {
+    isNew = false;
+  }
+}
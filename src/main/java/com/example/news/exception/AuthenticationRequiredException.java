@@ -0,0 +1,8 @@
+package com.example.news.exception;
+
+public class AuthenticationRequiredException extends RuntimeException {
+  public AuthenticationRequiredException(String message) {
+    super(message);
+  }
+
+}
@@ -0,0 +1,8 @@
+package com.example.news.exception;
+
+public class SummaryJobNotFoundException extends RuntimeException {
+  public SummaryJobNotFoundException(String jobId) {
+    super("해당 요약 작업을 찾을 수 없습니다. : " + jobId);
+  }
+
+}
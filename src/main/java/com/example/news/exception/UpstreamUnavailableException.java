@@ -0,0 +1,23 @@
+package com.example.news.exception;
+
+/**
+ * 서킷 브레이커가 열려 있거나 동시 실행 한도를 넘어 업스트림 호출을 즉시 거절한 경우
+ */
+public class UpstreamUnavailableException extends AIServiceException {
+  private final String upstream;
+  private final long retryAfterSeconds;
+
+  public UpstreamUnavailableException(String upstream, long retryAfterSeconds) {
+    super("외부 AI 서비스를 일시적으로 사용할 수 없습니다. : " + upstream);
+    this.upstream = upstream;
+    this.retryAfterSeconds = retryAfterSeconds;
+  }
+
+  public String getUpstream() {
+    return upstream;
+  }
+
+  public long getRetryAfterSeconds() {
+    return retryAfterSeconds;
+  }
+}
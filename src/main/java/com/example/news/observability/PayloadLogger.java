@@ -0,0 +1,40 @@
+package com.example.news.observability;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 업스트림 요청/응답 본문 디버그 로그 (전용 로거 + 표본 추출)
+ * logging.level.com.example.news.payload=DEBUG 일 때만, 호출의 일부(sample-rate)만 잘라서 남긴다.
+ * 본문 문자열은 기록할 때만 만든다. 인증 토큰은 기록하지 않는다.
+ */
+@Component
+public class PayloadLogger {
+
+  private static final Logger log = LoggerFactory.getLogger("com.example.news.payload");
+
+  private final double sampleRate;
+  private final int maxChars;
+
+  public PayloadLogger(
+      @Value("${logging.payload.sample-rate:0.01}") double sampleRate,
+      @Value("${logging.payload.max-chars:2000}") int maxChars) {
+    this.sampleRate = sampleRate;
+    this.maxChars = maxChars;
+  }
+
+  public void log(String upstream, String label, Supplier<String> payload) {
+    if (!log.isDebugEnabled() || ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+      return;
+    }
+    String body = payload.get();
+    if (body != null && body.length() > maxChars) {
+      body = body.substring(0, maxChars) + "...(" + body.length() + " chars)";
+    }
+    log.debug("[{}] {}: {}", upstream, label, body);
+  }
+}
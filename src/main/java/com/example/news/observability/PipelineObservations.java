@@ -0,0 +1,93 @@
+package com.example.news.observability;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * AI 파이프라인 단계별 계측
+ * 단계마다 Observation 하나를 만들어 타이머(ai.pipeline.stage, stage/provider/error 태그)와
+ * 트레이싱 span을 함께 남긴다. 같은 요청의 단계 span은 현재 Observation(HTTP 요청/작업)의 하위로 연결된다.
+ */
+@Component
+public class PipelineObservations {
+
+  public static final String NORMALIZE = "normalize";
+  public static final String DETECT_LANGUAGE = "detect.language";
+  // 요약 경로 전체 (provider 태그 = 경로 이름, 경로별 지연/호출 수)
+  public static final String ROUTE = "route";
+  public static final String SUMMARIZE = "summarize";
+  public static final String SUMMARIZE_BATCH = "summarize.batch";
+  public static final String TRANSLATE = "translate";
+  public static final String PERSIST = "persist";
+
+  private static final String STAGE_OBSERVATION = "ai.pipeline.stage";
+  private static final String NO_PROVIDER = "none";
+
+  private final ObservationRegistry observationRegistry;
+  private final MeterRegistry meterRegistry;
+
+  public PipelineObservations(ObservationRegistry observationRegistry, MeterRegistry meterRegistry) {
+    this.observationRegistry = observationRegistry;
+    this.meterRegistry = meterRegistry;
+  }
+
+  public <T> T observe(String stage, Supplier<T> work) {
+    return observe(stage, NO_PROVIDER, work);
+  }
+
+  /**
+   * 단계 실행 + 소요 시간/span 기록 (실패하면 원인별 카운터 증가 후 그대로 던진다)
+   */
+  public <T> T observe(String stage, String provider, Supplier<T> work) {
+    Observation observation = Observation.createNotStarted(STAGE_OBSERVATION, observationRegistry)
+        .contextualName("ai." + stage)
+        .lowCardinalityKeyValue("stage", stage)
+        .lowCardinalityKeyValue("provider", provider);
+    try {
+      return observation.observe(work);
+    } catch (RuntimeException e) {
+      failure(stage, e);
+      throw e;
+    }
+  }
+
+  /**
+   * 기본 경로 대신 대체 경로를 탄 경우 (예: 2차 번역 업스트림, 번역 없이 영어 반환)
+   */
+  public void fallback(String stage, String reason) {
+    Counter.builder("ai.pipeline.fallbacks")
+        .description("단계별 대체 경로 사용 횟수")
+        .tag("stage", stage)
+        .tag("reason", reason)
+        .register(meterRegistry)
+        .increment();
+  }
+
+  /**
+   * 입력 일부만 처리한 경우 (예: 축소 단계 한도 초과로 첫 청크만 요약)
+   */
+  public void truncation(String stage) {
+    Counter.builder("ai.pipeline.truncations")
+        .description("단계별 입력 절단 횟수")
+        .tag("stage", stage)
+        .register(meterRegistry)
+        .increment();
+  }
+
+  private void failure(String stage, Throwable cause) {
+    if (Thread.currentThread().isInterrupted()) {
+      // 헤지에서 진 요청 취소 등은 실패로 세지 않는다
+      return;
+    }
+    Counter.builder("ai.pipeline.failures")
+        .description("단계별/원인별 실패 횟수")
+        .tag("stage", stage)
+        .tag("cause", cause.getClass().getSimpleName())
+        .register(meterRegistry)
+        .increment();
+  }
+}
@@ -0,0 +1,18 @@
+package com.example.news.repository;
+
+import com.example.news.util.ArticleCodec;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 저장된 기사 원문 (ArticleCodec 포맷 바이트 + 압축 전 UTF-8 바이트 수), 단건 조회 캐시에 압축된 채로 담는다
+ */
+public record ArticleBody(byte[] body, int originalLength) {
+
+  public static ArticleBody of(String text) {
+    return new ArticleBody(ArticleCodec.encode(text), text.getBytes(StandardCharsets.UTF_8).length);
+  }
+
+  public String text() {
+    return ArticleCodec.decode(body, originalLength);
+  }
+}
@@ -0,0 +1,7 @@
+package com.example.news.repository;
+
+import com.example.news.entity.SummaryEmbedding;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface SummaryEmbeddingRepository extends JpaRepository<SummaryEmbedding, Long> {
+}
@@ -0,0 +1,12 @@
+package com.example.news.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 요약 이력 목록용 프로젝션 (원문 LOB 제외, 요약문은 앞부분만)
+ */
+public interface SummaryHistoryEntry {
+  Long getId();
+  LocalDateTime getCreatedAt();
+  String getPreview();
+}
@@ -0,0 +1,11 @@
+package com.example.news.repository;
+
+/**
+ * 검색 인덱스 재구성용 프로젝션 (원문 LOB 제외)
+ */
+public interface SummaryIndexEntry {
+  Long getId();
+  // 비회원 요약이면 null
+  Long getUserId();
+  String getSummaryText();
+}
@@ -1,11 +1,67 @@
 package com.example.news.repository;
 
 import com.example.news.entity.Summary;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface SummaryRepository extends JpaRepository<Summary, Long> {
 
   Page<Summary> findByUserId(Long userId, Pageable pageable);
+
+  // 원문 LOB은 읽지 않고 요약문과 요약 엔진만 조회
+  @Query("select s.summaryText as summaryText, s.summaryEngine as summaryEngine"
+      + " from Summary s where s.contentHash = :contentHash order by s.id desc")
+  List<SummaryTextEntry> findSummaryTextByContentHash(@Param("contentHash") String contentHash, Limit limit);
+
+  // id 기준 키셋 순회 (검색 인덱스 재구성용)
+  @Transactional(readOnly = true)
+  @Query("select s.id as id, u.id as userId, s.summaryText as summaryText"
+      + " from Summary s left join s.user u where s.id > :afterId order by s.id")
+  List<SummaryIndexEntry> findIndexEntriesAfter(@Param("afterId") Long afterId, Limit limit);
+
+  // 압축된 원문 바이트와 원래 길이만 조회 (summaries 행의 다른 컬럼은 읽지 않음)
+  @Transactional(readOnly = true)
+  @Query("select new com.example.news.repository.ArticleBody(a.body, a.originalLength)"
+      + " from Summary s join s.article a where s.id = :summaryId")
+  Optional<ArticleBody> findArticleBySummaryId(@Param("summaryId") Long summaryId);
+
+  // 사용자 이력 첫 페이지 (idx_summary_user_created 역순 스캔)
+  @Transactional(readOnly = true)
+  @Query("select s.id as id, s.createdAt as createdAt, substring(s.summaryText, 1, 200) as preview"
+      + " from Summary s where s.user.id = :userId"
+      + " order by s.createdAt desc, s.id desc")
+  List<SummaryHistoryEntry> findHistory(@Param("userId") Long userId, Limit limit);
+
+  // 사용자 이력 다음 페이지: 커서 (createdAt, id) 보다 앞선 행부터 seek (OFFSET 없음)
+  @Transactional(readOnly = true)
+  @Query("select s.id as id, s.createdAt as createdAt, substring(s.summaryText, 1, 200) as preview"
+      + " from Summary s where s.user.id = :userId"
+      + " and (s.createdAt < :createdAt or (s.createdAt = :createdAt and s.id < :id))"
+      + " order by s.createdAt desc, s.id desc")
+  List<SummaryHistoryEntry> findHistoryBefore(@Param("userId") Long userId,
+      @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+  // 같은 본문을 특정 엔진으로 요약한 행 id (content_hash 인덱스)
+  // 방금 저장된 행도 찾아야 하므로 읽기 전용으로 두지 않는다 (복제본 라우팅 대상에서 제외)
+  @Transactional
+  @Query("select s.id from Summary s where s.contentHash = :contentHash and s.summaryEngine = :summaryEngine")
+  List<Long> findIdsByContentHashAndEngine(@Param("contentHash") String contentHash,
+      @Param("summaryEngine") String summaryEngine);
+
+  // 임시(추출) 요약을 원격 요약으로 교체, 이미 교체된 행은 건드리지 않는다
+  @Transactional
+  @Modifying
+  @Query("update Summary s set s.summaryText = :summaryText, s.summaryEngine = :toEngine"
+      + " where s.contentHash = :contentHash and s.summaryEngine = :fromEngine")
+  int upgradeSummaryText(@Param("contentHash") String contentHash, @Param("fromEngine") String fromEngine,
+      @Param("summaryText") String summaryText, @Param("toEngine") String toEngine);
 }
@@ -0,0 +1,9 @@
+package com.example.news.repository;
+
+/**
+ * 본문 해시 캐시용 프로젝션 (요약문 + 요약 엔진, 원문 LOB 제외)
+ */
+public interface SummaryTextEntry {
+  String getSummaryText();
+  String getSummaryEngine();
+}
@@ -0,0 +1,7 @@
+package com.example.news.repository;
+
+import com.example.news.entity.TranslationMemoryEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface TranslationMemoryRepository extends JpaRepository<TranslationMemoryEntry, String> {
+}
@@ -1,8 +1,10 @@
 package com.example.news.repository;
 
 import com.example.news.entity.User;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
+  Optional<User> findByProviderAndProviderId(String provider, String providerId);
 }
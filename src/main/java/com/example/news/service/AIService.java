@@ -12,6 +12,14 @@ public interface AIService {
    */
   SummaryResponse summarizeText(SummaryRequest request);
 
+  /**
+   * 본문 텍스트 요약 (단계별 진행 알림 포함)
+   * @param request 요약 요청 DTO
+   * @param listener 단계별 진행 알림 대상
+   * @return 응답 DTO
+   */
+  SummaryResponse summarizeText(SummaryRequest request, SummaryProgressListener listener);
+
   /**
    * 자연어 검색
    * @param request 검색 요청 DTO
@@ -0,0 +1,17 @@
+package com.example.news.service;
+
+public interface SummarizationEngine {
+
+  /**
+   * 엔진 이름 (지표 태그, 요약 행의 summary_engine 컬럼 값)
+   */
+  String name();
+
+  /**
+   * 본문 요약
+   * @param text 기사 원문
+   * @param listener 단계별 진행 알림 대상
+   * @return 요약문
+   */
+  String summarize(String text, SummaryProgressListener listener);
+}
@@ -0,0 +1,29 @@
+package com.example.news.service;
+
+import com.example.news.dto.SummaryJobResponse;
+import com.example.news.dto.SummaryRequest;
+
+public interface SummaryJobService {
+
+  /**
+   * 요약 작업 등록 (작업 큐가 가득 차면 TooManyRequestsException)
+   * @param request 요약 요청 DTO
+   * @return 등록된 작업 상태
+   */
+  SummaryJobResponse submit(SummaryRequest request);
+
+  /**
+   * 요약 작업 등록 (단계별 진행 알림 포함)
+   * @param request 요약 요청 DTO
+   * @param listener 단계별 진행 알림 대상
+   * @return 등록된 작업 상태
+   */
+  SummaryJobResponse submit(SummaryRequest request, SummaryProgressListener listener);
+
+  /**
+   * 요약 작업 상태 조회
+   * @param jobId 작업 ID
+   * @return 작업 상태 (완료 시 요약 결과 포함)
+   */
+  SummaryJobResponse getJob(String jobId);
+}
@@ -0,0 +1,44 @@
+package com.example.news.service;
+
+import com.example.news.dto.SummaryJobResponse;
+import com.example.news.dto.SummaryResponse;
+
+/**
+ * 요약 파이프라인 단계별 진행 알림 (스트리밍 응답용)
+ * 모든 콜백은 파이프라인 스레드에서 호출되므로 오래 블로킹하면 안 된다.
+ */
+public interface SummaryProgressListener {
+
+  SummaryProgressListener NONE = new SummaryProgressListener() {
+  };
+
+  /**
+   * 작업이 등록됨
+   */
+  default void onAccepted(SummaryJobResponse job) {
+  }
+
+  /**
+   * 영어 요약 생성 완료 (캐시 적중 시에는 호출되지 않음)
+   */
+  default void onEnglishSummary(String englishSummary) {
+  }
+
+  /**
+   * 한국어 요약 준비 완료 (저장 전)
+   */
+  default void onKoreanSummary(String koreanSummary) {
+  }
+
+  /**
+   * DB 저장 완료
+   */
+  default void onPersisted(SummaryResponse summary) {
+  }
+
+  /**
+   * 파이프라인 실패
+   */
+  default void onFailed(String message) {
+  }
+}
@@ -1,13 +1,26 @@
 package com.example.news.service;
 
+import com.example.news.admission.BatchAdmission;
+import com.example.news.dto.SummaryBatchResponse;
+import com.example.news.dto.SummaryHistoryResponse;
 import com.example.news.dto.SummaryRequest;
 import com.example.news.dto.SummaryResponse;
+import com.example.news.dto.SummarySearchResponse;
 import com.example.news.dto.SearchRequest;
+import com.example.news.dto.ai.AISearchRequest;
+import com.example.news.dto.ai.AISearchResponse;
+import java.util.List;
 
 public interface SummaryService {
 
   SummaryResponse createSummary(SummaryRequest request);
-  SummaryResponse searchSummary(SummaryRequest request);
+  SummaryResponse createSummary(SummaryRequest request, SummaryProgressListener listener);
+  SummaryBatchResponse createSummaries(List<SummaryRequest> requests);
+  SummaryBatchResponse createSummaries(List<SummaryRequest> requests, BatchAdmission admission);
+  SummarySearchResponse searchSummary(SearchRequest request);
+  AISearchResponse semanticSearch(AISearchRequest request);
+  SummaryHistoryResponse getMySummaries(String cursor, int size);
   SummaryResponse getSummary(Long summaryId);
+  SummaryResponse getSummary(Long summaryId, boolean includeOriginal);
   void deleteSummary(Long summaryId);
 }
@@ -0,0 +1,11 @@
+package com.example.news.service;
+
+public interface TranslationService {
+
+  /**
+   * 영어 텍스트를 한국어로 번역
+   * @param englishText 영어 원문
+   * @return 한국어 번역 (모든 업스트림이 실패하면 영어 원문)
+   */
+  String translateToKorean(String englishText);
+}
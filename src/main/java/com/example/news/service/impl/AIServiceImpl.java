@@ -6,22 +6,22 @@ import com.example.news.dto.ai.AISearchRequest;
 import com.example.news.dto.ai.AISearchResponse;
 import com.example.news.dto.ai.AISummaryRequest;
 import com.example.news.dto.ai.AISummaryResponse;
+import com.example.news.entity.User;
 import com.example.news.exception.AIServiceException;
+import com.example.news.observability.PipelineObservations;
 import com.example.news.service.AIService;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.news.service.SummaryProgressListener;
+import com.example.news.util.SingleFlight;
+import com.example.news.util.TextNormalizer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import java.time.LocalDateTime;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -29,8 +29,13 @@ import org.slf4j.LoggerFactory;
 @RequiredArgsConstructor
 public class AIServiceImpl implements AIService {
 
-  private final RestTemplate restTemplate;
-  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final RemoteSummarizationEngine remoteEngine;
+  private final ExtractiveSummarizationEngine extractiveEngine;
+  private final SummaryCache summaryCache;
+  private final SummarySearchIndex summarySearchIndex;
+  private final CurrentUserProvider currentUserProvider;
+  private final MeterRegistry meterRegistry;
+  private final PipelineObservations pipelineObservations;
   private static final Logger log = LoggerFactory.getLogger(AIServiceImpl.class);
 
   @Value("${ai.service.url}")
@@ -39,9 +44,28 @@ public class AIServiceImpl implements AIService {
   @Value("${ai.service.api-key}")
   private String apiKey;
 
-  @Value("${huggingface.api.token}")
-  private String apiToken;
-
+  // remote | local | local-then-remote
+  @Value("${summarizer.routing:remote}")
+  private String routingName;
+
+  // 원격 요약 실패(서킷 오픈 포함) 시 추출 요약으로 대신 응답
+  @Value("${summarizer.local-fallback:true}")
+  private boolean localFallback;
+
+  private SummarizationRouting routing;
+  private SingleFlight<String, EngineSummary> inFlightSummaries;
+
+  @PostConstruct
+  void init() {
+    this.routing = SummarizationRouting.from(routingName);
+    Counter coalescedWaiters = Counter.builder("ai.summarize.coalesced.waiters")
+        .description("진행 중인 동일 본문 요약에 합류한 대기 요청 수")
+        .register(meterRegistry);
+    this.inFlightSummaries = new SingleFlight<>(coalescedWaiters);
+    Gauge.builder("ai.summarize.in.flight", inFlightSummaries, SingleFlight::inFlightCount)
+        .description("진행 중인 고유 본문 요약 호출 수")
+        .register(meterRegistry);
+  }
 
 
 //  @Override
@@ -79,162 +103,97 @@ public class AIServiceImpl implements AIService {
 
   @Override
   public SummaryResponse summarizeText(SummaryRequest request) {
-    try {
-      // ✅ 토큰 상태 확인
-      log.info("API Token length: {}", apiToken != null ? apiToken.length() : 0);
-      log.info("API Token starts with: {}", apiToken != null ? apiToken.substring(0, Math.min(10, apiToken.length())) : "null");
-      
-      String originalText = request.getOriginalText().trim();
-
-      // ✅ 길이 제한 (1000자 이하)
-      if (originalText.length() > 1000) {
-        originalText = originalText.substring(0, 1000);
-      }
-
-      // ✅ 본문 구성
-      Map<String, Object> requestBody = new HashMap<>();
-      requestBody.put("inputs", originalText);
-
-      String json = objectMapper.writeValueAsString(requestBody);
-      log.info("Request body: {}", json);
-
-      // ✅ 헤더 설정
-      HttpHeaders headers = new HttpHeaders();
-      headers.setBearerAuth(apiToken);
-      headers.setContentType(MediaType.APPLICATION_JSON);
-      headers.setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
-
-      HttpEntity<String> entity = new HttpEntity<>(json, headers);
-
-      // ✅ 요약 요청
-      log.info("Calling HuggingFace API with token: {}", apiToken != null ? apiToken.substring(0, 10) + "..." : "null");
-
-      ResponseEntity<String> response = restTemplate.postForEntity(
-          "https://api-inference.huggingface.co/models/facebook/bart-large-cnn",
-          entity,
-          String.class
-      );
-
-      log.info("Response status: {}", response.getStatusCode());
-      log.info("Response body: {}", response.getBody());
-
-      JsonNode root = objectMapper.readTree(response.getBody());
-
-      if (root.isArray() && root.size() > 0 && root.get(0).has("summary_text")) {
-        String englishSummary = root.get(0).get("summary_text").asText();
+    return summarizeText(request, SummaryProgressListener.NONE);
+  }
 
-        // ✅ 영어 요약을 한글로 번역
-        String koreanSummary = translateToKorean(englishSummary);
+  @Override
+  public SummaryResponse summarizeText(SummaryRequest request, SummaryProgressListener listener) {
+    // ✅ 동일 본문 캐시 조회 (네트워크 호출 없이 반환)
+    String contentHash = pipelineObservations.observe(PipelineObservations.NORMALIZE,
+        () -> TextNormalizer.contentHash(request.getOriginalText()));
+    Optional<SummaryCache.CachedSummary> cachedSummary = summaryCache.get(contentHash);
+    if (cachedSummary.isPresent()) {
+      EngineSummary summary = fromCache(cachedSummary.get());
+      listener.onKoreanSummary(summary.text());
+      return toResponse(request, summary);
+    }
 
-        log.info("English summary: {}", englishSummary);
-        log.info("Korean summary: {}", koreanSummary);
+    // ✅ 같은 본문으로 진행 중인 요청이 있으면 그 결과를 공유
+    EngineSummary summary = inFlightSummaries.execute(contentHash,
+        () -> summaryCache.getLocal(contentHash)
+            .map(this::fromCache)
+            .orElseGet(() -> summarizeMiss(request.getOriginalText(), contentHash, listener)));
+    listener.onKoreanSummary(summary.text());
+    return toResponse(request, summary);
+  }
 
-        return SummaryResponse.builder()
-            .originalText(request.getOriginalText())
-            .summaryText(koreanSummary)
-            .createdAt(LocalDateTime.now())
-            .build();
-      } else {
-        throw new AIServiceException("AI 응답에 summary_text가 없습니다.");
-      }
+  // 캐시된 추출 요약은 (local 라우팅이 아니면) 아직 교체 전이므로 임시 요약으로 저장해 교체 대상에 넣는다
+  private EngineSummary fromCache(SummaryCache.CachedSummary cached) {
+    boolean provisional = ExtractiveSummarizationEngine.NAME.equals(cached.engine())
+        && routing != SummarizationRouting.LOCAL;
+    return new EngineSummary(cached.text(), cached.engine(), provisional);
+  }
 
-    } catch (Exception e) {
-      throw new AIServiceException("AI 요약 요청 중 오류 발생", e);
-    }
+  private SummaryResponse toResponse(SummaryRequest request, EngineSummary summary) {
+    return SummaryResponse.builder()
+        .originalText(request.getOriginalText())
+        .summaryText(summary.text())
+        .createdAt(LocalDateTime.now())
+        .engine(summary.engine())
+        .provisional(summary.provisional() ? Boolean.TRUE : null)
+        .build();
   }
 
   /**
-   * LibreTranslate API를 사용하여 영어를 한글로 번역
+   * 캐시 미스: 라우팅 정책에 따라 엔진 선택
    */
-  private String translateToKorean(String englishText) {
-    try {
-      // LibreTranslate API 요청 본문
-      Map<String, String> translateRequest = new HashMap<>();
-      translateRequest.put("q", englishText);
-      translateRequest.put("source", "en");
-      translateRequest.put("target", "ko");
-
-      String translateJson = objectMapper.writeValueAsString(translateRequest);
-      log.info("Translation request: {}", translateJson);
-
-      // 번역 API 헤더
-      HttpHeaders translateHeaders = new HttpHeaders();
-      translateHeaders.setContentType(MediaType.APPLICATION_JSON);
-
-      HttpEntity<String> translateEntity = new HttpEntity<>(translateJson, translateHeaders);
-
-      // LibreTranslate API 호출
-      ResponseEntity<String> translateResponse = restTemplate.postForEntity(
-          "https://libretranslate.de/translate",
-          translateEntity,
-          String.class
-      );
-
-      log.info("Translation response status: {}", translateResponse.getStatusCode());
-      log.info("Translation response body: {}", translateResponse.getBody());
-
-      // 번역 결과 파싱
-      JsonNode translateRoot = objectMapper.readTree(translateResponse.getBody());
-      if (translateRoot.has("translatedText")) {
-        return translateRoot.get("translatedText").asText();
-      } else {
-        log.warn("번역 응답에 translatedText가 없습니다. 원본 영어 텍스트를 반환합니다.");
-        return englishText;
-      }
+  private EngineSummary summarizeMiss(String text, String contentHash, SummaryProgressListener listener) {
+    EngineSummary summary = switch (routing) {
+      case LOCAL -> new EngineSummary(extractiveEngine.summarize(text, listener), extractiveEngine.name(), false);
+      case LOCAL_THEN_REMOTE ->
+          new EngineSummary(extractiveEngine.summarize(text, listener), extractiveEngine.name(), true);
+      case REMOTE -> summarizeRemote(text, listener);
+    };
+    summaryCache.put(contentHash, summary.text(), summary.engine());
+    return summary;
+  }
 
-    } catch (Exception e) {
-      log.error("LibreTranslate 번역 중 오류 발생: {}", e.getMessage());
-      
-      // LibreTranslate 실패 시 MyMemory Translation API 시도
-      try {
-        log.info("MyMemory Translation API로 재시도...");
-        return translateWithMyMemory(englishText);
-      } catch (Exception e2) {
-        log.error("MyMemory 번역도 실패: {}", e2.getMessage());
-        // 번역 실패 시 원본 영어 텍스트 반환
-        return englishText;
+  private EngineSummary summarizeRemote(String text, SummaryProgressListener listener) {
+    try {
+      return new EngineSummary(remoteEngine.summarize(text, listener), remoteEngine.name(), false);
+    } catch (AIServiceException e) {
+      if (!localFallback) {
+        throw e;
       }
+      // 원격 경로 장애 시 추출 요약으로 응답하고, 저장 후 원격 요약으로 교체를 한 번 더 시도한다
+      log.warn("원격 요약 실패로 추출 요약을 사용합니다. 원인: {}", e.getMessage());
+      pipelineObservations.fallback(PipelineObservations.SUMMARIZE, ExtractiveSummarizationEngine.NAME);
+      return new EngineSummary(extractiveEngine.summarize(text, listener), extractiveEngine.name(), true);
     }
   }
 
   /**
-   * MyMemory Translation API를 사용하여 영어를 한글로 번역 (백업용)
+   * 프로세스 내 역색인에서 요청자 본인의 요약 중 가장 관련도 높은 1건
    */
-  private String translateWithMyMemory(String englishText) {
-    try {
-      // MyMemory API는 GET 요청 사용
-      String encodedText = java.net.URLEncoder.encode(englishText, java.nio.charset.StandardCharsets.UTF_8);
-      String url = String.format("https://api.mymemory.translated.net/get?q=%s&langpair=en|ko", encodedText);
-      
-      log.info("MyMemory Translation URL: {}", url);
-      
-      ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
-      
-      log.info("MyMemory response status: {}", response.getStatusCode());
-      log.info("MyMemory response body: {}", response.getBody());
-      
-      JsonNode root = objectMapper.readTree(response.getBody());
-      if (root.has("responseData") && root.get("responseData").has("translatedText")) {
-        return root.get("responseData").get("translatedText").asText();
-      } else {
-        log.warn("MyMemory 번역 응답에 translatedText가 없습니다.");
-        return englishText;
-      }
-      
-    } catch (com.fasterxml.jackson.core.JsonProcessingException e) {
-      log.error("MyMemory 번역 중 JSON 파싱 오류 발생: {}", e.getMessage());
-      return englishText;
-    } catch (Exception e) {
-      log.error("MyMemory 번역 중 기타 오류 발생: {}", e.getMessage());
-      return englishText;
+  @Override
+  public SummaryResponse searchText(SummaryRequest request) {
+    Long ownerId = currentUserProvider.findCurrentUser().map(User::getId).orElse(null);
+    SummarySearchIndex.SearchResult result = summarySearchIndex.search(request.getOriginalText(), ownerId, 0, 1);
+    if (result.hits().isEmpty()) {
+      throw new AIServiceException("No search results found");
     }
+    SummarySearchIndex.Hit best = result.hits().get(0);
+    return SummaryResponse.builder()
+        .id(best.summaryId())
+        .summaryText(best.preview())
+        .build();
   }
 
-
-
-  @Override
-  public SummaryResponse searchText(SummaryRequest request) {
-    throw new UnsupportedOperationException("이 기능은 아직 구현되지 않았습니다.");
+  /**
+   * @param engine      요약 엔진 (엔진 컬럼 도입 전에 저장된 요약이 캐시 적중하면 null)
+   * @param provisional 원격 요약으로 교체될 임시 요약인지
+   */
+  private record EngineSummary(String text, String engine, boolean provisional) {
   }
 }
 
@@ -0,0 +1,85 @@
+package com.example.news.service.impl;
+
+import com.example.news.entity.User;
+import com.example.news.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Optional;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+import org.springframework.stereotype.Component;
+
+/**
+ * 현재 인증 주체 → users 행 매핑 (최초 로그인 시 생성)
+ * (provider, providerId) → userId는 캐시해 요청마다 users를 조회하지 않는다.
+ */
+@Component
+public class CurrentUserProvider {
+
+  private static final String LOCAL_PROVIDER = "local";
+
+  private final UserRepository userRepository;
+  private final Cache<String, Long> userIds = Caffeine.newBuilder()
+      .maximumSize(10_000)
+      .expireAfterAccess(Duration.ofHours(1))
+      .build();
+
+  public CurrentUserProvider(UserRepository userRepository) {
+    this.userRepository = userRepository;
+  }
+
+  /**
+   * 비회원이면 empty (반환되는 User는 id만 채워진 참조 프록시)
+   */
+  public Optional<User> findCurrentUser() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication == null || !authentication.isAuthenticated()
+        || authentication instanceof AnonymousAuthenticationToken) {
+      return Optional.empty();
+    }
+
+    String provider;
+    String providerId;
+    OAuth2User principal = null;
+    if (authentication instanceof OAuth2AuthenticationToken token) {
+      provider = token.getAuthorizedClientRegistrationId();
+      providerId = token.getName();
+      principal = token.getPrincipal();
+    } else {
+      provider = LOCAL_PROVIDER;
+      providerId = authentication.getName();
+    }
+
+    OAuth2User oauth2User = principal;
+    Long userId = userIds.get(provider + ":" + providerId, key -> resolve(provider, providerId, oauth2User));
+    return Optional.of(userRepository.getReferenceById(userId));
+  }
+
+  private Long resolve(String provider, String providerId, OAuth2User principal) {
+    return userRepository.findByProviderAndProviderId(provider, providerId)
+        .map(User::getId)
+        .orElseGet(() -> create(provider, providerId, principal));
+  }
+
+  private Long create(String provider, String providerId, OAuth2User principal) {
+    User user = User.builder()
+        .provider(provider)
+        .providerId(providerId)
+        .name(principal != null ? principal.getAttribute("name") : providerId)
+        .email(principal != null ? principal.getAttribute("email") : null)
+        .build();
+    try {
+      return userRepository.save(user).getId();
+    } catch (DataIntegrityViolationException e) {
+      // 동시 최초 로그인: 다른 요청이 먼저 만든 행을 사용
+      return userRepository.findByProviderAndProviderId(provider, providerId)
+          .map(User::getId)
+          .orElseThrow(() -> e);
+    }
+  }
+}
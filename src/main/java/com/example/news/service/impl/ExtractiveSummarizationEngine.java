@@ -0,0 +1,36 @@
+package com.example.news.service.impl;
+
+import com.example.news.observability.PipelineObservations;
+import com.example.news.service.SummarizationEngine;
+import com.example.news.service.SummaryProgressListener;
+import com.example.news.util.TextRankSummarizer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 프로세스 내 TextRank 추출 요약 (수 ms, 네트워크 없음)
+ * 원문 문장을 그대로 고르므로 한국어 기사는 한국어로, 영어 기사는 영어로 요약된다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ExtractiveSummarizationEngine implements SummarizationEngine {
+
+  public static final String NAME = "extractive";
+
+  private final PipelineObservations pipelineObservations;
+
+  @Value("${summarizer.extractive.max-sentences:3}")
+  private int maxSentences;
+
+  @Override
+  public String name() {
+    return NAME;
+  }
+
+  @Override
+  public String summarize(String text, SummaryProgressListener listener) {
+    return pipelineObservations.observe(PipelineObservations.SUMMARIZE, NAME,
+        () -> TextRankSummarizer.summarize(text.trim(), maxSentences));
+  }
+}
@@ -0,0 +1,218 @@
+package com.example.news.service.impl;
+
+import com.example.news.client.LibreTranslateClient;
+import com.example.news.client.MyMemoryClient;
+import com.example.news.client.TranslationProvider;
+import com.example.news.observability.PipelineObservations;
+import com.example.news.service.TranslationService;
+import com.example.news.util.CancellationScope;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 헤지 번역: 1차(LibreTranslate)가 헤지 지연 안에 응답하지 않거나 실패하면 2차(MyMemory)를 함께 보내고
+ * 먼저 성공한 응답을 사용한다. 진 쪽 요청은 HTTP 요청 자체를 취소해 커넥션과 스레드를 바로 돌려준다.
+ * 헤지 지연은 1차 업스트림 지연 시간 히스토그램의 p95로 자동 조정된다.
+ */
+@Service
+public class HedgedTranslationService implements TranslationService {
+
+  private static final Logger log = LoggerFactory.getLogger(HedgedTranslationService.class);
+  private static final double HEDGE_PERCENTILE = 0.95;
+
+  private final TranslationProvider primary;
+  private final TranslationProvider secondary;
+  private final AsyncTaskExecutor executor;
+  private final PipelineObservations pipelineObservations;
+  private final Timer primaryLatency;
+  private final Timer secondaryLatency;
+  private final Counter hedgedRequests;
+  private final Counter secondaryWins;
+  private final Counter allFailed;
+
+  private final Duration defaultHedgeDelay;
+  private final Duration minHedgeDelay;
+  private final Duration maxHedgeDelay;
+  private final long minSamples;
+  private final Duration timeout;
+
+  public HedgedTranslationService(
+      LibreTranslateClient libreTranslateClient,
+      MyMemoryClient myMemoryClient,
+      @Qualifier("translationHedgeExecutor") AsyncTaskExecutor executor,
+      MeterRegistry meterRegistry,
+      PipelineObservations pipelineObservations,
+      @Value("${translation.hedge.default-delay:PT1S}") Duration defaultHedgeDelay,
+      @Value("${translation.hedge.min-delay:PT0.1S}") Duration minHedgeDelay,
+      @Value("${translation.hedge.max-delay:PT5S}") Duration maxHedgeDelay,
+      @Value("${translation.hedge.min-samples:20}") long minSamples,
+      @Value("${translation.timeout:PT30S}") Duration timeout) {
+    this.primary = libreTranslateClient;
+    this.secondary = myMemoryClient;
+    this.executor = executor;
+    this.pipelineObservations = pipelineObservations;
+    this.defaultHedgeDelay = defaultHedgeDelay;
+    this.minHedgeDelay = minHedgeDelay;
+    this.maxHedgeDelay = maxHedgeDelay;
+    this.minSamples = minSamples;
+    this.timeout = timeout;
+
+    this.primaryLatency = latencyTimer(meterRegistry, primary.name());
+    this.secondaryLatency = latencyTimer(meterRegistry, secondary.name());
+    this.hedgedRequests = Counter.builder("translation.hedged")
+        .description("헤지 지연 초과 또는 1차 실패로 2차 번역을 함께 보낸 요청 수")
+        .register(meterRegistry);
+    this.secondaryWins = Counter.builder("translation.hedge.secondary.wins")
+        .description("2차 번역 업스트림 응답이 채택된 요청 수")
+        .register(meterRegistry);
+    this.allFailed = Counter.builder("translation.failed")
+        .description("모든 번역 업스트림이 실패해 영어 원문을 반환한 요청 수")
+        .register(meterRegistry);
+    Gauge.builder("translation.hedge.delay", this, service -> service.hedgeDelay().toMillis())
+        .description("현재 적용 중인 헤지 지연(ms)")
+        .baseUnit("milliseconds")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public String translateToKorean(String englishText) {
+    return tryTranslateToKorean(englishText)
+        .map(Translation::translatedText)
+        .orElse(englishText);
+  }
+
+  /**
+   * 번역 결과와 채택된 업스트림 (모든 업스트림이 실패하면 empty)
+   */
+  public Optional<Translation> tryTranslateToKorean(String englishText) {
+    BlockingQueue<Attempt> results = new LinkedBlockingQueue<>();
+    List<Launched> running = new ArrayList<>(2);
+    long deadline = System.nanoTime() + timeout.toNanos();
+
+    try {
+      running.add(launch(primary, primaryLatency, englishText, results));
+      Attempt first = results.poll(hedgeDelay().toNanos(), TimeUnit.NANOSECONDS);
+      if (first != null && first.succeeded()) {
+        return Optional.of(first.toTranslation());
+      }
+
+      // 헤지 지연 초과 또는 1차 실패 → 2차 발사
+      hedgedRequests.increment();
+      pipelineObservations.fallback(PipelineObservations.TRANSLATE, first == null ? "hedge.slow" : "hedge.failed");
+      running.add(launch(secondary, secondaryLatency, englishText, results));
+      int pending = first == null ? 2 : 1;
+
+      while (pending > 0) {
+        long remaining = deadline - System.nanoTime();
+        Attempt attempt = remaining > 0 ? results.poll(remaining, TimeUnit.NANOSECONDS) : null;
+        if (attempt == null) {
+          break;
+        }
+        pending--;
+        if (attempt.succeeded()) {
+          if (attempt.provider() == secondary) {
+            secondaryWins.increment();
+          }
+          return Optional.of(attempt.toTranslation());
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      // 아직 진행 중인 쪽(진 요청)은 취소: 소켓 읽기는 인터럽트로 멈추지 않으므로 요청부터 끊는다
+      for (Launched launched : running) {
+        launched.scope().cancel();
+        launched.task().cancel(true);
+      }
+    }
+
+    allFailed.increment();
+    pipelineObservations.fallback(PipelineObservations.TRANSLATE, "untranslated");
+    log.error("모든 번역 업스트림이 실패했습니다. 원본 영어 텍스트를 반환합니다.");
+    return Optional.empty();
+  }
+
+  private Launched launch(TranslationProvider provider, Timer latency, String englishText,
+      BlockingQueue<Attempt> results) {
+    CancellationScope scope = new CancellationScope();
+    FutureTask<Void> task = new FutureTask<>(() -> {
+      long start = System.nanoTime();
+      try {
+        String translated = scope.call(() -> pipelineObservations.observe(PipelineObservations.TRANSLATE,
+            provider.name(), () -> provider.translate(englishText)));
+        latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        results.add(new Attempt(provider, translated, null));
+      } catch (RuntimeException e) {
+        if (!scope.isCancelled() && !Thread.currentThread().isInterrupted()) {
+          latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+          log.error("{} 번역 중 오류 발생: {}", provider.name(), e.getMessage());
+        }
+        results.add(new Attempt(provider, null, e));
+      }
+    }, null);
+    executor.execute(task);
+    return new Launched(task, scope);
+  }
+
+  /**
+   * 1차 업스트림 p95 지연 (표본이 부족하면 기본값), [min, max] 범위로 제한
+   */
+  Duration hedgeDelay() {
+    if (primaryLatency.count() < minSamples) {
+      return defaultHedgeDelay;
+    }
+    for (ValueAtPercentile value : primaryLatency.takeSnapshot().percentileValues()) {
+      if (value.percentile() == HEDGE_PERCENTILE) {
+        Duration p95 = Duration.ofNanos((long) value.value(TimeUnit.NANOSECONDS));
+        if (p95.compareTo(minHedgeDelay) < 0) {
+          return minHedgeDelay;
+        }
+        return p95.compareTo(maxHedgeDelay) > 0 ? maxHedgeDelay : p95;
+      }
+    }
+    return defaultHedgeDelay;
+  }
+
+  private static Timer latencyTimer(MeterRegistry meterRegistry, String provider) {
+    return Timer.builder("translation.latency")
+        .description("번역 업스트림 응답 시간")
+        .tag("provider", provider)
+        .publishPercentiles(HEDGE_PERCENTILE)
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+  }
+
+  public record Translation(String translatedText, String provider) {
+  }
+
+  private record Launched(FutureTask<Void> task, CancellationScope scope) {
+  }
+
+  private record Attempt(TranslationProvider provider, String translatedText, RuntimeException error) {
+
+    boolean succeeded() {
+      return error == null;
+    }
+
+    Translation toTranslation() {
+      return new Translation(translatedText, provider.name());
+    }
+  }
+}
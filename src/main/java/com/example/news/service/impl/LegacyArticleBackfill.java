@@ -0,0 +1,134 @@
+package com.example.news.service.impl;
+
+import com.example.news.entity.SummaryArticle;
+import com.example.news.repository.ArticleBody;
+import com.example.news.repository.SummaryRepository;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 원문 분리 이전 스키마의 summaries.original_text 에 남은 원문을 summary_articles 로 옮기는 시작 시 작업
+ * - 옮긴 행은 original_text 를 비우고, 행 잠금 후 article_id 가 없는 행만 옮기므로
+ *   여러 번(여러 인스턴스에서 동시에) 실행해도 같은 행을 두 번 옮기지 않는다
+ * - 다 옮기기 전까지 단건 조회는 legacyArticle()로 옛 컬럼을 읽는다
+ * - original_text 컬럼이 없으면 아무것도 하지 않는다 (이전 완료 로그 후 컬럼은 직접 삭제)
+ */
+@Component
+public class LegacyArticleBackfill {
+
+  private static final Logger log = LoggerFactory.getLogger(LegacyArticleBackfill.class);
+
+  private final JdbcTemplate jdbcTemplate;
+  private final SummaryRepository summaryRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final boolean enabled;
+  private final int batchSize;
+  // 옛 컬럼에 아직 옮기지 않은 원문이 남아 있을 수 있는지 (false면 조회 폴백 생략)
+  private volatile boolean pending;
+
+  public LegacyArticleBackfill(
+      JdbcTemplate jdbcTemplate,
+      SummaryRepository summaryRepository,
+      PlatformTransactionManager transactionManager,
+      @Value("${summary.article-backfill.enabled:true}") boolean enabled,
+      @Value("${summary.article-backfill.batch-size:200}") int batchSize) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.summaryRepository = summaryRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.enabled = enabled;
+    this.batchSize = batchSize;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void backfillOnStartup() {
+    pending = hasLegacyColumn();
+    if (!pending || !enabled) {
+      return;
+    }
+    Thread backfillThread = new Thread(this::backfill, "summary-article-backfill");
+    backfillThread.setDaemon(true);
+    backfillThread.start();
+  }
+
+  /**
+   * 옮기지 않은 행을 id 순으로 batchSize 개씩, 배치마다 한 트랜잭션으로 옮긴다
+   * (중간에 실패하면 그 배치만 롤백되고 다음 실행에서 이어서 진행)
+   */
+  public void backfill() {
+    long start = System.currentTimeMillis();
+    int moved = 0;
+    try {
+      long afterId = 0L;
+      while (true) {
+        List<Long> ids = jdbcTemplate.queryForList(
+            "select id from summaries where original_text is not null and article_id is null and id > ?"
+                + " order by id limit ?", Long.class, afterId, batchSize);
+        if (ids.isEmpty()) {
+          break;
+        }
+        moved += transactionTemplate.execute(status -> moveBatch(ids));
+        afterId = ids.get(ids.size() - 1);
+      }
+      pending = false;
+      log.info("기사 원문 이전 완료 - 이전한 행: {}, 소요: {}ms (summaries.original_text 컬럼은 삭제해도 됨)",
+          moved, System.currentTimeMillis() - start);
+    } catch (Exception e) {
+      log.error("기사 원문 이전 실패 (이전한 행: {}, 다음 시작 시 이어서 진행): {}", moved, e.getMessage());
+    }
+  }
+
+  private int moveBatch(List<Long> ids) {
+    int moved = 0;
+    for (Long id : ids) {
+      // 다른 인스턴스가 같은 행을 옮기는 중이면 커밋될 때까지 기다린 뒤 건너뛴다
+      List<String> texts = jdbcTemplate.queryForList(
+          "select original_text from summaries where id = ? and article_id is null and original_text is not null"
+              + " for update", String.class, id);
+      if (texts.isEmpty()) {
+        continue;
+      }
+      String text = texts.get(0);
+      boolean found = summaryRepository.findById(id)
+          .map(summary -> {
+            summary.setArticle(SummaryArticle.of(text));
+            return true;
+          })
+          .orElse(false);
+      if (found) {
+        jdbcTemplate.update("update summaries set original_text = null where id = ?", id);
+        moved++;
+      }
+    }
+    return moved;
+  }
+
+  /**
+   * 아직 옮기지 않은 행의 원문 (옛 컬럼이 없거나 이전이 끝났으면 조회하지 않고 null)
+   */
+  public ArticleBody legacyArticle(Long summaryId) {
+    if (!pending) {
+      return null;
+    }
+    List<String> texts = jdbcTemplate.queryForList(
+        "select original_text from summaries where id = ?", String.class, summaryId);
+    return texts.isEmpty() || texts.get(0) == null ? null : ArticleBody.of(texts.get(0));
+  }
+
+  private boolean hasLegacyColumn() {
+    try {
+      jdbcTemplate.queryForList("select original_text from summaries where 1 = 0", String.class);
+      return true;
+    } catch (DataAccessException e) {
+      return false;
+    }
+  }
+}
@@ -0,0 +1,168 @@
+package com.example.news.service.impl;
+
+import com.example.news.client.HuggingFaceClient;
+import com.example.news.config.RestTemplateConfig;
+import com.example.news.exception.AIServiceException;
+import com.example.news.observability.PayloadLogger;
+import com.example.news.observability.PipelineObservations;
+import com.example.news.service.SummarizationEngine;
+import com.example.news.service.SummaryProgressListener;
+import com.example.news.service.TranslationService;
+import com.example.news.util.LanguageDetector;
+import com.example.news.util.TextChunker;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * HuggingFace 생성 요약
+ * 본문 언어를 먼저 판별해 한국어 기사는 한국어 모델로 바로 요약하고(번역 생략),
+ * 영어/기타 기사는 영어 모델 요약 후 한글로 번역한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class RemoteSummarizationEngine implements SummarizationEngine {
+
+  public static final String NAME = "remote";
+  // 경로 이름 (ai.pipeline.stage{stage=route, provider=...})
+  static final String ROUTE_KOREAN_DIRECT = "ko-direct";
+  static final String ROUTE_ENGLISH_TRANSLATE = "en-translate";
+  static final String ROUTE_UNKNOWN_TRANSLATE = "und-translate";
+
+  private final HuggingFaceClient huggingFaceClient;
+  private final TranslationService translationService;
+  private final PipelineObservations pipelineObservations;
+  private final PayloadLogger payloadLogger;
+  private static final Logger log = LoggerFactory.getLogger(RemoteSummarizationEngine.class);
+  // 청크 요약 → 재요약 반복 최대 횟수
+  private static final int MAX_REDUCE_DEPTH = 3;
+  // 축소 단계 한도에 닿아 청크별 앞부분만 반영했을 때 요약문 끝에 붙이는 안내
+  static final String TRUNCATION_NOTICE = "\n\n(기사가 길어 부분별 앞부분만 반영한 요약입니다.)";
+
+  // 모델 입력 한도 (bart-large-cnn 1024 토큰 기준 여유 있게 설정)
+  @Value("${summarizer.chunk.max-chars:1000}")
+  private int maxChunkChars;
+
+  // 한 요청이 동시에 보내는 청크 요약 수 상한
+  @Value("${summarizer.chunk.max-parallel:8}")
+  private int maxParallelChunks;
+
+  // 한국어는 글자당 토큰이 많아 청크를 더 작게 자른다 (kobart 1024 토큰 기준)
+  @Value("${summarizer.chunk.korean-max-chars:600}")
+  private int maxKoreanChunkChars;
+
+  // false면 한국어 기사도 영어 모델 + 번역 경로를 탄다
+  @Value("${summarizer.korean-model.enabled:true}")
+  private boolean koreanModelEnabled;
+
+  @Override
+  public String name() {
+    return NAME;
+  }
+
+  @Override
+  public String summarize(String text, SummaryProgressListener listener) {
+    try {
+      // ✅ 본문 언어 판별 (수 μs, 앞부분만 확인)
+      LanguageDetector.Language language = pipelineObservations.observe(PipelineObservations.DETECT_LANGUAGE,
+          () -> LanguageDetector.detect(text));
+
+      if (language == LanguageDetector.Language.KOREAN && koreanModelEnabled) {
+        return pipelineObservations.observe(PipelineObservations.ROUTE, ROUTE_KOREAN_DIRECT,
+            () -> summarizeKorean(text));
+      }
+      String route = language == LanguageDetector.Language.ENGLISH ? ROUTE_ENGLISH_TRANSLATE : ROUTE_UNKNOWN_TRANSLATE;
+      return pipelineObservations.observe(PipelineObservations.ROUTE, route,
+          () -> summarizeAndTranslate(text, listener));
+
+    } catch (AIServiceException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new AIServiceException("AI 요약 요청 중 오류 발생", e);
+    }
+  }
+
+  /**
+   * 한국어 모델로 바로 한국어 요약 (영어 요약 단계가 없으므로 onEnglishSummary는 호출되지 않는다)
+   */
+  private String summarizeKorean(String text) {
+    Reduced reduced = pipelineObservations.observe(PipelineObservations.SUMMARIZE,
+        RestTemplateConfig.SUMMARIZER_KO, () -> summarizeLongText(text.trim(), 0, true));
+    String koreanSummary = reduced.text();
+    payloadLogger.log(RestTemplateConfig.SUMMARIZER_KO, "korean summary", () -> koreanSummary);
+    return reduced.truncated() ? koreanSummary + TRUNCATION_NOTICE : koreanSummary;
+  }
+
+  private String summarizeAndTranslate(String text, SummaryProgressListener listener) {
+    // ✅ 긴 본문은 청크별 병렬 요약 후 다시 요약 (map-reduce)
+    Reduced reduced = pipelineObservations.observe(PipelineObservations.SUMMARIZE,
+        RestTemplateConfig.SUMMARIZER, () -> summarizeLongText(text.trim(), 0, false));
+    String englishSummary = reduced.text();
+    listener.onEnglishSummary(englishSummary);
+
+    // ✅ 영어 요약을 한글로 번역 (업스트림별 시도는 HedgedTranslationService에서 따로 기록)
+    String koreanSummary = pipelineObservations.observe(PipelineObservations.TRANSLATE, "hedged",
+        () -> translationService.translateToKorean(englishSummary));
+
+    payloadLogger.log(RestTemplateConfig.SUMMARIZER, "english summary", () -> englishSummary);
+    payloadLogger.log("translation", "korean summary", () -> koreanSummary);
+    return reduced.truncated() ? koreanSummary + TRUNCATION_NOTICE : koreanSummary;
+  }
+
+  /**
+   * 본문을 모델 입력 크기 청크로 나눠 요약한다.
+   * 청크 요약은 maxParallelChunks 개씩 동시에 배치에 합류시키므로 한 번의 호출과 비슷한 지연으로 끝나고,
+   * 청크 요약을 이어 붙인 결과가 다시 길면 같은 방식으로 한 단계 더 줄인다.
+   * 축소 단계 한도에 닿으면 청크마다 앞부분만 남겨 한 번의 입력으로 요약한다 (뒤쪽 청크를 통째로 버리지 않음).
+   */
+  private Reduced summarizeLongText(String text, int depth, boolean korean) {
+    int maxChars = korean ? maxKoreanChunkChars : maxChunkChars;
+    List<String> chunks = TextChunker.split(text, maxChars);
+    if (chunks.size() <= 1) {
+      return new Reduced(huggingFaceClient.summarize(text, korean), false);
+    }
+    if (depth >= MAX_REDUCE_DEPTH) {
+      log.warn("요약 축소 단계가 {}회를 넘어 청크별 앞부분만 모아 요약합니다. 길이: {}, 청크 수: {}",
+          MAX_REDUCE_DEPTH, text.length(), chunks.size());
+      pipelineObservations.truncation(PipelineObservations.SUMMARIZE);
+      return new Reduced(huggingFaceClient.summarize(headOfEach(chunks, maxChars), korean), true);
+    }
+
+    // map: 청크별 요약
+    List<String> partialSummaries = new ArrayList<>(chunks.size());
+    for (int from = 0; from < chunks.size(); from += maxParallelChunks) {
+      List<CompletableFuture<String>> wave = new ArrayList<>();
+      for (String chunk : chunks.subList(from, Math.min(chunks.size(), from + maxParallelChunks))) {
+        wave.add(huggingFaceClient.summarizeAsync(chunk, korean));
+      }
+      for (CompletableFuture<String> pending : wave) {
+        partialSummaries.add(huggingFaceClient.await(pending));
+      }
+    }
+
+    // reduce: 청크 요약들을 다시 요약
+    return summarizeLongText(String.join("\n\n", partialSummaries), depth + 1, korean);
+  }
+
+  // 모든 청크가 같은 몫을 갖도록 청크마다 앞부분만 남겨 이어 붙인다 (합계가 maxChars 이하)
+  static String headOfEach(List<String> chunks, int maxChars) {
+    int separators = 2 * (chunks.size() - 1);
+    int budget = Math.max(1, (maxChars - separators) / chunks.size());
+    List<String> heads = new ArrayList<>(chunks.size());
+    for (String chunk : chunks) {
+      heads.add(TextChunker.head(chunk, budget));
+    }
+    return String.join("\n\n", heads);
+  }
+
+  /**
+   * @param truncated 축소 단계 한도 때문에 청크별 앞부분만 반영했는지
+   */
+  private record Reduced(String text, boolean truncated) {
+  }
+}
@@ -0,0 +1,19 @@
+package com.example.news.service.impl;
+
+import java.util.Locale;
+
+/**
+ * 캐시 미스 요약을 어느 엔진으로 보낼지 (summarizer.routing)
+ */
+public enum SummarizationRouting {
+  // 원격 생성 요약 + 번역 (실패 시 summarizer.local-fallback이면 추출 요약)
+  REMOTE,
+  // 프로세스 내 추출 요약만 사용 (네트워크 없음)
+  LOCAL,
+  // 추출 요약을 즉시 반환하고 원격 요약이 끝나면 저장된 요약을 교체
+  LOCAL_THEN_REMOTE;
+
+  public static SummarizationRouting from(String value) {
+    return valueOf(value.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+  }
+}
@@ -0,0 +1,83 @@
+package com.example.news.service.impl;
+
+import com.example.news.repository.SummaryRepository;
+import com.example.news.repository.SummaryTextEntry;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+/**
+ * 정규화된 본문 해시 기반 2단계 요약 캐시
+ * 1차: 프로세스 내 Caffeine 캐시 (크기/TTL 제한)
+ * 2차: summaries.content_hash 인덱스 조회
+ * 요약문과 함께 요약 엔진을 보관해, 캐시로 만든 행도 원래 엔진으로 저장되게 한다 (추출 요약 행의 원격 교체 대상)
+ */
+@Component
+public class SummaryCache {
+
+  private final SummaryRepository summaryRepository;
+  private final Cache<String, CachedSummary> localCache;
+  private final Counter databaseHits;
+  private final Counter misses;
+
+  public SummaryCache(
+      SummaryRepository summaryRepository,
+      MeterRegistry meterRegistry,
+      @Value("${summary.cache.max-size:10000}") long maxSize,
+      @Value("${summary.cache.ttl:PT6H}") Duration ttl) {
+    this.summaryRepository = summaryRepository;
+    this.localCache = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(ttl)
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, localCache, "summary.local");
+    this.databaseHits = Counter.builder("summary.cache.db.hits")
+        .description("1차 캐시 미스 후 DB content_hash 조회로 찾은 요약 수")
+        .register(meterRegistry);
+    this.misses = Counter.builder("summary.cache.misses")
+        .description("두 단계 모두 미스되어 AI 호출이 필요한 요청 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * @param engine 요약 엔진 (엔진 컬럼 도입 전 행이면 null)
+   */
+  public record CachedSummary(String text, String engine) {
+  }
+
+  public Optional<CachedSummary> get(String contentHash) {
+    CachedSummary cached = localCache.getIfPresent(contentHash);
+    if (cached != null) {
+      return Optional.of(cached);
+    }
+
+    List<SummaryTextEntry> stored = summaryRepository.findSummaryTextByContentHash(contentHash, Limit.of(1));
+    if (!stored.isEmpty() && stored.get(0).getSummaryText() != null) {
+      databaseHits.increment();
+      CachedSummary found = new CachedSummary(stored.get(0).getSummaryText(), stored.get(0).getSummaryEngine());
+      localCache.put(contentHash, found);
+      return Optional.of(found);
+    }
+
+    misses.increment();
+    return Optional.empty();
+  }
+
+  // DB 조회 없이 1차 캐시만 확인
+  public Optional<CachedSummary> getLocal(String contentHash) {
+    return Optional.ofNullable(localCache.getIfPresent(contentHash));
+  }
+
+  public void put(String contentHash, String summaryText, String engine) {
+    localCache.put(contentHash, new CachedSummary(summaryText, engine));
+  }
+}
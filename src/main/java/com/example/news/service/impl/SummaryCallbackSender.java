@@ -0,0 +1,232 @@
+package com.example.news.service.impl;
+
+import com.example.news.dto.SummaryJobResponse;
+import com.example.news.exception.InvalidInputException;
+import com.example.news.util.NetworkAddresses;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.hc.client5.http.DnsResolver;
+import org.apache.hc.client5.http.SystemDefaultDnsResolver;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.Timeout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 요약 작업 완료 콜백 전송
+ * - 대상 주소 검사: 등록 시점과 연결 시점(DNS 조회 결과) 모두 공인 주소만 허용해 SSRF/DNS 리바인딩을 막는다
+ *   (summary.jobs.callback.allowed-hosts 가 있으면 그 호스트와 하위 도메인만 허용)
+ * - 작업 워커와 분리된 작은 풀 + 짧은 타임아웃으로 보내, 느린 콜백 서버가 요약 작업을 막지 않게 한다
+ *   (대기열이 차면 콜백을 버리고 지표로 남긴다, 결과는 폴링으로 조회 가능)
+ */
+@Component
+public class SummaryCallbackSender {
+
+  private static final Logger log = LoggerFactory.getLogger(SummaryCallbackSender.class);
+
+  private final List<String> allowedHosts;
+  private final boolean allowPrivateAddresses;
+  private final ThreadPoolExecutor senders;
+  private final CloseableHttpClient httpClient;
+  private final RestTemplate restTemplate;
+  private final Counter sent;
+  private final Counter failed;
+  private final Counter dropped;
+  private final Counter blocked;
+
+  public SummaryCallbackSender(
+      MeterRegistry meterRegistry,
+      @Value("${summary.jobs.callback.allowed-hosts:}") List<String> allowedHosts,
+      @Value("${summary.jobs.callback.allow-private-addresses:false}") boolean allowPrivateAddresses,
+      @Value("${summary.jobs.callback.senders:4}") int senderCount,
+      @Value("${summary.jobs.callback.queue-capacity:200}") int queueCapacity,
+      @Value("${summary.jobs.callback.connect-timeout:PT2S}") Duration connectTimeout,
+      @Value("${summary.jobs.callback.read-timeout:PT5S}") Duration readTimeout) {
+    this.allowedHosts = allowedHosts.stream()
+        .map(String::trim)
+        .filter(host -> !host.isEmpty())
+        .map(host -> host.toLowerCase(Locale.ROOT))
+        .toList();
+    this.allowPrivateAddresses = allowPrivateAddresses;
+
+    AtomicInteger threadIndex = new AtomicInteger();
+    this.senders = new ThreadPoolExecutor(senderCount, senderCount, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity), r -> {
+          Thread thread = new Thread(r, "summary-callback-" + threadIndex.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+
+    PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+        .setDnsResolver(new PublicAddressDnsResolver())
+        .setDefaultConnectionConfig(ConnectionConfig.custom()
+            .setConnectTimeout(Timeout.of(connectTimeout))
+            .setSocketTimeout(Timeout.of(readTimeout))
+            .build())
+        .setMaxConnTotal(senderCount)
+        .setMaxConnPerRoute(senderCount)
+        .build();
+    this.httpClient = HttpClients.custom()
+        .setConnectionManager(connectionManager)
+        .setDefaultRequestConfig(RequestConfig.custom()
+            .setConnectionRequestTimeout(Timeout.of(connectTimeout))
+            .setResponseTimeout(Timeout.of(readTimeout))
+            .build())
+        // 리다이렉트로 내부 주소를 가리키는 우회 차단 (연결 시 검사도 하지만 따라갈 이유가 없음)
+        .disableRedirectHandling()
+        .build();
+    this.restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+
+    this.sent = callbackCounter(meterRegistry, "sent");
+    this.failed = callbackCounter(meterRegistry, "failed");
+    this.dropped = callbackCounter(meterRegistry, "dropped");
+    this.blocked = callbackCounter(meterRegistry, "blocked");
+    Gauge.builder("summary.jobs.callback.queue.depth", senders, executor -> executor.getQueue().size())
+        .description("전송 대기 중인 요약 작업 콜백 수")
+        .register(meterRegistry);
+  }
+
+  @PreDestroy
+  void shutdown() throws IOException {
+    senders.shutdownNow();
+    httpClient.close();
+  }
+
+  /**
+   * 작업 등록 시 콜백 URL 검사 (허용되지 않으면 InvalidInputException)
+   */
+  public void validate(String callbackUrl) {
+    URI uri;
+    try {
+      uri = URI.create(callbackUrl);
+    } catch (IllegalArgumentException e) {
+      throw new InvalidInputException("Callback URL is not a valid URI");
+    }
+    String scheme = uri.getScheme();
+    if (!"http".equalsIgnoreCase(scheme) && !"https".equalsIgnoreCase(scheme)) {
+      throw new InvalidInputException("Callback URL must be http or https");
+    }
+    String host = uri.getHost();
+    if (host == null || uri.getUserInfo() != null) {
+      throw new InvalidInputException("Callback URL must have a host and no user info");
+    }
+    if (!isAllowedHost(host)) {
+      throw new InvalidInputException("Callback host is not allowed");
+    }
+    try {
+      checkAddresses(host, InetAddress.getAllByName(host));
+    } catch (UnknownHostException e) {
+      throw new InvalidInputException("Callback host is not allowed");
+    }
+  }
+
+  /**
+   * 최종 상태의 작업 결과를 비동기로 전송
+   */
+  public void send(String jobId, String callbackUrl, SummaryJobResponse job) {
+    try {
+      senders.execute(() -> post(jobId, callbackUrl, job));
+    } catch (RejectedExecutionException e) {
+      dropped.increment();
+      log.warn("요약 작업 콜백 대기열이 가득 차 전송하지 않음 - jobId: {}", jobId);
+    }
+  }
+
+  private void post(String jobId, String callbackUrl, SummaryJobResponse job) {
+    try {
+      // 등록 이후 DNS가 내부 주소로 바뀌었으면 PublicAddressDnsResolver가 연결 전에 거부한다
+      restTemplate.postForEntity(callbackUrl, job, Void.class);
+      sent.increment();
+    } catch (Exception e) {
+      if (e.getCause() instanceof BlockedAddressException) {
+        blocked.increment();
+      } else {
+        failed.increment();
+      }
+      // 콜백 실패는 작업 결과에 영향을 주지 않는다 (폴링으로 조회 가능)
+      log.warn("요약 작업 콜백 실패 - jobId: {}, url: {}, 원인: {}", jobId, callbackUrl, e.getMessage());
+    }
+  }
+
+  private boolean isAllowedHost(String host) {
+    if (allowedHosts.isEmpty()) {
+      return true;
+    }
+    String normalized = host.toLowerCase(Locale.ROOT);
+    for (String allowed : allowedHosts) {
+      if (normalized.equals(allowed) || normalized.endsWith("." + allowed)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void checkAddresses(String host, InetAddress[] addresses) throws BlockedAddressException {
+    if (allowPrivateAddresses) {
+      return;
+    }
+    for (InetAddress address : addresses) {
+      if (!NetworkAddresses.isPublic(address)) {
+        throw new BlockedAddressException(host);
+      }
+    }
+  }
+
+  private static Counter callbackCounter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder("summary.jobs.callback")
+        .description("요약 작업 콜백 전송 결과 (blocked=내부 주소로 해석됨, dropped=대기열 가득 참)")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+
+  /**
+   * 연결 직전 DNS 조회 결과를 검사 (조회한 주소로만 연결하므로 검사와 연결 사이에 주소가 바뀔 수 없다)
+   */
+  private class PublicAddressDnsResolver implements DnsResolver {
+
+    @Override
+    public InetAddress[] resolve(String host) throws UnknownHostException {
+      if (!isAllowedHost(host)) {
+        throw new BlockedAddressException(host);
+      }
+      InetAddress[] addresses = SystemDefaultDnsResolver.INSTANCE.resolve(host);
+      checkAddresses(host, addresses);
+      return addresses;
+    }
+
+    @Override
+    public String resolveCanonicalHostname(String host) throws UnknownHostException {
+      return SystemDefaultDnsResolver.INSTANCE.resolveCanonicalHostname(host);
+    }
+  }
+
+  private static class BlockedAddressException extends UnknownHostException {
+
+    BlockedAddressException(String host) {
+      super("callback host is not allowed: " + host);
+    }
+  }
+}
@@ -0,0 +1,64 @@
+package com.example.news.service.impl;
+
+import com.example.news.entity.Summary;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.sequence.SequenceSupport;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * summaries.id 생성 방식을 IDENTITY → pooled 시퀀스(summary_seq)로 바꾸기 전에 저장된 행이 있는 DB에서
+ * 시퀀스가 1부터 시작해 첫 INSERT부터 키가 겹치지 않도록, 기동 시(요청/백그라운드 작업 전) max(id) 뒤로 맞춘다.
+ * - 시퀀스가 없는 DB(MySQL): Hibernate가 만든 summary_seq 테이블의 next_val을 올린다 (여러 인스턴스가 동시에 올려도 안전)
+ * - 시퀀스 DB(H2/PostgreSQL/MariaDB): 다음 값을 하나 받아 뒤처져 있으면 RESTART WITH
+ * 맞추지 못하면 기동을 멈춘다 (모든 저장이 키 충돌로 실패하는 것보다 낫다).
+ */
+@Component
+public class SummaryIdSequenceSeeder {
+
+  private static final Logger log = LoggerFactory.getLogger(SummaryIdSequenceSeeder.class);
+
+  private final JdbcTemplate jdbcTemplate;
+  private final Dialect dialect;
+
+  public SummaryIdSequenceSeeder(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+  }
+
+  @PostConstruct
+  void seed() {
+    try {
+      Long maxId = jdbcTemplate.queryForObject("select max(id) from summaries", Long.class);
+      if (maxId == null) {
+        return;
+      }
+      // pooled 최적화는 받은 값 v로 (v - allocationSize, v] 를 쓰므로 v - allocationSize >= max(id) 여야 한다
+      long required = maxId + Summary.ID_ALLOCATION_SIZE;
+      SequenceSupport sequences = dialect.getSequenceSupport();
+      if (sequences.supportsSequences()) {
+        Long next = jdbcTemplate.queryForObject(sequences.getSequenceNextValString(Summary.ID_SEQUENCE), Long.class);
+        if (next != null && next < required) {
+          jdbcTemplate.execute("alter sequence " + Summary.ID_SEQUENCE + " restart with " + required);
+          log.info("summary_seq를 {} → {}로 맞춤 (summaries 최대 id: {})", next, required, maxId);
+        }
+      } else {
+        int updated = jdbcTemplate.update("update " + Summary.ID_SEQUENCE + " set next_val = ? where next_val < ?",
+            required, required);
+        if (updated > 0) {
+          log.info("summary_seq를 {}로 맞춤 (summaries 최대 id: {})", required, maxId);
+        }
+      }
+    } catch (DataAccessException e) {
+      throw new IllegalStateException(
+          "summary_seq를 summaries.id 뒤로 맞추지 못했습니다. 시퀀스/테이블을 max(id) + "
+              + Summary.ID_ALLOCATION_SIZE + " 이상으로 직접 올린 뒤 다시 시작하세요.", e);
+    }
+  }
+}
@@ -0,0 +1,195 @@
+package com.example.news.service.impl;
+
+import com.example.news.dto.SummaryJobResponse;
+import com.example.news.dto.SummaryJobStatus;
+import com.example.news.dto.SummaryRequest;
+import com.example.news.dto.SummaryResponse;
+import com.example.news.exception.InvalidInputException;
+import com.example.news.exception.SummaryJobNotFoundException;
+import com.example.news.exception.TooManyRequestsException;
+import com.example.news.service.SummaryJobService;
+import com.example.news.service.SummaryProgressListener;
+import com.example.news.service.SummaryService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.context.ContextSnapshotFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.concurrency.DelegatingSecurityContextRunnable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 요약 파이프라인을 제한된 워커 풀에서 비동기로 실행하고 작업 상태를 보관한다.
+ */
+@Service
+public class SummaryJobServiceImpl implements SummaryJobService {
+
+  private static final Logger log = LoggerFactory.getLogger(SummaryJobServiceImpl.class);
+  private static final ContextSnapshotFactory CONTEXT_SNAPSHOTS = ContextSnapshotFactory.builder().build();
+
+  private final SummaryService summaryService;
+  private final SummaryCallbackSender callbackSender;
+  private final ThreadPoolExecutor workers;
+  private final Cache<String, SummaryJob> jobs;
+  private final long retryAfterSeconds;
+
+  public SummaryJobServiceImpl(
+      SummaryService summaryService,
+      SummaryCallbackSender callbackSender,
+      MeterRegistry meterRegistry,
+      Environment environment,
+      @Value("${summary.jobs.workers:8}") int workerCount,
+      @Value("${summary.jobs.queue-capacity:200}") int queueCapacity,
+      @Value("${summary.jobs.retention:PT1H}") Duration retention,
+      @Value("${summary.jobs.retry-after-seconds:5}") long retryAfterSeconds) {
+    this.summaryService = summaryService;
+    this.callbackSender = callbackSender;
+    this.retryAfterSeconds = retryAfterSeconds;
+    this.jobs = Caffeine.newBuilder()
+        .expireAfterWrite(retention)
+        .build();
+
+    // 가상 스레드 모드에서도 워커 수/큐 크기 제한(백프레셔)은 그대로 유지
+    AtomicInteger threadIndex = new AtomicInteger();
+    ThreadFactory threadFactory = Threading.VIRTUAL.isActive(environment)
+        ? new VirtualThreadTaskExecutor("summary-job-").getVirtualThreadFactory()
+        : r -> new Thread(r, "summary-job-" + threadIndex.incrementAndGet());
+    this.workers = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity), threadFactory,
+        new ThreadPoolExecutor.AbortPolicy());
+
+    Gauge.builder("summary.jobs.queue.depth", workers, executor -> executor.getQueue().size())
+        .description("실행 대기 중인 요약 작업 수")
+        .register(meterRegistry);
+    Gauge.builder("summary.jobs.active", workers, ThreadPoolExecutor::getActiveCount)
+        .description("실행 중인 요약 작업 수")
+        .register(meterRegistry);
+  }
+
+  @PreDestroy
+  void shutdown() {
+    workers.shutdown();
+  }
+
+  @Override
+  public SummaryJobResponse submit(SummaryRequest request) {
+    return submit(request, SummaryProgressListener.NONE);
+  }
+
+  @Override
+  public SummaryJobResponse submit(SummaryRequest request, SummaryProgressListener listener) {
+    if (request.getOriginalText() == null || request.getOriginalText().trim().isEmpty()) {
+      throw new InvalidInputException("Original text cannot be empty");
+    }
+    if (request.getCallbackUrl() != null) {
+      callbackSender.validate(request.getCallbackUrl());
+    }
+
+    SummaryJob job = new SummaryJob(UUID.randomUUID().toString(), request.getCallbackUrl());
+    jobs.put(job.id, job);
+    // accepted 이벤트는 대기열에 들어간 뒤에만 보내고, 작업의 진행 이벤트는 그 뒤에 나가도록 워커가 기다린다
+    CountDownLatch accepted = new CountDownLatch(1);
+    try {
+      // 요약을 요청한 사용자로 저장되도록 인증 정보를 작업 스레드에 전달
+      // 트레이싱 컨텍스트도 함께 전달해 작업 단계 span이 요청 span 아래로 이어지게 한다
+      Runnable task = CONTEXT_SNAPSHOTS.captureAll().wrap(() -> {
+        awaitAccepted(accepted);
+        run(job, request, listener);
+      });
+      workers.execute(new DelegatingSecurityContextRunnable(task));
+    } catch (RejectedExecutionException e) {
+      jobs.invalidate(job.id);
+      throw new TooManyRequestsException("요약 작업 대기열이 가득 찼습니다. 잠시 후 다시 시도해 주세요.",
+          retryAfterSeconds);
+    }
+    try {
+      listener.onAccepted(job.toResponse());
+    } finally {
+      accepted.countDown();
+    }
+    return job.toResponse();
+  }
+
+  @Override
+  public SummaryJobResponse getJob(String jobId) {
+    SummaryJob job = jobs.getIfPresent(jobId);
+    if (job == null) {
+      throw new SummaryJobNotFoundException(jobId);
+    }
+    return job.toResponse();
+  }
+
+  private static void awaitAccepted(CountDownLatch accepted) {
+    try {
+      accepted.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void run(SummaryJob job, SummaryRequest request, SummaryProgressListener listener) {
+    job.status = SummaryJobStatus.RUNNING;
+    try {
+      job.result = summaryService.createSummary(request, listener);
+      job.completedAt = LocalDateTime.now();
+      job.status = SummaryJobStatus.SUCCEEDED;
+    } catch (Exception e) {
+      log.error("요약 작업 실패 - jobId: {}, 원인: {}", job.id, e.getMessage());
+      job.error = e.getMessage();
+      job.completedAt = LocalDateTime.now();
+      job.status = SummaryJobStatus.FAILED;
+      listener.onFailed(e.getMessage());
+    }
+    notifyCallback(job);
+  }
+
+  // 작업 상태가 최종(SUCCEEDED/FAILED)으로 정해진 뒤 별도 풀에서 전송 (워커는 바로 다음 작업으로)
+  private void notifyCallback(SummaryJob job) {
+    if (job.callbackUrl != null) {
+      callbackSender.send(job.id, job.callbackUrl, job.toResponse());
+    }
+  }
+
+  private static class SummaryJob {
+    private final String id;
+    private final String callbackUrl;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private volatile SummaryJobStatus status = SummaryJobStatus.QUEUED;
+    private volatile SummaryResponse result;
+    private volatile String error;
+    private volatile LocalDateTime completedAt;
+
+    SummaryJob(String id, String callbackUrl) {
+      this.id = id;
+      this.callbackUrl = callbackUrl;
+    }
+
+    SummaryJobResponse toResponse() {
+      return SummaryJobResponse.builder()
+          .jobId(id)
+          .status(status)
+          .result(result)
+          .error(error)
+          .createdAt(createdAt)
+          .completedAt(completedAt)
+          .build();
+    }
+  }
+}
@@ -0,0 +1,70 @@
+package com.example.news.service.impl;
+
+import com.example.news.dto.SummaryResponse;
+import com.example.news.repository.ArticleBody;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 단건 조회용 read-through 캐시 (삭제/요약 교체 시 무효화)
+ * 인스턴스별 캐시라 다른 인스턴스에서의 삭제/교체는 무효화되지 않으므로 TTL(기본: HTTP Cache-Control max-age)로
+ * 옛 응답이 남는 시간을 제한한다 (클라이언트도 그 시간만큼은 이전 응답을 쓸 수 있으므로 같은 상한)
+ * - summaries: 원문을 뺀 SummaryResponse (작음, 개수 제한)
+ * - articles: 압축된 원문 바이트 (바이트 수 제한, 응답 시점에 압축 해제)
+ * 캐시된 SummaryResponse는 여러 요청이 공유하므로 수정하지 않는다.
+ * 채우기 조회는 기본 DB에서 한다: 무효화 직후 복제 지연만큼 뒤처진 복제본에서 삭제/교체 전 행을 읽어
+ * 캐시에 다시 넣지 않도록 (읽기 전용이 아닌 트랜잭션은 복제본으로 라우팅되지 않는다)
+ */
+@Component
+public class SummaryResponseCache {
+
+  private final Cache<Long, SummaryResponse> summaries;
+  private final Cache<Long, ArticleBody> articles;
+  private final TransactionTemplate primaryReads;
+
+  public SummaryResponseCache(
+      MeterRegistry meterRegistry,
+      PlatformTransactionManager transactionManager,
+      @Value("${summary.response-cache.max-size:50000}") long maxSize,
+      @Value("${summary.response-cache.article-max-bytes:67108864}") long articleMaxBytes,
+      @Value("${summary.response-cache.ttl:${summary.http-cache.max-age:PT1H}}") Duration ttl) {
+    this.summaries = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(ttl)
+        .recordStats()
+        .build();
+    this.articles = Caffeine.newBuilder()
+        .maximumWeight(articleMaxBytes)
+        .weigher((Long id, ArticleBody article) -> article.body().length)
+        .expireAfterWrite(ttl)
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, summaries, "summary.response");
+    CaffeineCacheMetrics.monitor(meterRegistry, articles, "summary.article");
+    this.primaryReads = new TransactionTemplate(transactionManager);
+  }
+
+  /**
+   * 없으면 loader로 읽어 채운다 (loader 예외는 그대로 전달, 캐시되지 않음)
+   */
+  public SummaryResponse getSummary(Long summaryId, Function<Long, SummaryResponse> loader) {
+    return summaries.get(summaryId, id -> primaryReads.execute(status -> loader.apply(id)));
+  }
+
+  public ArticleBody getArticle(Long summaryId, Function<Long, ArticleBody> loader) {
+    return articles.get(summaryId, id -> primaryReads.execute(status -> loader.apply(id)));
+  }
+
+  public void invalidate(Long summaryId) {
+    summaries.invalidate(summaryId);
+    articles.invalidate(summaryId);
+  }
+}
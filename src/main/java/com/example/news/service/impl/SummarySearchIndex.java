@@ -0,0 +1,328 @@
+package com.example.news.service.impl;
+
+import com.example.news.repository.SummaryIndexEntry;
+import com.example.news.repository.SummaryRepository;
+import com.example.news.util.KoreanTokenizer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요약문에 대한 프로세스 내 역색인 + BM25 랭킹
+ * 생성/삭제 시 증분 갱신되고, 기동 시 SummaryRepository에서 다시 구성된다.
+ * 역색인은 작성자별로 나눠 두어 검색은 요청자 본인의 요약(비회원은 비회원 요약)만 훑는다
+ * (비용이 전체 요약 수가 아니라 요청자 요약 수에 비례, IDF/평균 길이는 전체 기준).
+ */
+@Component
+public class SummarySearchIndex {
+
+  private static final Logger log = LoggerFactory.getLogger(SummarySearchIndex.class);
+  private static final double K1 = 1.2;
+  private static final double B = 0.75;
+  private static final int PREVIEW_LENGTH = 200;
+  private static final int REBUILD_PAGE_SIZE = 1000;
+
+  // 비회원 요약을 모아 두는 작성자 키 (회원 id는 1부터)
+  private static final long GUEST_OWNER = 0L;
+
+  private final SummaryRepository summaryRepository;
+
+  // 작성자 → (term → (summaryId → 출현 횟수))
+  private final Map<Long, Map<String, Map<Long, Integer>>> postingsByOwner = new HashMap<>();
+  // 작성자 → 그 작성자의 summaryId
+  private final Map<Long, Set<Long>> summaryIdsByOwner = new HashMap<>();
+  // term → 그 term이 나온 문서 수 (전체)
+  private final Map<String, Integer> documentFrequencies = new HashMap<>();
+  private final Map<Long, IndexedDocument> documents = new HashMap<>();
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private long totalLength;
+
+  // 재구성 중 삭제된 문서가 재구성 페이지에서 다시 추가되지 않도록 기록
+  private final Set<Long> deletedDuringRebuild = new HashSet<>();
+  private volatile boolean rebuilding;
+
+  public SummarySearchIndex(SummaryRepository summaryRepository, MeterRegistry meterRegistry) {
+    this.summaryRepository = summaryRepository;
+    Gauge.builder("summary.search.index.documents", this, SummarySearchIndex::size)
+        .description("검색 인덱스에 들어 있는 요약 수")
+        .register(meterRegistry);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuildOnStartup() {
+    Thread rebuildThread = new Thread(this::rebuild, "summary-index-rebuild");
+    rebuildThread.setDaemon(true);
+    rebuildThread.start();
+  }
+
+  /**
+   * 저장된 요약 전체를 id 순으로 읽어 인덱스를 다시 채운다 (원문 LOB은 읽지 않음)
+   */
+  public void rebuild() {
+    long start = System.currentTimeMillis();
+    rebuilding = true;
+    int indexed = 0;
+    try {
+      Long afterId = 0L;
+      while (true) {
+        List<SummaryIndexEntry> page = summaryRepository.findIndexEntriesAfter(afterId, Limit.of(REBUILD_PAGE_SIZE));
+        if (page.isEmpty()) {
+          break;
+        }
+        for (SummaryIndexEntry entry : page) {
+          addInternal(entry.getId(), entry.getUserId(), entry.getSummaryText(), true);
+          indexed++;
+        }
+        afterId = page.get(page.size() - 1).getId();
+      }
+      log.info("검색 인덱스 재구성 완료 - 문서 수: {}, 소요: {}ms", indexed, System.currentTimeMillis() - start);
+    } catch (Exception e) {
+      log.error("검색 인덱스 재구성 실패: {}", e.getMessage());
+    } finally {
+      lock.writeLock().lock();
+      try {
+        rebuilding = false;
+        deletedDuringRebuild.clear();
+      } finally {
+        lock.writeLock().unlock();
+      }
+    }
+  }
+
+  /**
+   * @param ownerId 작성자 id (비회원이면 null)
+   */
+  public void add(Long summaryId, Long ownerId, String summaryText) {
+    addInternal(summaryId, ownerId, summaryText, false);
+  }
+
+  /**
+   * 색인된 요약의 본문만 교체한다 (작성자 유지, 색인에 없으면 재구성 때 반영되므로 무시)
+   */
+  public void replaceText(Long summaryId, String summaryText) {
+    Long ownerId;
+    lock.readLock().lock();
+    try {
+      IndexedDocument document = documents.get(summaryId);
+      if (document == null) {
+        return;
+      }
+      ownerId = document.ownerId();
+    } finally {
+      lock.readLock().unlock();
+    }
+    addInternal(summaryId, ownerId, summaryText, false);
+  }
+
+  public void remove(Long summaryId) {
+    lock.writeLock().lock();
+    try {
+      if (rebuilding) {
+        deletedDuringRebuild.add(summaryId);
+      }
+      removeLocked(summaryId);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * ownerId가 작성한 요약 중 BM25 점수 상위 결과 (page는 0부터, ownerId가 null이면 비회원 요약)
+   */
+  public SearchResult search(String query, Long ownerId, int page, int size) {
+    List<String> queryTerms = KoreanTokenizer.tokenize(query);
+    if (queryTerms.isEmpty() || size <= 0) {
+      return new SearchResult(0, List.of());
+    }
+
+    lock.readLock().lock();
+    try {
+      int documentCount = documents.size();
+      if (documentCount == 0) {
+        return new SearchResult(0, List.of());
+      }
+      Map<String, Map<Long, Integer>> postings = postingsByOwner.get(ownerKey(ownerId));
+      if (postings == null) {
+        return new SearchResult(0, List.of());
+      }
+      double averageLength = (double) totalLength / documentCount;
+
+      Map<Long, Double> scores = new HashMap<>();
+      for (String term : new HashSet<>(queryTerms)) {
+        Map<Long, Integer> posting = postings.get(term);
+        if (posting == null) {
+          continue;
+        }
+        int documentFrequency = documentFrequencies.get(term);
+        double idf = Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+        for (Map.Entry<Long, Integer> entry : posting.entrySet()) {
+          int tf = entry.getValue();
+          int length = documents.get(entry.getKey()).length();
+          double score = idf * (tf * (K1 + 1)) / (tf + K1 * (1 - B + B * length / averageLength));
+          scores.merge(entry.getKey(), score, Double::sum);
+        }
+      }
+
+      // 필요한 만큼(page+1)*size개만 유지하는 최소 힙
+      int needed = (int) Math.min((long) (page + 1) * size, scores.size());
+      PriorityQueue<Hit> top = new PriorityQueue<>(Math.max(1, needed), Comparator.comparingDouble(Hit::score));
+      for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+        if (top.size() < needed) {
+          top.add(new Hit(entry.getKey(), entry.getValue(), null));
+        } else if (needed > 0 && entry.getValue() > top.peek().score()) {
+          top.poll();
+          top.add(new Hit(entry.getKey(), entry.getValue(), null));
+        }
+      }
+
+      List<Hit> ranked = new ArrayList<>(top);
+      ranked.sort(Comparator.comparingDouble(Hit::score).reversed().thenComparing(Hit::summaryId));
+      List<Hit> hits = new ArrayList<>(size);
+      for (int i = page * size; i < ranked.size(); i++) {
+        Hit hit = ranked.get(i);
+        hits.add(new Hit(hit.summaryId(), hit.score(), documents.get(hit.summaryId()).preview()));
+      }
+      return new SearchResult(scores.size(), hits);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 색인된 요약의 앞부분 (없으면 null)
+   */
+  public String preview(Long summaryId) {
+    lock.readLock().lock();
+    try {
+      IndexedDocument document = documents.get(summaryId);
+      return document != null ? document.preview() : null;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 색인된 요약이 ownerId의 것인지 (ownerId가 null이면 비회원 요약인지)
+   */
+  public boolean isOwnedBy(long summaryId, Long ownerId) {
+    lock.readLock().lock();
+    try {
+      IndexedDocument document = documents.get(summaryId);
+      return document != null && Objects.equals(document.ownerId(), ownerId);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * ownerId의 요약 id (비회원이면 비회원 요약), max개를 넘으면 null
+   */
+  public long[] ownedSummaryIds(Long ownerId, int max) {
+    lock.readLock().lock();
+    try {
+      Set<Long> owned = summaryIdsByOwner.getOrDefault(ownerKey(ownerId), Set.of());
+      if (owned.size() > max) {
+        return null;
+      }
+      return owned.stream().mapToLong(Long::longValue).toArray();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return documents.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private void addInternal(Long summaryId, Long ownerId, String summaryText, boolean fromRebuild) {
+    if (summaryId == null || summaryText == null) {
+      return;
+    }
+    List<String> terms = KoreanTokenizer.tokenize(summaryText);
+    Map<String, Integer> termFrequencies = new HashMap<>();
+    for (String term : terms) {
+      termFrequencies.merge(term, 1, Integer::sum);
+    }
+    String preview = summaryText.length() > PREVIEW_LENGTH ? summaryText.substring(0, PREVIEW_LENGTH) : summaryText;
+
+    lock.writeLock().lock();
+    try {
+      if (fromRebuild && deletedDuringRebuild.contains(summaryId)) {
+        return;
+      }
+      removeLocked(summaryId);
+      long owner = ownerKey(ownerId);
+      Map<String, Map<Long, Integer>> postings = postingsByOwner.computeIfAbsent(owner, key -> new HashMap<>());
+      for (Map.Entry<String, Integer> entry : termFrequencies.entrySet()) {
+        postings.computeIfAbsent(entry.getKey(), key -> new HashMap<>()).put(summaryId, entry.getValue());
+        documentFrequencies.merge(entry.getKey(), 1, Integer::sum);
+      }
+      summaryIdsByOwner.computeIfAbsent(owner, key -> new HashSet<>()).add(summaryId);
+      documents.put(summaryId,
+          new IndexedDocument(terms.size(), termFrequencies.keySet().toArray(String[]::new), preview, ownerId));
+      totalLength += terms.size();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void removeLocked(Long summaryId) {
+    IndexedDocument removed = documents.remove(summaryId);
+    if (removed == null) {
+      return;
+    }
+    long owner = ownerKey(removed.ownerId());
+    Map<String, Map<Long, Integer>> postings = postingsByOwner.get(owner);
+    for (String term : removed.terms()) {
+      Map<Long, Integer> posting = postings.get(term);
+      if (posting != null) {
+        posting.remove(summaryId);
+        if (posting.isEmpty()) {
+          postings.remove(term);
+        }
+      }
+      documentFrequencies.computeIfPresent(term, (key, count) -> count == 1 ? null : count - 1);
+    }
+    Set<Long> owned = summaryIdsByOwner.get(owner);
+    owned.remove(summaryId);
+    if (owned.isEmpty()) {
+      summaryIdsByOwner.remove(owner);
+      postingsByOwner.remove(owner);
+    }
+    totalLength -= removed.length();
+  }
+
+  private static long ownerKey(Long ownerId) {
+    return ownerId == null ? GUEST_OWNER : ownerId;
+  }
+
+  private record IndexedDocument(int length, String[] terms, String preview, Long ownerId) {
+  }
+
+  public record Hit(Long summaryId, double score, String preview) {
+  }
+
+  public record SearchResult(long totalHits, List<Hit> hits) {
+  }
+}
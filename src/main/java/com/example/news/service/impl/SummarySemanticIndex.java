@@ -0,0 +1,319 @@
+package com.example.news.service.impl;
+
+import com.example.news.client.EmbeddingProvider;
+import com.example.news.entity.SummaryEmbedding;
+import com.example.news.repository.SummaryEmbeddingRepository;
+import com.example.news.repository.SummaryIndexEntry;
+import com.example.news.repository.SummaryRepository;
+import com.example.news.util.HnswIndex;
+import com.example.news.util.TextNormalizer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요약문 임베딩 + HNSW 근사 최근접 이웃 인덱스
+ * 생성/삭제 시 증분 갱신되고, 기동 시 summary_embeddings에 저장된 벡터로 다시 구성한다.
+ * - 생성 시 임베딩(원격 호출일 수 있음)은 전용 풀 + 고정 크기 대기열에서 실행해 요약 저장 응답을 막지 않고,
+ *   계산한 벡터는 summary_embeddings에 저장한다 (대기열이 차서 버린 요약은 다음 재구성 때 임베딩)
+ * - 재구성은 저장된 벡터가 없거나 제공자/차원/요약문이 바뀐 행만 다시 임베딩한다
+ * - 삭제/교체로 쌓인 툼스톤이 전체 노드의 compact-ratio를 넘으면 백그라운드에서 그래프를 다시 만든다
+ * - 검색은 요청자 본인의 요약만 대상: 요약 수가 ef-search 이하면 그 벡터만 직접 비교하고,
+ *   많으면 그래프 탐색 결과를 작성자로 거른다
+ */
+@Component
+public class SummarySemanticIndex {
+
+  private static final Logger log = LoggerFactory.getLogger(SummarySemanticIndex.class);
+  private static final int REBUILD_PAGE_SIZE = 1000;
+
+  private final SummaryRepository summaryRepository;
+  private final SummaryEmbeddingRepository summaryEmbeddingRepository;
+  private final SummarySearchIndex summarySearchIndex;
+  private final EmbeddingProvider embeddingProvider;
+  private final HnswIndex index;
+  private final int efSearch;
+  private final Timer embedTimer;
+  private final ThreadPoolExecutor embedWorkers;
+  // 임베딩 대기/진행 중인 요약 → 요약문 (삭제되거나 새 요약문으로 바뀌면 끝난 임베딩을 반영하지 않는다)
+  private final ConcurrentHashMap<Long, String> pendingEmbeds = new ConcurrentHashMap<>();
+  private final Counter embedDropped;
+  private final double compactRatio;
+  private final int compactMinTombstones;
+  private final AtomicBoolean compacting = new AtomicBoolean();
+
+  // 재구성 중 삭제된 요약이 재구성 페이지에서 다시 추가되지 않도록 기록
+  private final Set<Long> deletedDuringRebuild = new HashSet<>();
+  private volatile boolean rebuilding;
+
+  public SummarySemanticIndex(SummaryRepository summaryRepository,
+      SummaryEmbeddingRepository summaryEmbeddingRepository,
+      SummarySearchIndex summarySearchIndex,
+      EmbeddingProvider embeddingProvider,
+      MeterRegistry meterRegistry,
+      Environment environment,
+      @Value("${summary.semantic.m:16}") int m,
+      @Value("${summary.semantic.ef-construction:100}") int efConstruction,
+      @Value("${summary.semantic.ef-search:64}") int efSearch,
+      @Value("${summary.semantic.embed-workers:2}") int embedWorkerCount,
+      @Value("${summary.semantic.embed-queue-capacity:1000}") int embedQueueCapacity,
+      @Value("${summary.semantic.compact-ratio:0.2}") double compactRatio,
+      @Value("${summary.semantic.compact-min-tombstones:1000}") int compactMinTombstones) {
+    this.summaryRepository = summaryRepository;
+    this.summaryEmbeddingRepository = summaryEmbeddingRepository;
+    this.summarySearchIndex = summarySearchIndex;
+    this.embeddingProvider = embeddingProvider;
+    this.index = new HnswIndex(embeddingProvider.dimension(), m, efConstruction, 42L);
+    this.efSearch = efSearch;
+    this.compactRatio = compactRatio;
+    this.compactMinTombstones = compactMinTombstones;
+    this.embedTimer = Timer.builder("summary.semantic.embed")
+        .description("요약문 임베딩 소요 시간")
+        .tag("provider", embeddingProvider.name())
+        .register(meterRegistry);
+    Gauge.builder("summary.semantic.index.vectors", index, HnswIndex::size)
+        .description("의미 검색 인덱스에 들어 있는 벡터 수")
+        .register(meterRegistry);
+    Gauge.builder("summary.semantic.index.tombstones", index, HnswIndex::tombstones)
+        .description("의미 검색 인덱스에 남아 있는 삭제된 노드 수 (압축 시 정리)")
+        .register(meterRegistry);
+
+    AtomicInteger threadIndex = new AtomicInteger();
+    ThreadFactory threadFactory = Threading.VIRTUAL.isActive(environment)
+        ? new VirtualThreadTaskExecutor("summary-embed-").getVirtualThreadFactory()
+        : r -> {
+          Thread thread = new Thread(r, "summary-embed-" + threadIndex.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        };
+    this.embedWorkers = new ThreadPoolExecutor(embedWorkerCount, embedWorkerCount, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(embedQueueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+    this.embedDropped = Counter.builder("summary.semantic.embed.dropped")
+        .description("대기열이 가득 차 임베딩하지 않은 요약 수 (다음 재구성 때 반영)")
+        .register(meterRegistry);
+    Gauge.builder("summary.semantic.embed.queue.depth", embedWorkers, executor -> executor.getQueue().size())
+        .description("대기 중인 요약 임베딩 작업 수")
+        .register(meterRegistry);
+  }
+
+  @PreDestroy
+  void shutdown() {
+    embedWorkers.shutdownNow();
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuildOnStartup() {
+    Thread rebuildThread = new Thread(this::rebuild, "summary-semantic-rebuild");
+    rebuildThread.setDaemon(true);
+    rebuildThread.start();
+  }
+
+  /**
+   * 저장된 요약 전체를 id 순으로 읽어 저장된 벡터로 인덱스를 채운다 (원문 LOB은 읽지 않음)
+   * 저장된 벡터를 쓸 수 없는 행만 다시 임베딩하고 그 벡터도 저장한다.
+   */
+  public void rebuild() {
+    long start = System.currentTimeMillis();
+    rebuilding = true;
+    int indexed = 0;
+    int embedded = 0;
+    try {
+      Long afterId = 0L;
+      while (true) {
+        List<SummaryIndexEntry> page = summaryRepository.findIndexEntriesAfter(afterId, Limit.of(REBUILD_PAGE_SIZE));
+        if (page.isEmpty()) {
+          break;
+        }
+        Map<Long, SummaryEmbedding> stored = loadEmbeddings(page);
+        List<SummaryEmbedding> computed = new ArrayList<>();
+        for (SummaryIndexEntry entry : page) {
+          if (entry.getSummaryText() == null) {
+            continue;
+          }
+          String sourceHash = TextNormalizer.contentHash(entry.getSummaryText());
+          SummaryEmbedding embedding = stored.get(entry.getId());
+          float[] vector;
+          if (embedding != null && embedding.getSourceHash().equals(sourceHash)) {
+            vector = embedding.getVectorValues();
+          } else {
+            vector = embed(entry.getSummaryText());
+            computed.add(SummaryEmbedding.of(entry.getId(), embeddingProvider.name(), sourceHash, vector));
+          }
+          synchronized (deletedDuringRebuild) {
+            // 삭제됐거나 새 요약문 임베딩이 예약돼 있으면 그쪽이 반영한다
+            if (!deletedDuringRebuild.contains(entry.getId()) && !pendingEmbeds.containsKey(entry.getId())) {
+              index.add(entry.getId(), vector);
+              indexed++;
+            }
+          }
+        }
+        store(computed);
+        embedded += computed.size();
+        afterId = page.get(page.size() - 1).getId();
+      }
+      log.info("의미 검색 인덱스 재구성 완료 - 벡터 수: {}, 새로 임베딩: {}, 소요: {}ms",
+          indexed, embedded, System.currentTimeMillis() - start);
+    } catch (Exception e) {
+      log.error("의미 검색 인덱스 재구성 실패: {}", e.getMessage());
+    } finally {
+      synchronized (deletedDuringRebuild) {
+        rebuilding = false;
+        deletedDuringRebuild.clear();
+      }
+    }
+  }
+
+  /**
+   * 임베딩을 예약만 하고 바로 돌아온다 (임베딩 실패/대기열 초과는 요약 저장을 막지 않고 다음 재구성 때 다시 반영)
+   */
+  public void add(Long summaryId, String summaryText) {
+    if (summaryId == null || summaryText == null) {
+      return;
+    }
+    pendingEmbeds.put(summaryId, summaryText);
+    try {
+      embedWorkers.execute(() -> embedAndAdd(summaryId, summaryText));
+    } catch (RejectedExecutionException e) {
+      pendingEmbeds.remove(summaryId, summaryText);
+      embedDropped.increment();
+      log.debug("임베딩 대기열이 가득 차 색인하지 않음 - summaryId: {}", summaryId);
+    }
+  }
+
+  private void embedAndAdd(Long summaryId, String summaryText) {
+    try {
+      float[] vector = embed(summaryText);
+      synchronized (deletedDuringRebuild) {
+        // 그사이 삭제됐거나 새 요약문으로 다시 예약됐으면 반영하지 않는다
+        if (pendingEmbeds.remove(summaryId, summaryText)) {
+          store(List.of(SummaryEmbedding.of(summaryId, embeddingProvider.name(),
+              TextNormalizer.contentHash(summaryText), vector)));
+          index.add(summaryId, vector);
+        }
+      }
+      compactIfNeeded();
+    } catch (Exception e) {
+      pendingEmbeds.remove(summaryId, summaryText);
+      log.warn("요약 임베딩 실패 - summaryId: {}, 원인: {}", summaryId, e.getMessage());
+    }
+  }
+
+  public void remove(Long summaryId) {
+    synchronized (deletedDuringRebuild) {
+      if (rebuilding) {
+        deletedDuringRebuild.add(summaryId);
+      }
+      pendingEmbeds.remove(summaryId);
+      index.remove(summaryId);
+    }
+    // 락을 놓은 뒤에는 진행 중인 임베딩이 이 요약의 벡터를 다시 저장하지 않는다
+    try {
+      summaryEmbeddingRepository.deleteById(summaryId);
+    } catch (DataAccessException e) {
+      log.warn("요약 임베딩 삭제 실패 - summaryId: {}, 원인: {}", summaryId, e.getMessage());
+    }
+    compactIfNeeded();
+  }
+
+  // 현재 제공자/차원으로 저장된 벡터만 (다른 제공자로 저장된 행은 다시 임베딩해 덮어쓴다)
+  private Map<Long, SummaryEmbedding> loadEmbeddings(List<SummaryIndexEntry> page) {
+    List<Long> ids = new ArrayList<>(page.size());
+    for (SummaryIndexEntry entry : page) {
+      ids.add(entry.getId());
+    }
+    Map<Long, SummaryEmbedding> stored = new HashMap<>();
+    for (SummaryEmbedding embedding : summaryEmbeddingRepository.findAllById(ids)) {
+      if (embedding.getProvider().equals(embeddingProvider.name())
+          && embedding.getDimension() == embeddingProvider.dimension()) {
+        stored.put(embedding.getSummaryId(), embedding);
+      }
+    }
+    return stored;
+  }
+
+  // 저장 실패는 검색 인덱스 반영을 막지 않는다 (다음 재구성 때 다시 임베딩)
+  private void store(List<SummaryEmbedding> embeddings) {
+    if (embeddings.isEmpty()) {
+      return;
+    }
+    try {
+      summaryEmbeddingRepository.saveAll(embeddings);
+    } catch (DataAccessException e) {
+      log.warn("요약 임베딩 저장 실패 - {}건, 원인: {}", embeddings.size(), e.getMessage());
+    }
+  }
+
+  /**
+   * 툼스톤이 compact-ratio를 넘으면 백그라운드에서 한 번만 압축한다 (압축 중에도 검색/추가/삭제 가능)
+   */
+  private void compactIfNeeded() {
+    int tombstones = index.tombstones();
+    if (tombstones < compactMinTombstones || tombstones < compactRatio * (index.size() + tombstones)) {
+      return;
+    }
+    if (!compacting.compareAndSet(false, true)) {
+      return;
+    }
+    Thread compactThread = new Thread(() -> {
+      long start = System.currentTimeMillis();
+      try {
+        index.compact();
+        log.info("의미 검색 인덱스 압축 완료 - 정리한 툼스톤: {}, 벡터 수: {}, 소요: {}ms",
+            tombstones, index.size(), System.currentTimeMillis() - start);
+      } catch (Exception e) {
+        log.error("의미 검색 인덱스 압축 실패: {}", e.getMessage());
+      } finally {
+        compacting.set(false);
+      }
+    }, "summary-semantic-compact");
+    compactThread.setDaemon(true);
+    compactThread.start();
+  }
+
+  /**
+   * 질의와 코사인 유사도가 높은 상위 k개 (ownerId의 요약만, 비회원이면 비회원 요약만)
+   */
+  public List<HnswIndex.Result> search(String query, int k, Long ownerId) {
+    float[] vector = embed(query);
+    long[] owned = summarySearchIndex.ownedSummaryIds(ownerId, Math.max(efSearch, k));
+    if (owned != null) {
+      return index.exactSearch(vector, k, owned);
+    }
+    return index.search(vector, k, efSearch, summaryId -> summarySearchIndex.isOwnedBy(summaryId, ownerId));
+  }
+
+  public int size() {
+    return index.size();
+  }
+
+  private float[] embed(String text) {
+    return embedTimer.record(() -> embeddingProvider.embed(text));
+  }
+}
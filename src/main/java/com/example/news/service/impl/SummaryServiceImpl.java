@@ -1,76 +1,383 @@
 package com.example.news.service.impl;
 
+import com.example.news.admission.BatchAdmission;
+import com.example.news.dto.SearchRequest;
+import com.example.news.dto.SummaryBatchResponse;
 import com.example.news.dto.SummaryRequest;
 import com.example.news.dto.SummaryResponse;
+import com.example.news.dto.SummarySearchResponse;
+import com.example.news.dto.ai.AISearchRequest;
+import com.example.news.dto.ai.AISearchResponse;
+import com.example.news.dto.SummaryHistoryResponse;
 import com.example.news.entity.Summary;
+import com.example.news.entity.SummaryArticle;
+import com.example.news.entity.User;
 import com.example.news.exception.AIServiceException;
+import com.example.news.exception.AuthenticationRequiredException;
 import com.example.news.exception.InvalidInputException;
 import com.example.news.exception.SummaryNotFoundException;
+import com.example.news.exception.UpstreamUnavailableException;
+import com.example.news.observability.PipelineObservations;
+import com.example.news.repository.ArticleBody;
+import com.example.news.repository.SummaryHistoryEntry;
 import com.example.news.repository.SummaryRepository;
 import com.example.news.service.AIService;
+import com.example.news.service.SummaryProgressListener;
 import com.example.news.service.SummaryService;
+import com.example.news.util.HistoryCursor;
+import com.example.news.util.HnswIndex;
+import com.example.news.util.TextNormalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 원격 AI 호출(수십 초)은 트랜잭션 밖에서 실행하고, DB 커넥션은 저장/조회 구간에서만 사용한다.
+ */
 @Service
 @RequiredArgsConstructor
-@Transactional
 public class SummaryServiceImpl implements SummaryService {
 
+  private static final int MAX_SEARCH_PAGE_SIZE = 100;
+  private static final int DEFAULT_SEMANTIC_RESULTS = 10;
+  private static final int MAX_HISTORY_PAGE_SIZE = 100;
+
   private final SummaryRepository summaryRepository;
   private final AIService aiService;
+  private final SummarySearchIndex summarySearchIndex;
+  private final SummarySemanticIndex summarySemanticIndex;
+  private final CurrentUserProvider currentUserProvider;
+  private final SummaryResponseCache summaryResponseCache;
+  private final PipelineObservations pipelineObservations;
+  private final SummaryUpgrader summaryUpgrader;
+  private final LegacyArticleBackfill legacyArticleBackfill;
+  @Qualifier("summaryBatchExecutor")
+  private final AsyncTaskExecutor summaryBatchExecutor;
+
+  @Value("${summary.batch.max-items:500}")
+  private int maxBatchItems;
+
+  @Value("${summary.batch.parallelism:16}")
+  private int batchParallelism;
 
   @Override
   public SummaryResponse createSummary(SummaryRequest request) {
+    return createSummary(request, SummaryProgressListener.NONE);
+  }
+
+  @Override
+  public SummaryResponse createSummary(SummaryRequest request, SummaryProgressListener listener) {
     if (request.getOriginalText() == null || request.getOriginalText().trim().isEmpty()) {
       throw new InvalidInputException("Original text cannot be empty");
     }
 
     try{
-      // AI 모델 사용해서 요약 생성 로직 구현
-      SummaryResponse aiResponse = aiService.summarizeText(request);
+      // AI 모델 사용해서 요약 생성 로직 구현 (커넥션 미점유 상태)
+      SummaryResponse aiResponse = aiService.summarizeText(request, listener);
 
-      Summary summary = Summary.builder()
-          .originalText(request.getOriginalText())
-          .summaryText(aiResponse.getSummaryText())
-          .build();
+      Summary summary = toEntity(request, aiResponse, currentUserProvider.findCurrentUser().orElse(null));
 
-      Summary savedSummary = summaryRepository.save(summary);
-      return convertToResponse(savedSummary);
+      // 최종 INSERT만 짧은 트랜잭션으로 실행
+      Summary savedSummary = pipelineObservations.observe(PipelineObservations.PERSIST,
+          () -> summaryRepository.save(summary));
+      summarySearchIndex.add(savedSummary.getId(), ownerId(savedSummary), savedSummary.getSummaryText());
+      summarySemanticIndex.add(savedSummary.getId(), savedSummary.getSummaryText());
+      if (Boolean.TRUE.equals(aiResponse.getProvisional())) {
+        summaryUpgrader.schedule(savedSummary.getContentHash(), request.getOriginalText());
+      }
+      // 원문은 요청에 이미 있으므로 저장된 압축본을 다시 풀지 않는다
+      SummaryResponse response = convertToResponse(savedSummary, request.getOriginalText());
+      response.setProvisional(aiResponse.getProvisional());
+      listener.onPersisted(response);
+      return response;
+    } catch (UpstreamUnavailableException e) {
+      // 서킷 오픈/동시 실행 한도 초과는 503으로 그대로 전달
+      throw e;
     } catch (Exception e){
       throw new AIServiceException("Failed to create summary", e);
     }
   }
 
   @Override
-  public SummaryResponse searchSummary(SummaryRequest request) {
-    if (request.getOriginalText() == null || request.getOriginalText().trim().isEmpty()) {
-      throw new InvalidInputException("Search query cannot be empty");
+  public SummaryBatchResponse createSummaries(List<SummaryRequest> requests) {
+    return createSummaries(requests, BatchAdmission.UNLIMITED);
+  }
+
+  @Override
+  public SummaryBatchResponse createSummaries(List<SummaryRequest> requests, BatchAdmission admission) {
+    if (requests == null || requests.isEmpty()) {
+      throw new InvalidInputException("Batch items cannot be empty");
+    }
+    if (requests.size() > maxBatchItems) {
+      throw new InvalidInputException("Batch cannot exceed " + maxBatchItems + " items");
+    }
+
+    // 작업 스레드에는 인증 정보가 없으므로 요청 스레드에서 미리 확인
+    User user = currentUserProvider.findCurrentUser().orElse(null);
+
+    // 1) 허용된 항목만 입장 슬롯 수만큼의 작업자가 나눠 AI 파이프라인 실행 (트랜잭션 밖)
+    BatchAdmission.Grant grant = admission.admit(requests.size(), batchParallelism);
+    List<CompletableFuture<Summarized>> pending = new ArrayList<>(grant.items());
+    for (int i = 0; i < grant.items(); i++) {
+      pending.add(new CompletableFuture<>());
+    }
+    for (int worker = 0; worker < grant.parallelism(); worker++) {
+      int first = worker;
+      summaryBatchExecutor.execute(() -> {
+        for (int i = first; i < pending.size(); i += grant.parallelism()) {
+          try {
+            pending.get(i).complete(summarizeToEntity(requests.get(i), user));
+          } catch (Throwable e) {
+            // 어떤 실패든 항목 오류로 남겨야 요청 스레드의 join이 끝난다
+            pending.get(i).completeExceptionally(e);
+          }
+        }
+      });
     }
 
+    String[] errors = new String[requests.size()];
+    for (int i = grant.items(); i < requests.size(); i++) {
+      errors[i] = "Rate limit exceeded for this batch item. Please retry it later.";
+    }
+    List<Summary> summaries = new ArrayList<>(requests.size());
+    List<Integer> summaryIndexes = new ArrayList<>(requests.size());
+    boolean[] provisional = new boolean[requests.size()];
+    for (int i = 0; i < pending.size(); i++) {
+      try {
+        Summarized summarized = pending.get(i).join();
+        summaries.add(summarized.summary());
+        provisional[i] = summarized.provisional();
+        summaryIndexes.add(i);
+      } catch (CompletionException e) {
+        Throwable cause = e.getCause() != null ? e.getCause() : e;
+        errors[i] = cause.getMessage();
+      }
+    }
+
+    // 2) 성공한 항목만 한 트랜잭션에서 JDBC 배치 INSERT
+    //    배치가 실패하면 (한 항목의 제약 위반 등) 전체를 버리지 않고 항목별로 다시 저장해 실패한 항목만 오류로 남긴다
+    List<Summary> saved;
+    List<Integer> savedIndexes;
     try {
-      // 검색 로직 구현
-      SummaryResponse aiResponse = aiService.searchText(request);
+      saved = pipelineObservations.observe(PipelineObservations.PERSIST, () -> summaryRepository.saveAll(summaries));
+      savedIndexes = summaryIndexes;
+    } catch (Exception e) {
+      saved = new ArrayList<>(summaries.size());
+      savedIndexes = new ArrayList<>(summaries.size());
+      for (int i = 0; i < summaries.size(); i++) {
+        Summary summary = retryable(summaries.get(i));
+        try {
+          saved.add(pipelineObservations.observe(PipelineObservations.PERSIST, () -> summaryRepository.save(summary)));
+          savedIndexes.add(summaryIndexes.get(i));
+        } catch (Exception itemError) {
+          errors[summaryIndexes.get(i)] = "Failed to save summary: " + itemError.getMessage();
+        }
+      }
+    }
 
-      Summary summary = Summary.builder()
-          .originalText(request.getOriginalText())
-          .summaryText(aiResponse.getSummaryText())
-          .build();
+    SummaryResponse[] responses = new SummaryResponse[requests.size()];
+    for (int i = 0; i < saved.size(); i++) {
+      summarySearchIndex.add(saved.get(i).getId(), ownerId(saved.get(i)), saved.get(i).getSummaryText());
+      summarySemanticIndex.add(saved.get(i).getId(), saved.get(i).getSummaryText());
+      int index = savedIndexes.get(i);
+      if (provisional[index]) {
+        summaryUpgrader.schedule(saved.get(i).getContentHash(), requests.get(index).getOriginalText());
+      }
+      responses[index] = convertToResponse(saved.get(i), requests.get(index).getOriginalText());
+      responses[index].setProvisional(provisional[index] ? Boolean.TRUE : null);
+    }
+
+    List<SummaryBatchResponse.Item> results = new ArrayList<>(requests.size());
+    for (int i = 0; i < requests.size(); i++) {
+      results.add(SummaryBatchResponse.Item.builder()
+          .index(i)
+          .summary(responses[i])
+          .error(errors[i])
+          .build());
+    }
+    return SummaryBatchResponse.builder()
+        .total(requests.size())
+        .succeeded(saved.size())
+        .failed(requests.size() - saved.size())
+        .results(results)
+        .build();
+  }
 
-      Summary savedSummary = summaryRepository.save(summary);
-      return convertToResponse(savedSummary);
+  /**
+   * 롤백된 배치에서 이미 키를 받은 엔티티는 새 행으로 다시 INSERT되도록 키를 비운다
+   * (키가 남아 있으면 merge로 처리되어 없는 행을 찾다가 실패한다)
+   */
+  private static Summary retryable(Summary summary) {
+    summary.setId(null);
+    if (summary.getArticle() != null) {
+      summary.setArticle(SummaryArticle.of(summary.getArticle().getText()));
+    }
+    return summary;
+  }
+
+  private Summarized summarizeToEntity(SummaryRequest request, User user) {
+    if (request == null || request.getOriginalText() == null || request.getOriginalText().trim().isEmpty()) {
+      throw new InvalidInputException("Original text cannot be empty");
+    }
+    try {
+      SummaryResponse aiResponse = aiService.summarizeText(request, SummaryProgressListener.NONE);
+      return new Summarized(toEntity(request, aiResponse, user), Boolean.TRUE.equals(aiResponse.getProvisional()));
+    } catch (AIServiceException e) {
+      throw e;
     } catch (Exception e) {
-      throw new AIServiceException("Failed to search summary", e);
+      throw new AIServiceException("Failed to create summary", e);
     }
   }
 
+  private Summary toEntity(SummaryRequest request, SummaryResponse aiResponse, User user) {
+    return Summary.builder()
+        .user(user)
+        .article(SummaryArticle.of(request.getOriginalText()))
+        .summaryText(aiResponse.getSummaryText())
+        .summaryEngine(aiResponse.getEngine())
+        .contentHash(TextNormalizer.contentHash(request.getOriginalText()))
+        .build();
+  }
+
+  @Override
+  public SummarySearchResponse searchSummary(SearchRequest request) {
+    if (request.getOriginalText() == null || request.getOriginalText().trim().isEmpty()) {
+      throw new InvalidInputException("Search query cannot be empty");
+    }
+    if (request.getPage() < 0 || request.getSize() < 1 || request.getSize() > MAX_SEARCH_PAGE_SIZE) {
+      throw new InvalidInputException("Page must be >= 0 and size must be between 1 and " + MAX_SEARCH_PAGE_SIZE);
+    }
+
+    // 프로세스 내 역색인 조회 (DB/네트워크 호출 없음), 요청자 본인의 요약만 (비회원은 비회원 요약만)
+    Long ownerId = currentOwnerId();
+    SummarySearchIndex.SearchResult result =
+        summarySearchIndex.search(request.getOriginalText(), ownerId, request.getPage(), request.getSize());
+
+    List<SummarySearchResponse.Hit> hits = new ArrayList<>(result.hits().size());
+    for (SummarySearchIndex.Hit hit : result.hits()) {
+      hits.add(SummarySearchResponse.Hit.builder()
+          .id(hit.summaryId())
+          .summaryText(hit.preview())
+          .score(hit.score())
+          .build());
+    }
+    return SummarySearchResponse.builder()
+        .query(request.getOriginalText())
+        .page(request.getPage())
+        .size(request.getSize())
+        .totalHits(result.totalHits())
+        .hits(hits)
+        .build();
+  }
+
+  @Override
+  public AISearchResponse semanticSearch(AISearchRequest request) {
+    if (request.getQuery() == null || request.getQuery().trim().isEmpty()) {
+      throw new InvalidInputException("Search query cannot be empty");
+    }
+    int maxResults = request.getMaxResults() > 0 ? request.getMaxResults() : DEFAULT_SEMANTIC_RESULTS;
+    if (maxResults > MAX_SEARCH_PAGE_SIZE) {
+      throw new InvalidInputException("maxResults must be between 1 and " + MAX_SEARCH_PAGE_SIZE);
+    }
+
+    long start = System.nanoTime();
+    List<HnswIndex.Result> nearest = summarySemanticIndex.search(request.getQuery(), maxResults, currentOwnerId());
+
+    List<AISearchResponse.SearchResult> results = new ArrayList<>(nearest.size());
+    for (HnswIndex.Result hit : nearest) {
+      AISearchResponse.SearchResult result = new AISearchResponse.SearchResult();
+      result.setSummary(summarySearchIndex.preview(hit.externalId()));
+      result.setRelevance(hit.similarity());
+      result.setSource("summary:" + hit.externalId());
+      results.add(result);
+    }
+    AISearchResponse response = new AISearchResponse();
+    response.setResults(results);
+    response.setTotalResults(results.size());
+    response.setSearchTime((System.nanoTime() - start) / 1_000_000.0);
+    return response;
+  }
+
+  @Override
+  public SummaryHistoryResponse getMySummaries(String cursor, int size) {
+    if (size < 1 || size > MAX_HISTORY_PAGE_SIZE) {
+      throw new InvalidInputException("Size must be between 1 and " + MAX_HISTORY_PAGE_SIZE);
+    }
+    User user = currentUserProvider.findCurrentUser()
+        .orElseThrow(() -> new AuthenticationRequiredException("Login is required"));
+
+    // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회 (COUNT 쿼리 없음)
+    Limit limit = Limit.of(size + 1);
+    List<SummaryHistoryEntry> rows;
+    if (cursor == null || cursor.isBlank()) {
+      rows = summaryRepository.findHistory(user.getId(), limit);
+    } else {
+      HistoryCursor position = HistoryCursor.decode(cursor);
+      rows = summaryRepository.findHistoryBefore(user.getId(), position.createdAt(), position.id(), limit);
+    }
+
+    boolean hasNext = rows.size() > size;
+    List<SummaryHistoryEntry> page = hasNext ? rows.subList(0, size) : rows;
+    List<SummaryHistoryResponse.Item> items = new ArrayList<>(page.size());
+    for (SummaryHistoryEntry row : page) {
+      items.add(SummaryHistoryResponse.Item.builder()
+          .id(row.getId())
+          .createdAt(row.getCreatedAt())
+          .preview(row.getPreview())
+          .build());
+    }
+    String nextCursor = null;
+    if (hasNext) {
+      SummaryHistoryEntry last = page.get(page.size() - 1);
+      nextCursor = new HistoryCursor(last.getCreatedAt(), last.getId()).encode();
+    }
+    return SummaryHistoryResponse.builder()
+        .items(items)
+        .size(items.size())
+        .hasNext(hasNext)
+        .nextCursor(nextCursor)
+        .build();
+  }
+
   @Override
-  @Transactional(readOnly = true)
   public SummaryResponse getSummary(Long summaryId) {
+    return getSummary(summaryId, true);
+  }
+
+  /**
+   * 캐시 적중 시 트랜잭션/커넥션 없이 응답 (미스일 때만 각 조회가 기본 DB에서 짧은 트랜잭션 사용)
+   */
+  @Override
+  public SummaryResponse getSummary(Long summaryId, boolean includeOriginal) {
+    SummaryResponse summary = summaryResponseCache.getSummary(summaryId, this::loadSummary);
+    if (!includeOriginal) {
+      return summary;
+    }
+    // includeOriginal=false면 summary_articles는 조회하지 않는다
+    // 원문 분리 전에 저장돼 아직 옮기지 않은 행은 옛 original_text 컬럼에서 읽는다
+    ArticleBody article = summaryResponseCache.getArticle(summaryId,
+        id -> summaryRepository.findArticleBySummaryId(id)
+            .orElseGet(() -> legacyArticleBackfill.legacyArticle(id)));
+    return SummaryResponse.builder()
+        .id(summary.getId())
+        .originalText(article != null ? article.text() : null)
+        .summaryText(summary.getSummaryText())
+        .createdAt(summary.getCreatedAt())
+        .engine(summary.getEngine())
+        .build();
+  }
+
+  private SummaryResponse loadSummary(Long summaryId) {
     Summary summary = summaryRepository.findById(summaryId)
         .orElseThrow(() -> new SummaryNotFoundException(summaryId));
-    return convertToResponse(summary);
+    return convertToResponse(summary, null);
   }
 
   @Override
@@ -79,15 +386,32 @@ public class SummaryServiceImpl implements SummaryService {
     if (!summaryRepository.existsById(summaryId)) {
       throw new SummaryNotFoundException(summaryId);
     }
+    // 커밋된 뒤에 무효화해야 동시 조회가 삭제 전 행으로 캐시를 다시 채우지 않는다
     summaryRepository.deleteById(summaryId);
+    summaryResponseCache.invalidate(summaryId);
+    summarySearchIndex.remove(summaryId);
+    summarySemanticIndex.remove(summaryId);
+  }
+
+  private Long currentOwnerId() {
+    return currentUserProvider.findCurrentUser().map(User::getId).orElse(null);
+  }
+
+  private static Long ownerId(Summary summary) {
+    return summary.getUser() != null ? summary.getUser().getId() : null;
   }
 
-  private SummaryResponse convertToResponse(Summary summary) {
+  static SummaryResponse convertToResponse(Summary summary, String originalText) {
     return SummaryResponse.builder()
         .id(summary.getId())
-        .originalText(summary.getOriginalText())
+        .originalText(originalText)
         .summaryText(summary.getSummaryText())
         .createdAt(summary.getCreatedAt())
+        .engine(summary.getSummaryEngine())
         .build();
   }
+
+  // 배치 항목 결과 (provisional이면 저장 후 원격 요약 교체 예약)
+  private record Summarized(Summary summary, boolean provisional) {
+  }
 }
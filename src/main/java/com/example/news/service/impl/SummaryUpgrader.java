@@ -0,0 +1,245 @@
+package com.example.news.service.impl;
+
+import com.example.news.exception.UpstreamUnavailableException;
+import com.example.news.repository.SummaryRepository;
+import com.example.news.service.SummaryProgressListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 임시(추출) 요약을 원격 요약으로 교체한다.
+ * 교체 후 같은 본문의 요약 행, 본문 해시 캐시, 응답 캐시, 검색/의미 인덱스를 모두 갱신한다.
+ * 교체는 요청 응답 속도와 무관한 부가 작업이므로 전용 풀 + 고정 크기 대기열에서 실행하고,
+ * 대기열이 차면 호출 스레드를 막지 않고 버린다 (같은 본문이 다시 들어오면 그때 다시 예약된다).
+ * 원격 요약이 실패하면 지수 백오프로 다시 예약한다. 업스트림 장애(서킷 오픈/동시 실행 한도 초과)는
+ * 풀릴 때까지 횟수 제한 없이, 그 외 실패는 max-attempts 회까지 (재시도 대기도 queue-capacity 건까지만).
+ */
+@Component
+public class SummaryUpgrader {
+
+  private static final Logger log = LoggerFactory.getLogger(SummaryUpgrader.class);
+
+  private final RemoteSummarizationEngine remoteEngine;
+  private final SummaryRepository summaryRepository;
+  private final SummaryCache summaryCache;
+  private final SummaryResponseCache summaryResponseCache;
+  private final SummarySearchIndex summarySearchIndex;
+  private final SummarySemanticIndex summarySemanticIndex;
+  private final ThreadPoolExecutor workers;
+  // 같은 본문의 교체는 한 번만 진행, 진행 중에 다시 예약되면 true (그사이 저장된 행도 교체하도록 UPDATE 재실행)
+  private final ConcurrentHashMap<String, Boolean> pending = new ConcurrentHashMap<>();
+  private final ScheduledExecutorService retryScheduler;
+  private final AtomicInteger retryWaiting = new AtomicInteger();
+  private final int retryCapacity;
+  private final int maxAttempts;
+  private final long initialBackoffMillis;
+  private final long maxBackoffMillis;
+  private final Counter upgraded;
+  private final Counter failed;
+  private final Counter dropped;
+  private final Counter retried;
+
+  public SummaryUpgrader(
+      RemoteSummarizationEngine remoteEngine,
+      SummaryRepository summaryRepository,
+      SummaryCache summaryCache,
+      SummaryResponseCache summaryResponseCache,
+      SummarySearchIndex summarySearchIndex,
+      SummarySemanticIndex summarySemanticIndex,
+      MeterRegistry meterRegistry,
+      Environment environment,
+      @Value("${summary.upgrade.workers:4}") int workerCount,
+      @Value("${summary.upgrade.queue-capacity:1000}") int queueCapacity,
+      @Value("${summary.upgrade.max-attempts:5}") int maxAttempts,
+      @Value("${summary.upgrade.initial-backoff:PT30S}") Duration initialBackoff,
+      @Value("${summary.upgrade.max-backoff:PT10M}") Duration maxBackoff) {
+    this.remoteEngine = remoteEngine;
+    this.summaryRepository = summaryRepository;
+    this.summaryCache = summaryCache;
+    this.summaryResponseCache = summaryResponseCache;
+    this.summarySearchIndex = summarySearchIndex;
+    this.summarySemanticIndex = summarySemanticIndex;
+    this.retryCapacity = queueCapacity;
+    this.maxAttempts = maxAttempts;
+    this.initialBackoffMillis = initialBackoff.toMillis();
+    this.maxBackoffMillis = maxBackoff.toMillis();
+
+    // 원격 요약은 aiPipelineExecutor 작업을 기다리며 블로킹하므로 그 풀과 분리
+    AtomicInteger threadIndex = new AtomicInteger();
+    ThreadFactory threadFactory = Threading.VIRTUAL.isActive(environment)
+        ? new VirtualThreadTaskExecutor("summary-upgrade-").getVirtualThreadFactory()
+        : r -> {
+          Thread thread = new Thread(r, "summary-upgrade-" + threadIndex.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        };
+    this.workers = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+    // 재시도 예약만 하는 스레드 (실행은 workers 대기열로 넘긴다)
+    this.retryScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread thread = new Thread(r, "summary-upgrade-retry");
+      thread.setDaemon(true);
+      return thread;
+    });
+
+    this.upgraded = upgradeCounter(meterRegistry, "upgraded");
+    this.failed = upgradeCounter(meterRegistry, "failed");
+    this.dropped = upgradeCounter(meterRegistry, "dropped");
+    this.retried = upgradeCounter(meterRegistry, "retried");
+    Gauge.builder("summary.upgrade.queue.depth", workers, executor -> executor.getQueue().size())
+        .description("대기 중인 요약 교체 작업 수")
+        .register(meterRegistry);
+    Gauge.builder("summary.upgrade.retry.waiting", retryWaiting, AtomicInteger::get)
+        .description("백오프 후 다시 실행하려고 기다리는 요약 교체 수")
+        .register(meterRegistry);
+  }
+
+  @PreDestroy
+  void shutdown() {
+    retryScheduler.shutdownNow();
+    workers.shutdownNow();
+  }
+
+  /**
+   * 임시 요약이 저장된 뒤에 호출해야 한다 (교체 UPDATE가 그 행을 찾을 수 있도록)
+   * 호출 스레드를 막지 않는다 (대기열이 가득 차면 버림)
+   */
+  public void schedule(String contentHash, String originalText) {
+    while (pending.putIfAbsent(contentHash, Boolean.FALSE) != null) {
+      // 진행 중인 교체가 끝날 때 이 행도 교체되도록 표시 (그사이 교체가 끝났으면 새로 예약)
+      if (pending.computeIfPresent(contentHash, (key, rerun) -> Boolean.TRUE) != null) {
+        return;
+      }
+    }
+    submit(contentHash, originalText, 1);
+  }
+
+  private void submit(String contentHash, String originalText, int attempt) {
+    try {
+      workers.execute(() -> upgrade(contentHash, originalText, attempt));
+    } catch (RejectedExecutionException e) {
+      pending.remove(contentHash);
+      dropped.increment();
+      log.debug("요약 교체 대기열이 가득 차 교체하지 않음 - contentHash: {}", contentHash);
+    }
+  }
+
+  private void upgrade(String contentHash, String originalText, int attempt) {
+    String summaryText;
+    try {
+      summaryText = remoteEngine.summarize(originalText, SummaryProgressListener.NONE);
+    } catch (RuntimeException e) {
+      if (retryLater(contentHash, originalText, attempt, e)) {
+        return;
+      }
+      // 더 재시도하지 않으면 추출 요약을 그대로 유지
+      pending.remove(contentHash);
+      failed.increment();
+      log.warn("원격 요약 교체 실패 - contentHash: {}, 시도: {}, 원인: {}", contentHash, attempt, e.getMessage());
+      return;
+    }
+
+    try {
+      // 교체 중에 같은 본문으로 저장된 추출 요약 행이 있으면(재예약 표시) UPDATE를 한 번 더 실행
+      do {
+        apply(contentHash, summaryText);
+      } while (!pending.remove(contentHash, Boolean.FALSE)
+          && pending.replace(contentHash, Boolean.TRUE, Boolean.FALSE));
+      upgraded.increment();
+    } catch (RuntimeException e) {
+      pending.remove(contentHash);
+      failed.increment();
+      log.warn("요약 교체 저장 실패 - contentHash: {}, 원인: {}", contentHash, e.getMessage());
+    }
+  }
+
+  /**
+   * 백오프 후 다시 예약 (pending 항목은 그대로 두어 그사이 같은 본문이 중복 예약되지 않게 한다)
+   * @return 재시도를 예약했으면 true
+   */
+  private boolean retryLater(String contentHash, String originalText, int attempt, RuntimeException cause) {
+    UpstreamUnavailableException unavailable = upstreamUnavailable(cause);
+    if (unavailable == null && attempt >= maxAttempts) {
+      return false;
+    }
+    if (retryWaiting.incrementAndGet() > retryCapacity) {
+      retryWaiting.decrementAndGet();
+      return false;
+    }
+    long delayMillis = backoffMillis(attempt);
+    if (unavailable != null) {
+      delayMillis = Math.max(delayMillis, TimeUnit.SECONDS.toMillis(unavailable.getRetryAfterSeconds()));
+    }
+    try {
+      retryScheduler.schedule(() -> {
+        retryWaiting.decrementAndGet();
+        submit(contentHash, originalText, attempt + 1);
+      }, delayMillis, TimeUnit.MILLISECONDS);
+    } catch (RejectedExecutionException e) {
+      retryWaiting.decrementAndGet();
+      return false;
+    }
+    retried.increment();
+    log.debug("원격 요약 교체 {}ms 후 재시도 - contentHash: {}, 시도: {}, 원인: {}",
+        delayMillis, contentHash, attempt, cause.getMessage());
+    return true;
+  }
+
+  // initialBackoff * 2^(attempt - 1), 최대 maxBackoff
+  private long backoffMillis(int attempt) {
+    int shift = Math.min(attempt - 1, 20);
+    return Math.min(maxBackoffMillis, initialBackoffMillis << shift);
+  }
+
+  // 청크 병렬 요약 등에서 감싸져 올라온 경우도 찾는다
+  private static UpstreamUnavailableException upstreamUnavailable(Throwable e) {
+    for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+      if (cause instanceof UpstreamUnavailableException unavailable) {
+        return unavailable;
+      }
+    }
+    return null;
+  }
+
+  private void apply(String contentHash, String summaryText) {
+    List<Long> summaryIds = summaryRepository.findIdsByContentHashAndEngine(contentHash,
+        ExtractiveSummarizationEngine.NAME);
+    int updated = summaryRepository.upgradeSummaryText(contentHash, ExtractiveSummarizationEngine.NAME,
+        summaryText, remoteEngine.name());
+    summaryCache.put(contentHash, summaryText, remoteEngine.name());
+    // 응답 캐시는 UPDATE 커밋 뒤에 비워야 동시 조회가 이전 요약으로 다시 채우지 않는다
+    for (Long summaryId : summaryIds) {
+      summaryResponseCache.invalidate(summaryId);
+      summarySearchIndex.replaceText(summaryId, summaryText);
+      summarySemanticIndex.add(summaryId, summaryText);
+    }
+    log.debug("요약 교체 완료 - contentHash: {}, 갱신 행: {}", contentHash, updated);
+  }
+
+  private static Counter upgradeCounter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder("summary.upgrade")
+        .description("추출 요약을 원격 요약으로 교체한 결과 (dropped=교체 대기열 가득 참, retried=백오프 후 재시도 예약)")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+}
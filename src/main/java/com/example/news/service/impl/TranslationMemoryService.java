@@ -0,0 +1,300 @@
+package com.example.news.service.impl;
+
+import com.example.news.entity.TranslationMemoryEntry;
+import com.example.news.repository.TranslationMemoryRepository;
+import com.example.news.service.TranslationService;
+import com.example.news.util.KoreanTokenizer;
+import com.example.news.util.SentenceSplitter;
+import com.example.news.util.TextNormalizer;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+/**
+ * 문장 단위 번역 메모리
+ * 요약을 문장으로 나눠 정규화된 문장 해시로 조회하고(1차 Caffeine, 2차 translation_memory 테이블),
+ * 처음 보는 문장만 줄바꿈으로 이어 한 번의 헤지 번역 요청으로 보낸다.
+ * 모든 문장이 적중하면 네트워크 호출 없이 번역을 조립한다.
+ * 줄 수가 맞아도 줄마다 원문 대비 길이 비율과 한글 포함 여부를 확인해, 어긋난 응답(줄 밀림/병합)이나
+ * 번역되지 않은 줄(원문 그대로 반환)은 메모리에 남기지 않는다.
+ */
+@Service
+@Primary
+public class TranslationMemoryService implements TranslationService {
+
+  private static final Logger log = LoggerFactory.getLogger(TranslationMemoryService.class);
+  // 미적중 문장 묶음 구분자 (번역 업스트림은 줄바꿈을 유지한다)
+  private static final String LINE_SEPARATOR = "\n";
+
+  private final HedgedTranslationService upstream;
+  private final TranslationMemoryRepository translationMemoryRepository;
+  private final Cache<String, String> localCache;
+  private final boolean enabled;
+  private final int maxSentenceChars;
+  private final double minLengthRatio;
+  private final double maxLengthRatio;
+  private final Counter localHits;
+  private final Counter databaseHits;
+  private final Counter misses;
+  private final Counter misaligned;
+  private final Counter implausible;
+
+  public TranslationMemoryService(
+      HedgedTranslationService upstream,
+      TranslationMemoryRepository translationMemoryRepository,
+      MeterRegistry meterRegistry,
+      @Value("${translation.memory.enabled:true}") boolean enabled,
+      @Value("${translation.memory.max-size:100000}") long maxSize,
+      @Value("${translation.memory.max-sentence-chars:500}") int maxSentenceChars,
+      @Value("${translation.memory.min-length-ratio:0.2}") double minLengthRatio,
+      @Value("${translation.memory.max-length-ratio:1.5}") double maxLengthRatio) {
+    this.upstream = upstream;
+    this.translationMemoryRepository = translationMemoryRepository;
+    this.enabled = enabled;
+    this.maxSentenceChars = maxSentenceChars;
+    this.minLengthRatio = minLengthRatio;
+    this.maxLengthRatio = maxLengthRatio;
+    this.localCache = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, localCache, "translation.memory.local");
+    this.localHits = sentenceCounter(meterRegistry, "local");
+    this.databaseHits = sentenceCounter(meterRegistry, "db");
+    this.misses = sentenceCounter(meterRegistry, "miss");
+    this.misaligned = Counter.builder("translation.memory.misaligned")
+        .description("번역 응답 줄 수가 요청 문장 수와 달라 문장별로 저장하지 못한 요청 수")
+        .register(meterRegistry);
+    this.implausible = Counter.builder("translation.memory.implausible")
+        .description("원문 대비 길이 비율이 범위를 벗어난 줄이 있어 저장하지 않은 번역 응답 수")
+        .register(meterRegistry);
+    Gauge.builder("translation.memory.hit.ratio", this, TranslationMemoryService::hitRatio)
+        .description("번역 메모리 문장 적중률 (1차 + 2차)")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public String translateToKorean(String englishText) {
+    if (!enabled) {
+      return upstream.translateToKorean(englishText);
+    }
+    List<String> sentences = SentenceSplitter.split(englishText);
+    if (sentences.isEmpty()) {
+      return englishText;
+    }
+
+    int count = sentences.size();
+    String[] keys = new String[count];
+    String[] translated = new String[count];
+    for (int i = 0; i < count; i++) {
+      // 너무 긴 문장은 재사용 가능성이 낮으므로 메모리에 두지 않는다
+      if (sentences.get(i).length() <= maxSentenceChars) {
+        keys[i] = TextNormalizer.contentHash(sentences.get(i));
+      }
+    }
+    lookup(keys, translated);
+
+    // 미적중 문장 (같은 문장은 한 번만 요청)
+    Map<String, List<Integer>> pending = new LinkedHashMap<>();
+    for (int i = 0; i < count; i++) {
+      if (translated[i] == null) {
+        pending.computeIfAbsent(TextNormalizer.normalize(sentences.get(i)), key -> new ArrayList<>()).add(i);
+      }
+    }
+    int missing = countMissing(translated);
+    misses.increment(missing);
+    if (pending.isEmpty()) {
+      return String.join(" ", translated);
+    }
+
+    List<String> unseen = new ArrayList<>(pending.keySet());
+    Optional<HedgedTranslationService.Translation> result =
+        upstream.tryTranslateToKorean(String.join(LINE_SEPARATOR, unseen));
+    if (result.isEmpty()) {
+      // 번역 실패 문장은 영어 원문 그대로 둔다 (적중한 문장은 번역문 유지)
+      fill(pending, unseen, unseen.toArray(String[]::new), translated);
+      return String.join(" ", translated);
+    }
+
+    String[] lines = result.get().translatedText().split(LINE_SEPARATOR, -1);
+    if (lines.length != unseen.size()) {
+      misaligned.increment();
+      log.debug("번역 응답 줄 수 불일치 - 요청: {}, 응답: {}", unseen.size(), lines.length);
+      if (missing == count) {
+        // 적중 문장이 없으면 묶음 번역이 곧 전체 번역
+        return result.get().translatedText().replace(LINE_SEPARATOR, " ").trim();
+      }
+      return upstream.translateToKorean(englishText);
+    }
+
+    for (int i = 0; i < lines.length; i++) {
+      lines[i] = lines[i].trim();
+    }
+    fill(pending, unseen, lines, translated);
+    if (plausible(unseen, lines)) {
+      remember(pending, unseen, lines, keys, result.get().provider());
+    } else {
+      // 한 줄이 밀리면 이웃 줄도 어긋나므로 이번 응답은 통째로 저장하지 않는다 (응답에는 그대로 사용)
+      implausible.increment();
+    }
+    return String.join(" ", translated);
+  }
+
+  private void lookup(String[] keys, String[] translated) {
+    Set<String> requested = new HashSet<>();
+    for (String key : keys) {
+      if (key != null) {
+        requested.add(key);
+      }
+    }
+    if (requested.isEmpty()) {
+      return;
+    }
+
+    Map<String, String> found = new LinkedHashMap<>(localCache.getAllPresent(requested));
+    int local = assign(keys, translated, found);
+    localHits.increment(local);
+
+    requested.removeAll(found.keySet());
+    if (requested.isEmpty()) {
+      return;
+    }
+    Map<String, String> stored = new LinkedHashMap<>();
+    try {
+      for (TranslationMemoryEntry entry : translationMemoryRepository.findAllById(requested)) {
+        stored.put(entry.getSourceHash(), entry.getTranslatedText());
+      }
+    } catch (DataAccessException e) {
+      // 2차 저장소 장애는 번역을 막지 않는다 (업스트림으로 번역)
+      log.warn("번역 메모리 조회 실패: {}", e.getMessage());
+      return;
+    }
+    localCache.putAll(stored);
+    databaseHits.increment(assign(keys, translated, stored));
+  }
+
+  private static int assign(String[] keys, String[] translated, Map<String, String> found) {
+    int assigned = 0;
+    for (int i = 0; i < keys.length; i++) {
+      if (translated[i] == null && keys[i] != null) {
+        String value = found.get(keys[i]);
+        if (value != null) {
+          translated[i] = value;
+          assigned++;
+        }
+      }
+    }
+    return assigned;
+  }
+
+  private static void fill(Map<String, List<Integer>> pending, List<String> unseen, String[] values,
+      String[] translated) {
+    for (int u = 0; u < unseen.size(); u++) {
+      for (int index : pending.get(unseen.get(u))) {
+        translated[index] = values[u];
+      }
+    }
+  }
+
+  /**
+   * 줄마다 한글이 들어 있고 원문과 다르며, 번역문 길이 / 원문 길이가 [minLengthRatio, maxLengthRatio] 안인지
+   * (한국어 번역은 보통 영어 원문 글자 수의 절반 안팎, 비거나 두 문장이 합쳐진 줄은 범위를 벗어난다)
+   */
+  private boolean plausible(List<String> sources, String[] lines) {
+    for (int i = 0; i < lines.length; i++) {
+      if (!containsHangul(lines[i]) || TextNormalizer.normalize(lines[i]).equals(sources.get(i))) {
+        // 업스트림이 번역하지 못하고 원문(또는 다른 언어)을 그대로 돌려준 줄
+        log.debug("번역되지 않은 줄 - 원문: {}자", sources.get(i).length());
+        return false;
+      }
+      double ratio = (double) lines[i].length() / sources.get(i).length();
+      if (ratio < minLengthRatio || ratio > maxLengthRatio) {
+        log.debug("번역 길이 비율 이상 - 원문: {}자, 번역: {}자", sources.get(i).length(), lines[i].length());
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void remember(Map<String, List<Integer>> pending, List<String> unseen, String[] lines, String[] keys,
+      String provider) {
+    List<TranslationMemoryEntry> entries = new ArrayList<>(unseen.size());
+    for (int u = 0; u < unseen.size(); u++) {
+      String key = keys[pending.get(unseen.get(u)).get(0)];
+      if (key == null || lines[u].isEmpty()) {
+        continue;
+      }
+      localCache.put(key, lines[u]);
+      entries.add(TranslationMemoryEntry.of(key, lines[u], provider));
+    }
+    if (entries.isEmpty()) {
+      return;
+    }
+    try {
+      translationMemoryRepository.saveAll(entries);
+    } catch (DataAccessException e) {
+      // 다른 요청이 같은 문장을 먼저 저장하면 한 트랜잭션인 saveAll 전체가 롤백되므로 한 건씩 다시 저장한다
+      log.debug("번역 메모리 일괄 저장 실패, 문장별로 재시도: {}", e.getMessage());
+      for (TranslationMemoryEntry entry : entries) {
+        saveIgnoringDuplicate(TranslationMemoryEntry.of(entry.getSourceHash(), entry.getTranslatedText(), provider));
+      }
+    }
+  }
+
+  private void saveIgnoringDuplicate(TranslationMemoryEntry entry) {
+    try {
+      translationMemoryRepository.save(entry);
+    } catch (DataAccessException e) {
+      // 이미 저장된 문장 등 (1차 캐시에는 이미 반영됨)
+      log.debug("번역 메모리 저장 실패: {}", e.getMessage());
+    }
+  }
+
+  private static boolean containsHangul(String text) {
+    for (int i = 0; i < text.length(); i++) {
+      if (KoreanTokenizer.isHangul(text.charAt(i))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static int countMissing(String[] translated) {
+    int missing = 0;
+    for (String value : translated) {
+      if (value == null) {
+        missing++;
+      }
+    }
+    return missing;
+  }
+
+  private double hitRatio() {
+    double hits = localHits.count() + databaseHits.count();
+    double total = hits + misses.count();
+    return total == 0 ? 0 : hits / total;
+  }
+
+  private static Counter sentenceCounter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder("translation.memory.sentences")
+        .description("번역 메모리 문장 조회 결과 (local=1차 캐시, db=번역 메모리 테이블, miss=업스트림 번역)")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+}
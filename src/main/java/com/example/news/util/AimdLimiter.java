@@ -0,0 +1,81 @@
+package com.example.news.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AIMD(가산 증가 / 승산 감소) 방식의 적응형 동시 실행 제한
+ * 빠른 성공이면 한도를 조금씩 늘리고, 실패나 지연 임계값 초과면 한도를 비율로 줄인다.
+ */
+public class AimdLimiter {
+
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final int minLimit;
+  private final int maxLimit;
+  private final double backoffRatio;
+  private final long latencyThresholdNanos;
+  private volatile double limit;
+
+  public AimdLimiter(int initialLimit, int minLimit, int maxLimit, double backoffRatio,
+      long latencyThresholdNanos) {
+    this.limit = initialLimit;
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.backoffRatio = backoffRatio;
+    this.latencyThresholdNanos = latencyThresholdNanos;
+  }
+
+  public boolean tryAcquire() {
+    while (true) {
+      int current = inFlight.get();
+      if (current >= (int) limit) {
+        return false;
+      }
+      if (inFlight.compareAndSet(current, current + 1)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * 성공: 지연이 임계값 이하이고 한도 가까이 사용 중일 때만 한도 증가
+   */
+  public void onSuccess(long latencyNanos) {
+    int current = inFlight.getAndDecrement();
+    if (latencyNanos > latencyThresholdNanos) {
+      decrease();
+      return;
+    }
+    synchronized (this) {
+      if (current * 2 >= limit) {
+        limit = Math.min(maxLimit, limit + 1.0 / limit);
+      }
+    }
+  }
+
+  /**
+   * 실패/타임아웃: 한도 감소
+   */
+  public void onDropped() {
+    inFlight.decrementAndGet();
+    decrease();
+  }
+
+  /**
+   * 업스트림 상태와 무관한 실패(요청 오류 등): 한도 유지
+   */
+  public void onIgnored() {
+    inFlight.decrementAndGet();
+  }
+
+  public int getLimit() {
+    return (int) limit;
+  }
+
+  public int getInFlight() {
+    return inFlight.get();
+  }
+
+  private synchronized void decrease() {
+    limit = Math.max(minLimit, limit * backoffRatio);
+  }
+}
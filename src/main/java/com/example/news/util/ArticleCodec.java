@@ -0,0 +1,125 @@
+package com.example.news.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 기사 원문 저장 포맷: [코덱 1바이트][본문]
+ * - RAW(0): UTF-8 그대로 (짧아서 압축 이득이 없을 때)
+ * - DEFLATE_NEWS_V1(1): 뉴스 어휘 preset dictionary를 쓴 deflate
+ * 사전 내용이 바뀌면 기존 행을 풀 수 없으므로 v1 사전은 수정하지 말고 새 코덱 번호를 추가한다.
+ */
+public final class ArticleCodec {
+
+  public static final byte RAW = 0;
+  public static final byte DEFLATE_NEWS_V1 = 1;
+
+  private static final byte[] NEWS_DICTIONARY_V1 = loadDictionary("compression/news-dictionary-v1.txt");
+
+  private ArticleCodec() {
+  }
+
+  public static byte[] encode(String text) {
+    if (text == null) {
+      return null;
+    }
+    byte[] raw = text.getBytes(StandardCharsets.UTF_8);
+    byte[] compressed = deflate(raw);
+    if (compressed.length >= raw.length) {
+      return withCodec(RAW, raw, raw.length);
+    }
+    return withCodec(DEFLATE_NEWS_V1, compressed, compressed.length);
+  }
+
+  public static String decode(byte[] stored) {
+    return decode(stored, -1);
+  }
+
+  /**
+   * @param originalLength 압축 전 UTF-8 바이트 수 (압축 해제 버퍼 크기, 다르면 손상으로 판단), 모르면 음수
+   */
+  public static String decode(byte[] stored, int originalLength) {
+    if (stored == null) {
+      return null;
+    }
+    if (stored.length == 0) {
+      throw new IllegalArgumentException("빈 기사 본문 데이터입니다.");
+    }
+    byte[] raw = switch (stored[0]) {
+      case RAW -> Arrays.copyOfRange(stored, 1, stored.length);
+      case DEFLATE_NEWS_V1 -> inflate(stored, originalLength);
+      default -> throw new IllegalArgumentException("알 수 없는 기사 코덱: " + stored[0]);
+    };
+    if (originalLength >= 0 && raw.length != originalLength) {
+      throw new IllegalArgumentException("손상된 기사 본문 데이터입니다.");
+    }
+    return new String(raw, StandardCharsets.UTF_8);
+  }
+
+  private static byte[] deflate(byte[] raw) {
+    Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION, true);
+    try {
+      deflater.setDictionary(NEWS_DICTIONARY_V1);
+      deflater.setInput(raw);
+      deflater.finish();
+      ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 2));
+      byte[] buffer = new byte[8192];
+      while (!deflater.finished()) {
+        int written = deflater.deflate(buffer);
+        out.write(buffer, 0, written);
+      }
+      return out.toByteArray();
+    } finally {
+      deflater.end();
+    }
+  }
+
+  private static byte[] inflate(byte[] stored, int originalLength) {
+    // raw deflate 스트림은 사전을 미리 지정해야 하고, 끝에 더미 바이트가 있어야 마지막 블록을 인식한다
+    Inflater inflater = new Inflater(true);
+    try {
+      inflater.setDictionary(NEWS_DICTIONARY_V1);
+      byte[] input = Arrays.copyOfRange(stored, 1, stored.length + 1);
+      inflater.setInput(input);
+      ByteArrayOutputStream out = new ByteArrayOutputStream(originalLength >= 0 ? originalLength : stored.length * 4);
+      byte[] buffer = new byte[8192];
+      while (!inflater.finished()) {
+        int read = inflater.inflate(buffer);
+        if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+          throw new IllegalArgumentException("손상된 기사 본문 데이터입니다.");
+        }
+        out.write(buffer, 0, read);
+      }
+      return out.toByteArray();
+    } catch (DataFormatException e) {
+      throw new IllegalArgumentException("손상된 기사 본문 데이터입니다.", e);
+    } finally {
+      inflater.end();
+    }
+  }
+
+  private static byte[] withCodec(byte codec, byte[] body, int length) {
+    byte[] stored = new byte[length + 1];
+    stored[0] = codec;
+    System.arraycopy(body, 0, stored, 1, length);
+    return stored;
+  }
+
+  private static byte[] loadDictionary(String path) {
+    try (InputStream in = ArticleCodec.class.getClassLoader().getResourceAsStream(path)) {
+      if (in == null) {
+        throw new IllegalStateException("압축 사전을 찾을 수 없습니다: " + path);
+      }
+      return in.readAllBytes();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,85 @@
+package com.example.news.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import org.apache.hc.core5.concurrent.Cancellable;
+
+/**
+ * 한 작업이 현재 스레드에서 보낸 업스트림 HTTP 요청을 모아 두었다가 한 번에 취소
+ * 블로킹 소켓 읽기는 스레드 인터럽트로 멈추지 않으므로, 헤지에서 진 요청은 요청 객체의 cancel()로
+ * 커넥션을 끊어야 스레드와 풀 커넥션이 읽기 타임아웃 전에 풀린다.
+ * 요청 팩토리가 register()로 요청을 등록한다 (scope 밖에서 만든 요청은 무시).
+ */
+public final class CancellationScope {
+
+  private static final ThreadLocal<CancellationScope> CURRENT = new ThreadLocal<>();
+
+  private final List<Cancellable> requests = new ArrayList<>(2);
+  private boolean cancelled;
+
+  /**
+   * action을 이 scope 안에서 실행 (그동안 만든 요청이 cancel() 대상이 된다)
+   */
+  public <T> T call(Supplier<T> action) {
+    CancellationScope previous = CURRENT.get();
+    CURRENT.set(this);
+    try {
+      return action.get();
+    } finally {
+      if (previous != null) {
+        CURRENT.set(previous);
+      } else {
+        CURRENT.remove();
+      }
+    }
+  }
+
+  /**
+   * 등록된 요청을 모두 취소하고, 이후 등록되는 요청은 바로 취소한다
+   */
+  public void cancel() {
+    List<Cancellable> toCancel;
+    synchronized (this) {
+      if (cancelled) {
+        return;
+      }
+      cancelled = true;
+      toCancel = new ArrayList<>(requests);
+      requests.clear();
+    }
+    toCancel.forEach(Cancellable::cancel);
+  }
+
+  public synchronized boolean isCancelled() {
+    return cancelled;
+  }
+
+  /**
+   * 현재 스레드의 scope에 요청 등록 (scope가 없으면 아무것도 하지 않음)
+   */
+  public static void register(Cancellable request) {
+    CancellationScope scope = CURRENT.get();
+    if (scope != null) {
+      scope.add(request);
+    }
+  }
+
+  /**
+   * 현재 스레드의 작업이 취소됐는지 (취소로 끊긴 요청의 예외를 업스트림 장애로 세지 않기 위함)
+   */
+  public static boolean isCurrentCancelled() {
+    CancellationScope scope = CURRENT.get();
+    return scope != null && scope.isCancelled();
+  }
+
+  private void add(Cancellable request) {
+    synchronized (this) {
+      if (!cancelled) {
+        requests.add(request);
+        return;
+      }
+    }
+    request.cancel();
+  }
+}
@@ -0,0 +1,142 @@
+package com.example.news.util;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 최근 호출 windowSize 건의 실패율로 동작하는 서킷 브레이커
+ * CLOSED → (실패율 초과) → OPEN → (openDuration 경과) → HALF_OPEN → (시험 호출 성공) → CLOSED
+ */
+public class CircuitBreaker {
+
+  public enum State {
+    CLOSED,
+    HALF_OPEN,
+    OPEN
+  }
+
+  private final int windowSize;
+  private final int minimumCalls;
+  private final double failureRateThreshold;
+  private final long openDurationNanos;
+  private final int halfOpenCalls;
+
+  private final boolean[] window;
+  private int windowIndex;
+  private int windowCount;
+  private int windowFailures;
+
+  private State state = State.CLOSED;
+  private long openedAt;
+  private int halfOpenPermits;
+  private int halfOpenSuccesses;
+
+  public CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold,
+      long openDurationMillis, int halfOpenCalls) {
+    this.windowSize = windowSize;
+    this.minimumCalls = Math.min(minimumCalls, windowSize);
+    this.failureRateThreshold = failureRateThreshold;
+    this.openDurationNanos = TimeUnit.MILLISECONDS.toNanos(openDurationMillis);
+    this.halfOpenCalls = halfOpenCalls;
+    this.window = new boolean[windowSize];
+  }
+
+  /**
+   * 호출 허용 여부 (OPEN이면 false, HALF_OPEN이면 시험 호출 수만큼만 허용)
+   */
+  public synchronized boolean tryAcquirePermission() {
+    if (state == State.OPEN) {
+      if (System.nanoTime() - openedAt < openDurationNanos) {
+        return false;
+      }
+      state = State.HALF_OPEN;
+      halfOpenPermits = 0;
+      halfOpenSuccesses = 0;
+    }
+    if (state == State.HALF_OPEN) {
+      if (halfOpenPermits >= halfOpenCalls) {
+        return false;
+      }
+      halfOpenPermits++;
+    }
+    return true;
+  }
+
+  /**
+   * 허가 없이 현재 열려 있는지만 확인
+   */
+  public synchronized boolean isCallPermitted() {
+    return state != State.OPEN || System.nanoTime() - openedAt >= openDurationNanos;
+  }
+
+  public synchronized void onSuccess() {
+    if (state == State.HALF_OPEN) {
+      if (++halfOpenSuccesses >= halfOpenCalls) {
+        close();
+      }
+      return;
+    }
+    record(false);
+  }
+
+  public synchronized void onError() {
+    if (state == State.HALF_OPEN) {
+      open();
+      return;
+    }
+    record(true);
+    if (windowCount >= minimumCalls && (double) windowFailures / windowCount >= failureRateThreshold) {
+      open();
+    }
+  }
+
+  /**
+   * 결과를 판단할 수 없는 호출 (호출 측 취소 등): 실패율 창에 넣지 않고 HALF_OPEN 시험 허가만 돌려준다
+   */
+  public synchronized void onIgnored() {
+    if (state == State.HALF_OPEN && halfOpenPermits > 0) {
+      halfOpenPermits--;
+    }
+  }
+
+  public synchronized State getState() {
+    return state;
+  }
+
+  /**
+   * OPEN 상태가 풀리기까지 남은 시간(ms)
+   */
+  public synchronized long remainingOpenMillis() {
+    if (state != State.OPEN) {
+      return 0;
+    }
+    long remaining = openDurationNanos - (System.nanoTime() - openedAt);
+    return Math.max(0, TimeUnit.NANOSECONDS.toMillis(remaining));
+  }
+
+  private void record(boolean failure) {
+    if (windowCount == windowSize) {
+      if (window[windowIndex]) {
+        windowFailures--;
+      }
+    } else {
+      windowCount++;
+    }
+    window[windowIndex] = failure;
+    if (failure) {
+      windowFailures++;
+    }
+    windowIndex = (windowIndex + 1) % windowSize;
+  }
+
+  private void open() {
+    state = State.OPEN;
+    openedAt = System.nanoTime();
+  }
+
+  private void close() {
+    state = State.CLOSED;
+    windowIndex = 0;
+    windowCount = 0;
+    windowFailures = 0;
+  }
+}
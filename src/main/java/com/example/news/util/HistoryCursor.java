@@ -0,0 +1,32 @@
+package com.example.news.util;
+
+import com.example.news.exception.InvalidInputException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션 커서 ("createdAt|id"를 URL-safe Base64로 인코딩)
+ */
+public record HistoryCursor(LocalDateTime createdAt, Long id) {
+
+  public String encode() {
+    String raw = createdAt + "|" + id;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static HistoryCursor decode(String token) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      int separator = raw.lastIndexOf('|');
+      if (separator < 0) {
+        throw new InvalidInputException("Invalid cursor");
+      }
+      return new HistoryCursor(LocalDateTime.parse(raw.substring(0, separator)),
+          Long.parseLong(raw.substring(separator + 1)));
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new InvalidInputException("Invalid cursor");
+    }
+  }
+}
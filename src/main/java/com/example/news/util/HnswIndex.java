@@ -0,0 +1,544 @@
+package com.example.news.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.function.LongPredicate;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * HNSW(Hierarchical Navigable Small World) 근사 최근접 이웃 인덱스
+ * - 벡터는 L2 정규화되어 있다고 가정하고 내적(코사인 유사도)으로 비교한다.
+ * - 벡터/레벨 0 이웃 목록은 노드 객체 없이 고정 크기 primitive 배열 블록에 연속 저장한다.
+ * - 삭제는 툼스톤 처리 (그래프 탐색에는 쓰이고 결과에서만 제외), 쌓인 툼스톤은 compact()로 정리한다.
+ */
+public class HnswIndex {
+
+  private static final int BLOCK_BITS = 14;
+  private static final int BLOCK_SIZE = 1 << BLOCK_BITS;
+  private static final int BLOCK_MASK = BLOCK_SIZE - 1;
+  // 필터 검색에서 후보 폭을 ef의 몇 배까지 늘릴지 (그 이상은 k개보다 적게 반환)
+  private static final int MAX_FILTER_WIDENING = 16;
+
+  private final int dimension;
+  private final int m;
+  private final int m0;
+  private final int efConstruction;
+  private final double levelMultiplier;
+  private final SplittableRandom random;
+
+  // 그래프 저장소는 compact() 때 새로 만든 그래프의 것으로 통째로 바뀐다
+  // 노드 i의 벡터: vectorBlocks[i >> BLOCK_BITS][(i & MASK) * dimension ...]
+  private List<float[]> vectorBlocks = new ArrayList<>();
+  // 노드 i의 레벨 0 이웃: level0Blocks[...][(i & MASK) * (m0 + 1)] = 개수, 이후 m0칸
+  private List<int[]> level0Blocks = new ArrayList<>();
+  // 상위 레벨(1 이상) 이웃은 노드의 약 1/m만 가지므로 별도 보관: [level - 1][0] = 개수
+  private Map<Integer, int[][]> upperLinks = new HashMap<>();
+  private List<long[]> externalIdBlocks = new ArrayList<>();
+  private Map<Long, Integer> nodeByExternalId = new HashMap<>();
+  private BitSet deleted = new BitSet();
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+  // 압축 중 들어온 추가/삭제 (압축이 끝날 때 새 그래프에 다시 적용), 압축 중이 아니면 null
+  private List<Change> changesDuringCompaction;
+
+  private int size;
+  private int liveCount;
+  private int entryPoint = -1;
+  private int maxLevel = -1;
+
+  public HnswIndex(int dimension, int m, int efConstruction, long seed) {
+    this.dimension = dimension;
+    this.m = m;
+    this.m0 = m * 2;
+    this.efConstruction = efConstruction;
+    this.levelMultiplier = 1 / Math.log(m);
+    this.random = new SplittableRandom(seed);
+  }
+
+  public int dimension() {
+    return dimension;
+  }
+
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return liveCount;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 삭제(또는 교체)된 뒤 그래프에 남아 있는 노드 수
+   */
+  public int tombstones() {
+    lock.readLock().lock();
+    try {
+      return size - liveCount;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 벡터 추가 (같은 externalId가 있으면 교체)
+   */
+  public void add(long externalId, float[] vector) {
+    if (vector.length != dimension) {
+      throw new IllegalArgumentException("벡터 차원이 다릅니다. 기대: " + dimension + ", 실제: " + vector.length);
+    }
+    lock.writeLock().lock();
+    try {
+      if (changesDuringCompaction != null) {
+        changesDuringCompaction.add(new Change(externalId, vector.clone()));
+      }
+      removeLocked(externalId);
+      int node = allocate(externalId, vector);
+      int level = randomLevel();
+      if (level > 0) {
+        int[][] links = new int[level][m + 1];
+        upperLinks.put(node, links);
+      }
+
+      if (entryPoint < 0) {
+        entryPoint = node;
+        maxLevel = level;
+        return;
+      }
+
+      int current = entryPoint;
+      for (int l = maxLevel; l > level; l--) {
+        current = greedyClosest(vector, current, l);
+      }
+      for (int l = Math.min(level, maxLevel); l >= 0; l--) {
+        List<Candidate> found = searchLayer(vector, current, efConstruction, l);
+        int capacity = l == 0 ? m0 : m;
+        List<Candidate> selected = selectNeighbors(found, m);
+        for (Candidate neighbor : selected) {
+          addLink(node, neighbor.node(), l, capacity);
+          addLink(neighbor.node(), node, l, capacity);
+        }
+        current = found.get(0).node();
+      }
+
+      if (level > maxLevel) {
+        maxLevel = level;
+        entryPoint = node;
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public boolean remove(long externalId) {
+    lock.writeLock().lock();
+    try {
+      if (changesDuringCompaction != null) {
+        changesDuringCompaction.add(new Change(externalId, null));
+      }
+      return removeLocked(externalId);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 툼스톤을 뺀 살아 있는 벡터만으로 그래프를 다시 만들어 교체한다.
+   * 새 그래프는 락 밖에서 만들므로 그동안 검색/추가/삭제는 기존 그래프로 계속되고,
+   * 그사이 변경은 교체 직전에 새 그래프에 다시 적용한다 (살아 있는 벡터를 한 번 복사하므로 그만큼 메모리를 더 쓴다).
+   *
+   * @return 압축했으면 true, 이미 다른 스레드가 압축 중이면 false
+   */
+  public boolean compact() {
+    HnswIndex rebuilt;
+    long[] externalIds;
+    float[][] vectors;
+    lock.writeLock().lock();
+    try {
+      if (changesDuringCompaction != null) {
+        return false;
+      }
+      rebuilt = new HnswIndex(dimension, m, efConstruction, random.nextLong());
+      externalIds = new long[liveCount];
+      vectors = new float[liveCount][];
+      int live = 0;
+      for (int node = 0; node < size; node++) {
+        if (deleted.get(node)) {
+          continue;
+        }
+        int offset = (node & BLOCK_MASK) * dimension;
+        externalIds[live] = externalId(node);
+        vectors[live++] = Arrays.copyOfRange(vectorBlocks.get(node >>> BLOCK_BITS), offset, offset + dimension);
+      }
+      changesDuringCompaction = new ArrayList<>();
+    } finally {
+      lock.writeLock().unlock();
+    }
+
+    boolean built = false;
+    try {
+      for (int i = 0; i < externalIds.length; i++) {
+        rebuilt.add(externalIds[i], vectors[i]);
+      }
+      built = true;
+    } finally {
+      lock.writeLock().lock();
+      try {
+        if (built) {
+          for (Change change : changesDuringCompaction) {
+            if (change.vector() == null) {
+              rebuilt.remove(change.externalId());
+            } else {
+              rebuilt.add(change.externalId(), change.vector());
+            }
+          }
+          adopt(rebuilt);
+        }
+        changesDuringCompaction = null;
+      } finally {
+        lock.writeLock().unlock();
+      }
+    }
+    return true;
+  }
+
+  // 쓰기 락을 잡은 상태에서 다른 인덱스의 그래프 저장소를 넘겨받는다
+  private void adopt(HnswIndex other) {
+    vectorBlocks = other.vectorBlocks;
+    level0Blocks = other.level0Blocks;
+    upperLinks = other.upperLinks;
+    externalIdBlocks = other.externalIdBlocks;
+    nodeByExternalId = other.nodeByExternalId;
+    deleted = other.deleted;
+    size = other.size;
+    liveCount = other.liveCount;
+    entryPoint = other.entryPoint;
+    maxLevel = other.maxLevel;
+  }
+
+  /**
+   * 상위 k개 (유사도 내림차순)
+   */
+  public List<Result> search(float[] query, int k, int ef) {
+    return search(query, k, ef, externalId -> true);
+  }
+
+  /**
+   * accept를 통과하는 벡터 중 상위 k개 (유사도 내림차순)
+   * 후보 ef개 안에 통과하는 벡터가 k개보다 적으면 ef를 늘려 다시 찾는다.
+   * 폭은 ef의 MAX_FILTER_WIDENING배까지만 늘리고, 그래도 모자라면 찾은 만큼만 반환한다
+   * (통과 대상이 적은 필터는 exactSearch(query, k, externalIds)로 직접 비교할 것).
+   */
+  public List<Result> search(float[] query, int k, int ef, LongPredicate accept) {
+    lock.readLock().lock();
+    try {
+      if (entryPoint < 0 || k <= 0) {
+        return List.of();
+      }
+      int current = entryPoint;
+      for (int l = maxLevel; l > 0; l--) {
+        current = greedyClosest(query, current, l);
+      }
+      // 툼스톤 노드가 섞여 있으므로 조금 넉넉히 찾는다
+      int width = Math.max(ef, k) + deletedSlack();
+      long maxWidth = Math.min(size, (long) Math.max(ef, k) * MAX_FILTER_WIDENING + deletedSlack());
+      while (true) {
+        List<Candidate> found = searchLayer(query, current, width, 0);
+        List<Result> results = new ArrayList<>(k);
+        for (Candidate candidate : found) {
+          if (deleted.get(candidate.node()) || !accept.test(externalId(candidate.node()))) {
+            continue;
+          }
+          results.add(new Result(externalId(candidate.node()), candidate.similarity()));
+          if (results.size() == k) {
+            break;
+          }
+        }
+        if (results.size() == k || found.size() < width || width >= maxWidth) {
+          return results;
+        }
+        width = (int) Math.min(maxWidth, (long) width * 4);
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 정확한 전수 비교 (재현율 측정 기준값)
+   */
+  public List<Result> exactSearch(float[] query, int k) {
+    lock.readLock().lock();
+    try {
+      PriorityQueue<Candidate> top = new PriorityQueue<>(Comparator.comparingDouble(Candidate::similarity));
+      for (int node = 0; node < size; node++) {
+        if (deleted.get(node)) {
+          continue;
+        }
+        offer(top, new Candidate(node, similarity(query, node)), k);
+      }
+      return sortedResults(top);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * externalIds 벡터만 정확히 비교한 상위 k개 (인덱스에 없는 id는 무시)
+   * 필터 통과 대상이 후보 폭 이하로 적을 때 그래프 탐색 대신 쓴다.
+   */
+  public List<Result> exactSearch(float[] query, int k, long[] externalIds) {
+    lock.readLock().lock();
+    try {
+      PriorityQueue<Candidate> top = new PriorityQueue<>(Comparator.comparingDouble(Candidate::similarity));
+      for (long externalId : externalIds) {
+        Integer node = nodeByExternalId.get(externalId);
+        if (node != null) {
+          offer(top, new Candidate(node, similarity(query, node)), k);
+        }
+      }
+      return sortedResults(top);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private static void offer(PriorityQueue<Candidate> top, Candidate candidate, int k) {
+    top.add(candidate);
+    if (top.size() > k) {
+      top.poll();
+    }
+  }
+
+  private List<Result> sortedResults(PriorityQueue<Candidate> top) {
+    List<Candidate> sorted = new ArrayList<>(top);
+    sorted.sort(Comparator.comparingDouble(Candidate::similarity).reversed());
+    List<Result> results = new ArrayList<>(sorted.size());
+    for (Candidate candidate : sorted) {
+      results.add(new Result(externalId(candidate.node()), candidate.similarity()));
+    }
+    return results;
+  }
+
+  private boolean removeLocked(long externalId) {
+    Integer node = nodeByExternalId.remove(externalId);
+    if (node == null) {
+      return false;
+    }
+    deleted.set(node);
+    liveCount--;
+    return true;
+  }
+
+  private int deletedSlack() {
+    int tombstones = size - liveCount;
+    return Math.min(tombstones, efConstruction);
+  }
+
+  private int allocate(long externalId, float[] vector) {
+    int node = size;
+    int block = node >>> BLOCK_BITS;
+    if (block == vectorBlocks.size()) {
+      vectorBlocks.add(new float[BLOCK_SIZE * dimension]);
+      level0Blocks.add(new int[BLOCK_SIZE * (m0 + 1)]);
+      externalIdBlocks.add(new long[BLOCK_SIZE]);
+    }
+    System.arraycopy(vector, 0, vectorBlocks.get(block), (node & BLOCK_MASK) * dimension, dimension);
+    externalIdBlocks.get(block)[node & BLOCK_MASK] = externalId;
+    nodeByExternalId.put(externalId, node);
+    size++;
+    liveCount++;
+    return node;
+  }
+
+  private int randomLevel() {
+    double uniform = 1.0 - random.nextDouble();
+    return (int) Math.floor(-Math.log(uniform) * levelMultiplier);
+  }
+
+  private long externalId(int node) {
+    return externalIdBlocks.get(node >>> BLOCK_BITS)[node & BLOCK_MASK];
+  }
+
+  private double similarity(float[] query, int node) {
+    return dot(query, 0, vectorBlocks.get(node >>> BLOCK_BITS), (node & BLOCK_MASK) * dimension);
+  }
+
+  private double similarity(int a, int b) {
+    return dot(vectorBlocks.get(a >>> BLOCK_BITS), (a & BLOCK_MASK) * dimension,
+        vectorBlocks.get(b >>> BLOCK_BITS), (b & BLOCK_MASK) * dimension);
+  }
+
+  // 누산기 4개로 나눠 덧셈 의존 사슬을 끊는다 (JIT 자동 벡터화 대상)
+  private double dot(float[] a, int offsetA, float[] b, int offsetB) {
+    float s0 = 0;
+    float s1 = 0;
+    float s2 = 0;
+    float s3 = 0;
+    int i = 0;
+    for (; i + 3 < dimension; i += 4) {
+      s0 += a[offsetA + i] * b[offsetB + i];
+      s1 += a[offsetA + i + 1] * b[offsetB + i + 1];
+      s2 += a[offsetA + i + 2] * b[offsetB + i + 2];
+      s3 += a[offsetA + i + 3] * b[offsetB + i + 3];
+    }
+    for (; i < dimension; i++) {
+      s0 += a[offsetA + i] * b[offsetB + i];
+    }
+    return (s0 + s1) + (s2 + s3);
+  }
+
+  // 이웃 목록: links[offset] = 개수, links[offset + 1 ...] = 이웃 노드
+  private int[] linkArray(int node, int level) {
+    return level == 0 ? level0Blocks.get(node >>> BLOCK_BITS) : upperLinks.get(node)[level - 1];
+  }
+
+  private int linkOffset(int node, int level) {
+    return level == 0 ? (node & BLOCK_MASK) * (m0 + 1) : 0;
+  }
+
+  private int greedyClosest(float[] query, int start, int level) {
+    int current = start;
+    double best = similarity(query, current);
+    boolean improved = true;
+    while (improved) {
+      improved = false;
+      int[] links = linkArray(current, level);
+      int offset = linkOffset(current, level);
+      for (int i = 1; i <= links[offset]; i++) {
+        int neighbor = links[offset + i];
+        double sim = similarity(query, neighbor);
+        if (sim > best) {
+          best = sim;
+          current = neighbor;
+          improved = true;
+        }
+      }
+    }
+    return current;
+  }
+
+  /**
+   * 한 레벨에서 ef개 후보 탐색 (유사도 내림차순 반환)
+   */
+  private List<Candidate> searchLayer(float[] query, int entry, int ef, int level) {
+    BitSet visited = new BitSet(size);
+    visited.set(entry);
+    Candidate start = new Candidate(entry, similarity(query, entry));
+    PriorityQueue<Candidate> candidates =
+        new PriorityQueue<>(Comparator.comparingDouble(Candidate::similarity).reversed());
+    PriorityQueue<Candidate> results = new PriorityQueue<>(Comparator.comparingDouble(Candidate::similarity));
+    candidates.add(start);
+    results.add(start);
+
+    while (!candidates.isEmpty()) {
+      Candidate closest = candidates.poll();
+      if (results.size() >= ef && closest.similarity() < results.peek().similarity()) {
+        break;
+      }
+      int[] links = linkArray(closest.node(), level);
+      int offset = linkOffset(closest.node(), level);
+      for (int i = 1; i <= links[offset]; i++) {
+        int neighbor = links[offset + i];
+        if (visited.get(neighbor)) {
+          continue;
+        }
+        visited.set(neighbor);
+        double sim = similarity(query, neighbor);
+        if (results.size() < ef || sim > results.peek().similarity()) {
+          Candidate candidate = new Candidate(neighbor, sim);
+          candidates.add(candidate);
+          results.add(candidate);
+          if (results.size() > ef) {
+            results.poll();
+          }
+        }
+      }
+    }
+
+    List<Candidate> sorted = new ArrayList<>(results);
+    sorted.sort(Comparator.comparingDouble(Candidate::similarity).reversed());
+    return sorted;
+  }
+
+  /**
+   * 이웃 선택 휴리스틱: 이미 고른 이웃보다 기준점에 더 가까운 후보만 골라
+   * 한 군집 안에 연결이 몰리지 않게 한다 (모자라면 가까운 순으로 채움)
+   */
+  private List<Candidate> selectNeighbors(List<Candidate> candidates, int limit) {
+    if (candidates.size() <= limit) {
+      return candidates;
+    }
+    List<Candidate> selected = new ArrayList<>(limit);
+    List<Candidate> skipped = new ArrayList<>();
+    for (Candidate candidate : candidates) {
+      if (selected.size() == limit) {
+        break;
+      }
+      boolean diverse = true;
+      for (Candidate chosen : selected) {
+        if (similarity(candidate.node(), chosen.node()) > candidate.similarity()) {
+          diverse = false;
+          break;
+        }
+      }
+      if (diverse) {
+        selected.add(candidate);
+      } else {
+        skipped.add(candidate);
+      }
+    }
+    for (int i = 0; i < skipped.size() && selected.size() < limit; i++) {
+      selected.add(skipped.get(i));
+    }
+    return selected;
+  }
+
+  /**
+   * from → to 연결 추가, 용량을 넘으면 휴리스틱으로 다시 골라 용량 안으로 줄인다
+   */
+  private void addLink(int from, int to, int level, int capacity) {
+    int[] links = linkArray(from, level);
+    int offset = linkOffset(from, level);
+    int count = links[offset];
+    for (int i = 1; i <= count; i++) {
+      if (links[offset + i] == to) {
+        return;
+      }
+    }
+    if (count < capacity) {
+      links[offset + count + 1] = to;
+      links[offset] = count + 1;
+      return;
+    }
+
+    List<Candidate> candidates = new ArrayList<>(count + 1);
+    candidates.add(new Candidate(to, similarity(from, to)));
+    for (int i = 1; i <= count; i++) {
+      int neighbor = links[offset + i];
+      candidates.add(new Candidate(neighbor, similarity(from, neighbor)));
+    }
+    candidates.sort(Comparator.comparingDouble(Candidate::similarity).reversed());
+    List<Candidate> kept = selectNeighbors(candidates, capacity);
+    for (int i = 0; i < kept.size(); i++) {
+      links[offset + i + 1] = kept.get(i).node();
+    }
+    links[offset] = kept.size();
+  }
+
+  public record Result(long externalId, double similarity) {
+  }
+
+  private record Candidate(int node, double similarity) {
+  }
+
+  // vector가 null이면 삭제
+  private record Change(long externalId, float[] vector) {
+  }
+}
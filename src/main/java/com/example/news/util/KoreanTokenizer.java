@@ -0,0 +1,61 @@
+package com.example.news.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색용 토크나이저
+ * - 한글 연속 구간: 글자 2-gram (조사/어미가 붙어도 어간 부분이 매칭되도록)
+ * - 영문/숫자 연속 구간: 소문자 단어
+ */
+public final class KoreanTokenizer {
+
+  private KoreanTokenizer() {
+  }
+
+  public static List<String> tokenize(String text) {
+    List<String> tokens = new ArrayList<>();
+    if (text == null || text.isEmpty()) {
+      return tokens;
+    }
+    String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+
+    int length = normalized.length();
+    int i = 0;
+    while (i < length) {
+      char c = normalized.charAt(i);
+      if (isHangul(c)) {
+        int start = i;
+        while (i < length && isHangul(normalized.charAt(i))) {
+          i++;
+        }
+        addHangulBigrams(normalized, start, i, tokens);
+      } else if (Character.isLetterOrDigit(c)) {
+        int start = i;
+        while (i < length && Character.isLetterOrDigit(normalized.charAt(i)) && !isHangul(normalized.charAt(i))) {
+          i++;
+        }
+        tokens.add(normalized.substring(start, i));
+      } else {
+        i++;
+      }
+    }
+    return tokens;
+  }
+
+  private static void addHangulBigrams(String text, int start, int end, List<String> tokens) {
+    if (end - start == 1) {
+      tokens.add(text.substring(start, end));
+      return;
+    }
+    for (int i = start; i + 2 <= end; i++) {
+      tokens.add(text.substring(i, i + 2));
+    }
+  }
+
+  public static boolean isHangul(char c) {
+    return (c >= '가' && c <= '힣') || (c >= 'ㄱ' && c <= 'ㆎ');
+  }
+}
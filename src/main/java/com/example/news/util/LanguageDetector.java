@@ -0,0 +1,103 @@
+package com.example.news.util;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 요약 경로 선택용 언어 판별 (문자 체계 + 영어 기능어 빈도, 모델/네트워크 없음)
+ * - 본문 앞 SAMPLE_CHARS 글자만 본다 (기사 언어는 앞부분으로 충분히 판별됨)
+ * - 글자 중 한글 비율이 HANGUL_RATIO 이상이면 한국어 (영문 고유명사/약어가 섞인 한국어 기사 포함)
+ * - 라틴 문자 위주이고 단어 중 영어 기능어(the, of, and ...) 비율이 ENGLISH_FUNCTION_WORD_RATIO 이상이며
+ *   다른 유럽어 기능어(le, der, el ...)보다 많으면 영어
+ */
+public final class LanguageDetector {
+
+  static final int SAMPLE_CHARS = 2000;
+  private static final double HANGUL_RATIO = 0.3;
+  private static final double LATIN_RATIO = 0.6;
+  private static final double ENGLISH_FUNCTION_WORD_RATIO = 0.08;
+  private static final Set<String> ENGLISH_FUNCTION_WORDS = Set.of(
+      "the", "of", "and", "to", "in", "is", "that", "for", "on", "it", "with", "as", "was", "be",
+      "by", "at", "are", "this", "from", "have", "has", "an", "or", "not", "but", "said", "its", "were", "will");
+  // 프랑스어/독일어/스페인어 기능어 (영어 기능어와 겹치지 않는 것만)
+  private static final Set<String> OTHER_FUNCTION_WORDS = Set.of(
+      "le", "la", "les", "des", "et", "est", "une", "du", "der", "die", "das", "und", "ist", "nicht", "mit",
+      "el", "los", "las", "y", "que", "del", "por", "con", "una");
+
+  public enum Language {
+    KOREAN("ko"),
+    ENGLISH("en"),
+    // 판별 불가 또는 그 밖의 언어
+    UNKNOWN("und");
+
+    private final String code;
+
+    Language(String code) {
+      this.code = code;
+    }
+
+    public String code() {
+      return code;
+    }
+  }
+
+  private LanguageDetector() {
+  }
+
+  public static Language detect(String text) {
+    if (text == null || text.isBlank()) {
+      return Language.UNKNOWN;
+    }
+    int end = Math.min(text.length(), SAMPLE_CHARS);
+    int hangul = 0;
+    int latin = 0;
+    int letters = 0;
+    int words = 0;
+    int functionWords = 0;
+    int otherFunctionWords = 0;
+    int wordStart = -1;
+    for (int i = 0; i <= end; i++) {
+      char c = i < end ? text.charAt(i) : ' ';
+      boolean latinLetter = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+      if (KoreanTokenizer.isHangul(c)) {
+        hangul++;
+        letters++;
+      } else if (latinLetter) {
+        latin++;
+        letters++;
+      } else if (Character.isLetter(c)) {
+        letters++;
+      }
+
+      // 라틴 단어 경계에서 기능어 여부 확인
+      if (latinLetter) {
+        if (wordStart < 0) {
+          wordStart = i;
+        }
+      } else if (wordStart >= 0) {
+        words++;
+        if (i - wordStart <= 5) {
+          String word = text.substring(wordStart, i).toLowerCase(Locale.ROOT);
+          if (ENGLISH_FUNCTION_WORDS.contains(word)) {
+            functionWords++;
+          } else if (OTHER_FUNCTION_WORDS.contains(word)) {
+            otherFunctionWords++;
+          }
+        }
+        wordStart = -1;
+      }
+    }
+
+    if (letters == 0) {
+      return Language.UNKNOWN;
+    }
+    if (hangul >= letters * HANGUL_RATIO) {
+      return Language.KOREAN;
+    }
+    if (latin >= letters * LATIN_RATIO && words > 0 && functionWords >= words * ENGLISH_FUNCTION_WORD_RATIO
+        && functionWords > otherFunctionWords) {
+      return Language.ENGLISH;
+    }
+    return Language.UNKNOWN;
+  }
+}
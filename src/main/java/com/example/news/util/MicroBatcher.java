@@ -0,0 +1,143 @@
+package com.example.news.util;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 개별 요청을 최대 maxBatchSize 건 또는 linger 시간까지 모아 한 번의 배치 호출로 보내고,
+ * 결과를 입력 순서대로 각 호출자의 Future에 돌려준다.
+ */
+public class MicroBatcher<I, O> implements AutoCloseable {
+
+  private static final Logger log = LoggerFactory.getLogger(MicroBatcher.class);
+
+  private final BlockingQueue<Pending<I, O>> queue = new LinkedBlockingQueue<>();
+  private final Function<List<I>, List<O>> batchFunction;
+  private final int maxBatchSize;
+  private final long lingerNanos;
+  private final Executor batchExecutor;
+  private final DistributionSummary batchSizes;
+  private final Thread dispatcher;
+  private volatile boolean running = true;
+
+  public MicroBatcher(String name, Function<List<I>, List<O>> batchFunction, int maxBatchSize,
+      Duration linger, Executor batchExecutor, DistributionSummary batchSizes) {
+    if (maxBatchSize < 1) {
+      throw new IllegalArgumentException("maxBatchSize는 1 이상이어야 합니다.");
+    }
+    this.batchFunction = batchFunction;
+    this.maxBatchSize = maxBatchSize;
+    this.lingerNanos = linger.toNanos();
+    this.batchExecutor = batchExecutor;
+    this.batchSizes = batchSizes;
+    this.dispatcher = new Thread(this::dispatchLoop, name + "-batcher");
+    this.dispatcher.setDaemon(true);
+    this.dispatcher.start();
+  }
+
+  public CompletableFuture<O> submit(I input) {
+    CompletableFuture<O> result = new CompletableFuture<>();
+    if (!running) {
+      result.completeExceptionally(new IllegalStateException("배처가 종료되었습니다."));
+      return result;
+    }
+    queue.add(new Pending<>(input, result));
+    return result;
+  }
+
+  private void dispatchLoop() {
+    while (running || !queue.isEmpty()) {
+      List<Pending<I, O>> batch = null;
+      try {
+        Pending<I, O> first = queue.poll(100, TimeUnit.MILLISECONDS);
+        if (first == null) {
+          continue;
+        }
+
+        batch = new ArrayList<>(maxBatchSize);
+        batch.add(first);
+        long deadline = System.nanoTime() + lingerNanos;
+        while (batch.size() < maxBatchSize) {
+          long remaining = deadline - System.nanoTime();
+          if (remaining <= 0) {
+            queue.drainTo(batch, maxBatchSize - batch.size());
+            break;
+          }
+          Pending<I, O> next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+          if (next == null) {
+            break;
+          }
+          batch.add(next);
+        }
+
+        batchSizes.record(batch.size());
+        List<Pending<I, O>> dispatched = batch;
+        batchExecutor.execute(() -> runBatch(dispatched));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        fail(batch, e);
+        break;
+      } catch (RuntimeException e) {
+        // 실행기 포화 등으로 배치를 넘기지 못하면 대기 중인 호출자에게 실패를 알리고 디스패처는 계속 동작한다
+        log.error("배치 디스패치 중 오류 발생: {}", e.getMessage());
+        fail(batch, e);
+      }
+    }
+  }
+
+  private void fail(List<Pending<I, O>> batch, Throwable cause) {
+    if (batch == null) {
+      return;
+    }
+    for (Pending<I, O> pending : batch) {
+      pending.result().completeExceptionally(cause);
+    }
+  }
+
+  private void runBatch(List<Pending<I, O>> batch) {
+    try {
+      List<I> inputs = new ArrayList<>(batch.size());
+      for (Pending<I, O> pending : batch) {
+        inputs.add(pending.input());
+      }
+
+      List<O> outputs = batchFunction.apply(inputs);
+      if (outputs == null || outputs.size() != batch.size()) {
+        throw new IllegalStateException("배치 응답 개수가 요청 개수와 다릅니다. 요청: "
+            + batch.size() + ", 응답: " + (outputs == null ? 0 : outputs.size()));
+      }
+      for (int i = 0; i < batch.size(); i++) {
+        batch.get(i).result().complete(outputs.get(i));
+      }
+    } catch (Throwable t) {
+      fail(batch, t);
+    }
+  }
+
+  @Override
+  public void close() {
+    running = false;
+    try {
+      dispatcher.join(TimeUnit.SECONDS.toMillis(5));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    Pending<I, O> leftover;
+    while ((leftover = queue.poll()) != null) {
+      leftover.result().completeExceptionally(new IllegalStateException("배처가 종료되었습니다."));
+    }
+  }
+
+  private record Pending<I, O>(I input, CompletableFuture<O> result) {
+  }
+}
@@ -0,0 +1,76 @@
+package com.example.news.util;
+
+import java.net.Inet4Address;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+/**
+ * 외부로 보내는 요청(작업 콜백 등)의 대상 주소 검사
+ * 루프백, 링크 로컬(클라우드 메타데이터 169.254.169.254 포함), 사설망, CGNAT, 멀티캐스트, 예약 대역은 공인 주소가 아니다.
+ */
+public final class NetworkAddresses {
+
+  private NetworkAddresses() {
+  }
+
+  public static boolean isPublic(InetAddress address) {
+    if (address.isAnyLocalAddress() || address.isLoopbackAddress() || address.isLinkLocalAddress()
+        || address.isSiteLocalAddress() || address.isMulticastAddress()) {
+      return false;
+    }
+    byte[] bytes = address.getAddress();
+    if (address instanceof Inet4Address) {
+      return isPublicIpv4(bytes);
+    }
+    if (address instanceof Inet6Address) {
+      // fc00::/7 고유 로컬 주소
+      if ((bytes[0] & 0xfe) == 0xfc) {
+        return false;
+      }
+      // IPv4 호환(::a.b.c.d), NAT64(64:ff9b::/96) 주소는 안의 IPv4 주소로 판단
+      if (isZero(bytes, 0, 12) || (bytes[0] == 0 && bytes[1] == 0x64 && (bytes[2] & 0xff) == 0xff
+          && (bytes[3] & 0xff) == 0x9b && isZero(bytes, 4, 12))) {
+        return isPublic(ipv4(bytes));
+      }
+      return true;
+    }
+    return false;
+  }
+
+  private static boolean isPublicIpv4(byte[] bytes) {
+    int first = bytes[0] & 0xff;
+    int second = bytes[1] & 0xff;
+    if (first == 0 || first >= 240) {
+      // 0.0.0.0/8 (현재 네트워크), 240.0.0.0/4 예약 + 255.255.255.255 브로드캐스트
+      return false;
+    }
+    if (first == 100 && second >= 64 && second <= 127) {
+      // 100.64.0.0/10 통신사 NAT
+      return false;
+    }
+    if (first == 192 && second == 0 && (bytes[2] & 0xff) == 0) {
+      // 192.0.0.0/24 IETF 프로토콜 할당
+      return false;
+    }
+    // 198.18.0.0/15 벤치마크용
+    return !(first == 198 && (second == 18 || second == 19));
+  }
+
+  private static boolean isZero(byte[] bytes, int from, int to) {
+    for (int i = from; i < to; i++) {
+      if (bytes[i] != 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static InetAddress ipv4(byte[] ipv6) {
+    try {
+      return InetAddress.getByAddress(new byte[] {ipv6[12], ipv6[13], ipv6[14], ipv6[15]});
+    } catch (UnknownHostException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,48 @@
+package com.example.news.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 문장 분리: 마침표/물음표/느낌표(전각 포함) 뒤 공백 또는 줄바꿈 기준 (한국어 "~다." 와 영어 문장 모두 처리)
+ * 소수점("3.5%")이나 약어 내부 점처럼 바로 뒤에 공백이 없는 경우는 나누지 않는다.
+ * 문장 경계 규칙은 여기 한 곳에만 두고 TextChunker/TextRankSummarizer/번역 메모리가 함께 쓴다.
+ */
+public final class SentenceSplitter {
+
+  private static final Pattern SENTENCE_END = Pattern.compile("(?<=[.!?。！？])\\s+|\\n");
+
+  private SentenceSplitter() {
+  }
+
+  /**
+   * 앞뒤 공백을 제거한 비어 있지 않은 문장 목록 (원문 순서)
+   */
+  public static List<String> split(String text) {
+    List<String> sentences = new ArrayList<>();
+    if (text == null || text.isBlank()) {
+      return sentences;
+    }
+    for (String piece : SENTENCE_END.split(text)) {
+      String sentence = piece.trim();
+      if (!sentence.isEmpty()) {
+        sentences.add(sentence);
+      }
+    }
+    return sentences;
+  }
+
+  /**
+   * maxIndex 이하에서 마지막 문장 경계 위치 (앞 문장이 끝나는 곳), 없으면 -1
+   */
+  public static int lastBoundary(String text, int maxIndex) {
+    int boundary = -1;
+    Matcher matcher = SENTENCE_END.matcher(text);
+    while (matcher.find() && matcher.start() <= maxIndex) {
+      boundary = matcher.start();
+    }
+    return boundary;
+  }
+}
@@ -0,0 +1,60 @@
+package com.example.news.util;
+
+import io.micrometer.core.instrument.Counter;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키로 동시에 들어온 요청을 하나의 실행으로 합친다.
+ * 최초 호출자(leader)만 loader를 실행하고, 나머지 대기자는 그 결과 또는 예외를 그대로 공유한다.
+ */
+public class SingleFlight<K, V> {
+
+  private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+  private final Counter coalescedWaiters;
+
+  public SingleFlight(Counter coalescedWaiters) {
+    this.coalescedWaiters = coalescedWaiters;
+  }
+
+  public V execute(K key, Supplier<V> loader) {
+    CompletableFuture<V> created = new CompletableFuture<>();
+    CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+    if (existing != null) {
+      coalescedWaiters.increment();
+      return await(existing);
+    }
+
+    try {
+      V value = loader.get();
+      created.complete(value);
+      return value;
+    } catch (RuntimeException | Error e) {
+      created.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, created);
+    }
+  }
+
+  public int inFlightCount() {
+    return inFlight.size();
+  }
+
+  private V await(CompletableFuture<V> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      if (e.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw e;
+    }
+  }
+}
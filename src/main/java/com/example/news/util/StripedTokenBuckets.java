@@ -0,0 +1,91 @@
+package com.example.news.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * 키(사용자/IP)별 토큰 버킷을 고정 개수 슬롯(stripe)에 해시로 나눠 담은 잠금 없는 속도 제한기
+ * - 슬롯 상태는 long 하나: [마지막 갱신 시각(ms) 40비트 | 남은 토큰(1/1000 단위) 24비트], CAS로 갱신
+ * - 키 맵/만료 처리가 없어 메모리가 고정되고, 해시가 겹친 키끼리는 버킷을 나눠 쓴다 (더 엄격해질 뿐 느슨해지지 않음)
+ */
+public class StripedTokenBuckets {
+
+  private static final int TOKEN_BITS = 24;
+  private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+  private static final long MILLIS_PER_TOKEN = 1000;
+  // 24비트에 담을 수 있는 최대 버스트 (1/1000 토큰 단위)
+  static final long MAX_CAPACITY = TOKEN_MASK / MILLIS_PER_TOKEN;
+
+  private final AtomicLongArray slots;
+  private final int mask;
+  private final long capacityMilli;
+  // ms당 채워지는 토큰(1/1000 단위) = 초당 토큰 수
+  private final double refillMilliPerMs;
+  private final LongSupplier clock;
+  // 40비트 시각이 넘치지 않도록 생성 시점 기준 상대 시각 사용 (+1: 0은 미사용 슬롯 표시)
+  private final long epoch;
+
+  public StripedTokenBuckets(int stripes, long capacity, double tokensPerSecond) {
+    this(stripes, capacity, tokensPerSecond, System::currentTimeMillis);
+  }
+
+  StripedTokenBuckets(int stripes, long capacity, double tokensPerSecond, LongSupplier clock) {
+    if (capacity < 1 || capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException("버킷 용량은 1 이상 " + MAX_CAPACITY + " 이하여야 합니다.");
+    }
+    if (tokensPerSecond <= 0) {
+      throw new IllegalArgumentException("초당 충전 토큰 수는 0보다 커야 합니다.");
+    }
+    int size = stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+    this.slots = new AtomicLongArray(size);
+    this.mask = size - 1;
+    this.capacityMilli = capacity * MILLIS_PER_TOKEN;
+    this.refillMilliPerMs = tokensPerSecond;
+    this.clock = clock;
+    this.epoch = clock.getAsLong() - 1;
+  }
+
+  /**
+   * permits 개 토큰 차감 시도
+   * @return 0이면 허용, 양수면 거절이며 토큰이 다시 찰 때까지 기다려야 하는 시간(ms)
+   */
+  public long tryAcquire(Object key, int permits) {
+    long cost = permits * MILLIS_PER_TOKEN;
+    if (cost > capacityMilli) {
+      throw new IllegalArgumentException("요청 토큰 수가 버킷 용량보다 큽니다.");
+    }
+    int index = spread(key.hashCode()) & mask;
+    while (true) {
+      long now = clock.getAsLong() - epoch;
+      long current = slots.get(index);
+      long tokens = current == 0 ? capacityMilli : refill(current, now);
+      if (tokens < cost) {
+        // 거절은 상태를 바꾸지 않는다 (경과 시간이 계속 누적되도록)
+        return retryAfter(cost - tokens);
+      }
+      long next = (now << TOKEN_BITS) | (tokens - cost);
+      if (slots.compareAndSet(index, current, next)) {
+        return 0;
+      }
+    }
+  }
+
+  // 안내한 시간만큼 기다리면 반드시 허용되도록, 부동소수 오차로 충전량이 모자라면 1ms 늘린다
+  private long retryAfter(long missing) {
+    long wait = (long) Math.ceil(missing / refillMilliPerMs);
+    return (long) (wait * refillMilliPerMs) < missing ? wait + 1 : wait;
+  }
+
+  private long refill(long state, long now) {
+    long last = state >>> TOKEN_BITS;
+    long tokens = state & TOKEN_MASK;
+    long elapsed = Math.max(0, now - last);
+    return Math.min(capacityMilli, tokens + (long) (elapsed * refillMilliPerMs));
+  }
+
+  // HashMap과 같은 상위 비트 섞기 (IP 문자열 등 하위 비트 편중 완화)
+  private static int spread(int hash) {
+    int h = hash * 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+}
@@ -0,0 +1,116 @@
+package com.example.news.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 긴 본문을 문단/문장 경계(SentenceSplitter) 기준으로 모델 입력 크기 이하의 청크로 나눈다.
+ * 문장 하나가 청크보다 길면 공백에서, 공백도 없으면 글자 수 기준으로 자른다.
+ */
+public final class TextChunker {
+
+  private static final Pattern PARAGRAPH = Pattern.compile("\\n\\s*\\n");
+
+  private TextChunker() {
+  }
+
+  public static List<String> split(String text, int maxChars) {
+    if (maxChars < 1) {
+      throw new IllegalArgumentException("maxChars는 1 이상이어야 합니다.");
+    }
+    List<String> chunks = new ArrayList<>();
+    if (text == null || text.isBlank()) {
+      return chunks;
+    }
+    if (text.length() <= maxChars) {
+      chunks.add(text);
+      return chunks;
+    }
+
+    StringBuilder current = new StringBuilder();
+    for (String paragraph : PARAGRAPH.split(text)) {
+      String trimmed = paragraph.trim();
+      if (trimmed.isEmpty()) {
+        continue;
+      }
+      // 문단 전체가 들어가면 문단 단위로, 아니면 문장 단위로 채운다
+      if (fits(current, trimmed, maxChars)) {
+        append(current, trimmed, "\n\n");
+        continue;
+      }
+      for (String sentence : SentenceSplitter.split(trimmed)) {
+        if (!fits(current, sentence, maxChars)) {
+          flush(current, chunks);
+        }
+        if (sentence.length() > maxChars) {
+          // 문장 하나가 청크보다 길면 공백 경계에서 자르고, 남은 꼬리는 다음 문장과 이어 채운다
+          int start = 0;
+          while (sentence.length() - start > maxChars) {
+            int end = cutPoint(sentence, start, start + maxChars);
+            chunks.add(sentence.substring(start, end).stripTrailing());
+            start = skipWhitespace(sentence, end);
+          }
+          append(current, sentence.substring(start), " ");
+          continue;
+        }
+        append(current, sentence, " ");
+      }
+    }
+    flush(current, chunks);
+    return chunks;
+  }
+
+  /**
+   * 앞에서부터 maxChars 이하로 자른 앞부분 (문장 끝 → 공백 → 글자 수 순으로 자를 위치를 찾는다)
+   */
+  public static String head(String text, int maxChars) {
+    if (maxChars < 1) {
+      throw new IllegalArgumentException("maxChars는 1 이상이어야 합니다.");
+    }
+    if (text.length() <= maxChars) {
+      return text;
+    }
+    int sentenceEnd = SentenceSplitter.lastBoundary(text, maxChars);
+    if (sentenceEnd > 0) {
+      return text.substring(0, sentenceEnd);
+    }
+    return text.substring(0, cutPoint(text, 0, maxChars)).stripTrailing();
+  }
+
+  // [start, end) 안에서 마지막 공백 위치 (end 자리가 공백이면 end), 공백이 없으면 end에서 강제로 자른다
+  private static int cutPoint(String text, int start, int end) {
+    for (int i = end; i > start; i--) {
+      if (Character.isWhitespace(text.charAt(i))) {
+        return i;
+      }
+    }
+    return end;
+  }
+
+  private static int skipWhitespace(String text, int index) {
+    while (index < text.length() && Character.isWhitespace(text.charAt(index))) {
+      index++;
+    }
+    return index;
+  }
+
+  private static boolean fits(StringBuilder current, String piece, int maxChars) {
+    int separator = current.length() == 0 ? 0 : 2;
+    return current.length() + separator + piece.length() <= maxChars;
+  }
+
+  private static void append(StringBuilder current, String piece, String separator) {
+    if (current.length() > 0) {
+      current.append(separator);
+    }
+    current.append(piece);
+  }
+
+  private static void flush(StringBuilder current, List<String> chunks) {
+    if (current.length() > 0) {
+      chunks.add(current.toString());
+      current.setLength(0);
+    }
+  }
+}
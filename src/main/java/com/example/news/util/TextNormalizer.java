@@ -0,0 +1,43 @@
+package com.example.news.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+/**
+ * 요약 캐시 키 생성을 위한 본문 정규화/해시 유틸
+ */
+public final class TextNormalizer {
+
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+  private TextNormalizer() {
+  }
+
+  /**
+   * 유니코드 NFC 정규화 + 앞뒤 공백 제거 + 연속 공백 축약
+   */
+  public static String normalize(String text) {
+    if (text == null) {
+      return "";
+    }
+    String nfc = Normalizer.normalize(text, Normalizer.Form.NFC);
+    return WHITESPACE.matcher(nfc.trim()).replaceAll(" ");
+  }
+
+  /**
+   * 정규화된 본문의 SHA-256 해시 (16진수 64자)
+   */
+  public static String contentHash(String text) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      byte[] hash = digest.digest(normalize(text).getBytes(StandardCharsets.UTF_8));
+      return HexFormat.of().formatHex(hash);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+    }
+  }
+}
@@ -0,0 +1,154 @@
+package com.example.news.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * TextRank 추출 요약 (네트워크/모델 없이 문장 그래프로 중요 문장 선택)
+ * - 문장 분리: SentenceSplitter (한국어 "~다." 와 영어 문장 모두 처리)
+ * - 문장 유사도: KoreanTokenizer 토큰 집합 교집합 / (log|Si| + log|Sj|) (Mihalcea & Tarau 2004)
+ * - 가중 PageRank 반복 후 상위 문장을 원문 순서대로 이어 붙인다.
+ */
+public final class TextRankSummarizer {
+
+  // 긴 기사는 앞부분 문장만 그래프에 넣는다 (O(n^2) 유사도 계산 상한)
+  static final int MAX_SENTENCES = 200;
+  private static final double DAMPING = 0.85;
+  private static final double CONVERGENCE = 1e-4;
+  private static final int MAX_ITERATIONS = 50;
+  private static final int MIN_SENTENCE_CHARS = 8;
+
+  private TextRankSummarizer() {
+  }
+
+  /**
+   * 중요도 상위 maxSentences 개 문장 (원문 순서 유지)
+   */
+  public static String summarize(String text, int maxSentences) {
+    List<String> sentences = splitSentences(text);
+    if (sentences.size() <= maxSentences) {
+      return String.join(" ", sentences);
+    }
+    if (sentences.size() > MAX_SENTENCES) {
+      sentences = sentences.subList(0, MAX_SENTENCES);
+    }
+
+    double[] scores = rank(termSets(sentences));
+    Integer[] order = new Integer[sentences.size()];
+    for (int i = 0; i < order.length; i++) {
+      order[i] = i;
+    }
+    // 점수가 같으면 앞 문장 우선 (리드 문장 편향)
+    Arrays.sort(order, (a, b) -> scores[a] != scores[b] ? Double.compare(scores[b], scores[a]) : Integer.compare(a, b));
+
+    int[] selected = new int[maxSentences];
+    for (int i = 0; i < maxSentences; i++) {
+      selected[i] = order[i];
+    }
+    Arrays.sort(selected);
+    StringBuilder summary = new StringBuilder();
+    for (int index : selected) {
+      if (summary.length() > 0) {
+        summary.append(' ');
+      }
+      summary.append(sentences.get(index));
+    }
+    return summary.toString();
+  }
+
+  // 너무 짧은 조각(머리기호, 바이라인 등)은 후보에서 제외
+  static List<String> splitSentences(String text) {
+    List<String> sentences = new ArrayList<>();
+    for (String sentence : SentenceSplitter.split(text)) {
+      if (sentence.length() >= MIN_SENTENCE_CHARS) {
+        sentences.add(sentence);
+      }
+    }
+    return sentences;
+  }
+
+  // 문장별 정렬된 고유 토큰 id 배열
+  private static int[][] termSets(List<String> sentences) {
+    Map<String, Integer> vocabulary = new HashMap<>();
+    int[][] termSets = new int[sentences.size()][];
+    for (int i = 0; i < termSets.length; i++) {
+      List<String> tokens = KoreanTokenizer.tokenize(sentences.get(i));
+      int[] ids = new int[tokens.size()];
+      for (int t = 0; t < ids.length; t++) {
+        ids[t] = vocabulary.computeIfAbsent(tokens.get(t), key -> vocabulary.size());
+      }
+      termSets[i] = Arrays.stream(ids).sorted().distinct().toArray();
+    }
+    return termSets;
+  }
+
+  static double[] rank(int[][] termSets) {
+    int n = termSets.length;
+    double[] logSizes = new double[n];
+    for (int i = 0; i < n; i++) {
+      // 토큰 1개 문장의 log 1 = 0 으로 나누지 않도록 +1
+      logSizes[i] = Math.log(termSets[i].length + 1);
+    }
+
+    double[][] weights = new double[n][n];
+    double[] outWeights = new double[n];
+    for (int i = 0; i < n; i++) {
+      for (int j = i + 1; j < n; j++) {
+        int overlap = intersectionSize(termSets[i], termSets[j]);
+        if (overlap > 0) {
+          double weight = overlap / (logSizes[i] + logSizes[j]);
+          weights[i][j] = weight;
+          weights[j][i] = weight;
+          outWeights[i] += weight;
+          outWeights[j] += weight;
+        }
+      }
+    }
+
+    double[] scores = new double[n];
+    Arrays.fill(scores, 1.0);
+    double[] next = new double[n];
+    for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+      double maxDelta = 0;
+      for (int i = 0; i < n; i++) {
+        double sum = 0;
+        double[] incoming = weights[i];
+        for (int j = 0; j < n; j++) {
+          if (incoming[j] > 0) {
+            sum += incoming[j] / outWeights[j] * scores[j];
+          }
+        }
+        next[i] = (1 - DAMPING) + DAMPING * sum;
+        maxDelta = Math.max(maxDelta, Math.abs(next[i] - scores[i]));
+      }
+      double[] swap = scores;
+      scores = next;
+      next = swap;
+      if (maxDelta < CONVERGENCE) {
+        break;
+      }
+    }
+    return scores;
+  }
+
+  private static int intersectionSize(int[] a, int[] b) {
+    int i = 0;
+    int j = 0;
+    int count = 0;
+    while (i < a.length && j < b.length) {
+      if (a[i] == b[j]) {
+        count++;
+        i++;
+        j++;
+      } else if (a[i] < b[j]) {
+        i++;
+      } else {
+        j++;
+      }
+    }
+    return count;
+  }
+}
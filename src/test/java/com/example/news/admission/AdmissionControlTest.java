@@ -0,0 +1,147 @@
+package com.example.news.admission;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.news.admission.AdmissionControl.Result;
+import com.example.news.config.AdmissionProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 레인별/전체 동시 실행 슬롯 계산과 회원 대화형 예약분 확인
+ * (토큰 버킷 자체는 StripedTokenBucketsTest에서 확인하므로 여기서는 버스트를 넉넉히 둔다)
+ */
+class AdmissionControlTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private AdmissionProperties properties;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    properties = new AdmissionProperties();
+    properties.setMaxConcurrent(8);
+    properties.setMemberInteractiveReserve(0.25);
+    properties.setStripes(64);
+    properties.setMember(new AdmissionProperties.Tier(60, 1000));
+    properties.setGuest(new AdmissionProperties.Tier(60, 1000));
+  }
+
+  @Test
+  void laneCannotExceedItsShare() {
+    // 8 * 0.2 → 2 슬롯
+    AdmissionControl admission = new AdmissionControl(properties, meterRegistry);
+
+    assertThat(admission.tryAdmit(AdmissionLane.GUEST_BATCH, "10.0.0.1", true).admitted()).isTrue();
+    assertThat(admission.tryAdmit(AdmissionLane.GUEST_BATCH, "10.0.0.2", true).admitted()).isTrue();
+    AdmissionControl.Decision rejected = admission.tryAdmit(AdmissionLane.GUEST_BATCH, "10.0.0.3", true);
+
+    assertThat(rejected.result()).isEqualTo(Result.OVERLOADED);
+    assertThat(rejected.retryAfterMillis()).isPositive();
+    // 다른 레인은 영향 없음
+    assertThat(admission.tryAdmit(AdmissionLane.GUEST_INTERACTIVE, "10.0.0.3", true).admitted()).isTrue();
+  }
+
+  @Test
+  void otherLanesLeaveReservedSlotsForMemberInteractive() {
+    properties.getLanes().setMemberBatch(1.0);
+    properties.getLanes().setGuestInteractive(1.0);
+    AdmissionControl admission = new AdmissionControl(properties, meterRegistry);
+
+    // 예약 2 슬롯을 뺀 6 슬롯까지만 다른 레인이 차지
+    for (int i = 0; i < 3; i++) {
+      assertThat(admission.tryAdmit(AdmissionLane.MEMBER_BATCH, "batch-user", true).admitted()).isTrue();
+      assertThat(admission.tryAdmit(AdmissionLane.GUEST_INTERACTIVE, "10.0.0.1", true).admitted()).isTrue();
+    }
+    assertThat(admission.tryAdmit(AdmissionLane.MEMBER_BATCH, "batch-user", true).result())
+        .isEqualTo(Result.OVERLOADED);
+    assertThat(admission.tryAdmit(AdmissionLane.GUEST_INTERACTIVE, "10.0.0.1", true).result())
+        .isEqualTo(Result.OVERLOADED);
+
+    assertThat(admission.tryAdmit(AdmissionLane.MEMBER_INTERACTIVE, "alice", true).admitted()).isTrue();
+    assertThat(admission.tryAdmit(AdmissionLane.MEMBER_INTERACTIVE, "bob", true).admitted()).isTrue();
+    // 전체 한도 도달
+    assertThat(admission.tryAdmit(AdmissionLane.MEMBER_INTERACTIVE, "carol", true).result())
+        .isEqualTo(Result.OVERLOADED);
+  }
+
+  @Test
+  void releaseReturnsSlotsAndRejectedRequestsHoldNothing() {
+    properties.setGuest(new AdmissionProperties.Tier(1, 1));
+    AdmissionControl admission = new AdmissionControl(properties, meterRegistry);
+
+    assertThat(admission.tryAdmit(AdmissionLane.GUEST_INTERACTIVE, "10.0.0.1", true).admitted()).isTrue();
+    AdmissionControl.Decision limited = admission.tryAdmit(AdmissionLane.GUEST_INTERACTIVE, "10.0.0.1", true);
+    assertThat(limited.result()).isEqualTo(Result.RATE_LIMITED);
+    assertThat(limited.retryAfterMillis()).isPositive();
+    // 속도 제한으로 거절된 요청은 슬롯을 돌려준다
+    assertThat(inFlight(AdmissionLane.GUEST_INTERACTIVE)).isEqualTo(1);
+
+    admission.release(AdmissionLane.GUEST_INTERACTIVE);
+    assertThat(inFlight(AdmissionLane.GUEST_INTERACTIVE)).isZero();
+    assertThat(decisions(AdmissionLane.GUEST_INTERACTIVE, "admitted")).isEqualTo(1);
+    assertThat(decisions(AdmissionLane.GUEST_INTERACTIVE, "rate-limited")).isEqualTo(1);
+  }
+
+  @Test
+  void withoutHoldSlotOnlyTheBucketIsChecked() {
+    AdmissionControl admission = new AdmissionControl(properties, meterRegistry);
+
+    for (int i = 0; i < 20; i++) {
+      assertThat(admission.tryAdmit(AdmissionLane.GUEST_BATCH, "10.0.0.1", false).admitted()).isTrue();
+    }
+    assertThat(inFlight(AdmissionLane.GUEST_BATCH)).isZero();
+  }
+
+  @Test
+  void batchItemsArePaidPerItemAndTakeSlotsUpToParallelism() {
+    // batchCost 5 + 버킷 10 → 입장 후 항목 5개를 더 받을 수 있다
+    properties.setMember(new AdmissionProperties.Tier(1, 10));
+    properties.getLanes().setMemberBatch(0.5);
+    AdmissionControl admission = new AdmissionControl(properties, meterRegistry);
+    assertThat(admission.tryAdmit(AdmissionLane.MEMBER_BATCH, "batch-user", true).admitted()).isTrue();
+    BatchAdmission batch = new BatchAdmission(admission, AdmissionLane.MEMBER_BATCH, "batch-user");
+
+    // 8 * 0.5 → 레인 4 슬롯 중 입장 때 1개, 추가로 3개까지
+    BatchAdmission.Grant grant = batch.admit(500, 16);
+
+    assertThat(grant.items()).isEqualTo(10);
+    assertThat(grant.parallelism()).isEqualTo(4);
+    assertThat(inFlight(AdmissionLane.MEMBER_BATCH)).isEqualTo(4);
+
+    batch.release();
+    admission.release(AdmissionLane.MEMBER_BATCH);
+    assertThat(inFlight(AdmissionLane.MEMBER_BATCH)).isZero();
+  }
+
+  @Test
+  void smallBatchTakesOneSlotPerItem() {
+    AdmissionControl admission = new AdmissionControl(properties, meterRegistry);
+    assertThat(admission.tryAdmit(AdmissionLane.GUEST_BATCH, "10.0.0.1", true).admitted()).isTrue();
+    BatchAdmission batch = new BatchAdmission(admission, AdmissionLane.GUEST_BATCH, "10.0.0.1");
+
+    BatchAdmission.Grant grant = batch.admit(2, 16);
+
+    assertThat(grant.items()).isEqualTo(2);
+    assertThat(grant.parallelism()).isEqualTo(2);
+    assertThat(inFlight(AdmissionLane.GUEST_BATCH)).isEqualTo(2);
+  }
+
+  @Test
+  void rejectsReserveThatLeavesNoSharedSlots() {
+    properties.setMemberInteractiveReserve(1.0);
+
+    assertThatThrownBy(() -> new AdmissionControl(properties, meterRegistry))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private double inFlight(AdmissionLane lane) {
+    return meterRegistry.get("admission.in.flight").tag("lane", lane.tag()).gauge().value();
+  }
+
+  private double decisions(AdmissionLane lane, String result) {
+    return meterRegistry.get("admission.decisions").tag("lane", lane.tag()).tag("result", result).counter().count();
+  }
+}
@@ -0,0 +1,69 @@
+package com.example.news.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import com.example.news.exception.AIServiceException;
+import com.example.news.observability.PayloadLogger;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.URI;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 쿼리 인코딩(한 번만)과 HTTP 200에 담긴 MyMemory 오류 응답 처리 확인
+ */
+class MyMemoryClientTest {
+
+  private static final String URL = "http://mymemory.test/get";
+
+  private MockRestServiceServer server;
+  private MyMemoryClient client;
+
+  @BeforeEach
+  void setUp() {
+    RestTemplate restTemplate = new RestTemplate();
+    server = MockRestServiceServer.bindTo(restTemplate).build();
+    client = new MyMemoryClient(restTemplate, new UpstreamGuards(new SimpleMeterRegistry()), new PayloadLogger(0, 100));
+    ReflectionTestUtils.setField(client, "translateUrl", URL);
+  }
+
+  @Test
+  void queryIsEncodedOnce() {
+    server.expect(requestTo(URI.create(URL + "?q=Rates%20%2B%20jobs%20%26%20growth%3F&langpair=en%7Cko")))
+        .andRespond(withSuccess(
+            "{\"responseData\":{\"translatedText\":\"금리와 고용, 성장?\"},\"responseStatus\":200}",
+            MediaType.APPLICATION_JSON));
+
+    assertThat(client.translate("Rates + jobs & growth?")).isEqualTo("금리와 고용, 성장?");
+    server.verify();
+  }
+
+  @Test
+  void quotaFinishedIsRejected() {
+    server.expect(requestTo(URI.create(URL + "?q=Hello&langpair=en%7Cko")))
+        .andRespond(withSuccess("{\"responseData\":{\"translatedText\":\"MYMEMORY WARNING: YOU USED ALL AVAILABLE "
+            + "FREE TRANSLATIONS FOR TODAY\"},\"quotaFinished\":true,\"responseStatus\":429}",
+            MediaType.APPLICATION_JSON));
+
+    assertThatThrownBy(() -> client.translate("Hello")).isInstanceOf(AIServiceException.class);
+  }
+
+  @Test
+  void errorStatusInBodyIsRejected() {
+    server.expect(requestTo(URI.create(URL + "?q=Hello&langpair=en%7Cko")))
+        .andRespond(withSuccess("{\"responseData\":{\"translatedText\":\"INVALID LANGUAGE PAIR\"},"
+            + "\"responseStatus\":\"403\",\"responseDetails\":\"INVALID LANGUAGE PAIR\"}",
+            MediaType.APPLICATION_JSON));
+
+    assertThatThrownBy(() -> client.translate("Hello"))
+        .isInstanceOf(AIServiceException.class)
+        .hasMessageContaining("403");
+  }
+}
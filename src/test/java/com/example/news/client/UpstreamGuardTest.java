@@ -0,0 +1,57 @@
+package com.example.news.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.news.util.AimdLimiter;
+import com.example.news.util.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 원격 호출이 어떻게 끝나든 동시 실행 슬롯과 서킷 허가를 돌려주는지 확인
+ */
+class UpstreamGuardTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Test
+  void errorReleasesTheSlotAndCountsAsFailure() {
+    // 동시 실행 한도 1: 슬롯이 새면 다음 호출이 거절된다
+    AimdLimiter limiter = new AimdLimiter(1, 1, 1, 0.9, TimeUnit.SECONDS.toNanos(10));
+    CircuitBreaker circuitBreaker = new CircuitBreaker(10, 2, 0.5, 60_000, 1);
+    UpstreamGuard guard = guard(circuitBreaker, limiter);
+
+    assertThatThrownBy(() -> guard.call(() -> {
+      throw new StackOverflowError();
+    })).isInstanceOf(StackOverflowError.class);
+    assertThat(limiter.getInFlight()).isZero();
+    assertThat(guard.call(() -> "ok")).isEqualTo("ok");
+
+    // 두 번째 Error로 실패율 2/3 → 서킷 오픈
+    assertThatThrownBy(() -> guard.call(() -> {
+      throw new OutOfMemoryError();
+    })).isInstanceOf(OutOfMemoryError.class);
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    assertThat(limiter.getInFlight()).isZero();
+  }
+
+  @Test
+  void runtimeFailureReleasesTheSlot() {
+    AimdLimiter limiter = new AimdLimiter(1, 1, 1, 0.9, TimeUnit.SECONDS.toNanos(10));
+    UpstreamGuard guard = guard(new CircuitBreaker(10, 10, 0.5, 60_000, 1), limiter);
+
+    assertThatThrownBy(() -> guard.call(() -> {
+      throw new IllegalStateException("boom");
+    })).isInstanceOf(IllegalStateException.class);
+
+    assertThat(limiter.getInFlight()).isZero();
+    assertThat(guard.call(() -> "ok")).isEqualTo("ok");
+  }
+
+  private UpstreamGuard guard(CircuitBreaker circuitBreaker, AimdLimiter limiter) {
+    return new UpstreamGuard("test", circuitBreaker, limiter,
+        meterRegistry.counter("circuit.rejections"), meterRegistry.counter("limit.rejections"));
+  }
+}
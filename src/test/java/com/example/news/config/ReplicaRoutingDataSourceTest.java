@@ -0,0 +1,119 @@
+package com.example.news.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 기본 DB / 복제본 역할의 H2 메모리 DB 두 개로 라우팅 확인
+ * 각 DB의 node 테이블에 자기 이름을 넣어 두고, 어느 DB에서 읽었는지 조회 결과로 판단한다.
+ */
+class ReplicaRoutingDataSourceTest {
+
+  private JdbcTemplate replicaAdmin;
+  private SimpleMeterRegistry meterRegistry;
+  private ReplicaRoutingDataSource routingDataSource;
+  private JdbcTemplate jdbcTemplate;
+  private TransactionTemplate readWrite;
+  private TransactionTemplate readOnly;
+
+  @BeforeEach
+  void setUp() {
+    String suffix = UUID.randomUUID().toString();
+    DataSource primary = h2("primary-" + suffix);
+    DataSource replica = h2("replica-" + suffix);
+    new JdbcTemplate(primary).execute("create table node (name varchar(16))");
+    new JdbcTemplate(primary).update("insert into node values ('primary')");
+    replicaAdmin = new JdbcTemplate(replica);
+    replicaAdmin.execute("create table node (name varchar(16))");
+    replicaAdmin.update("insert into node values ('replica')");
+    // MySQL의 SHOW REPLICA STATUS 대신 지연(초)을 직접 조절하는 테이블
+    replicaAdmin.execute("create table replica_lag (seconds_behind_source int)");
+    replicaAdmin.update("insert into replica_lag values (0)");
+
+    DataSourceRoutingProperties properties = new DataSourceRoutingProperties();
+    properties.setMaxLag(Duration.ofSeconds(2));
+    // 주기 조회는 테스트 중에 돌지 않도록 길게 두고 checkReplicas()를 직접 호출
+    properties.setCheckInterval(Duration.ofHours(1));
+    properties.setLagQuery("select seconds_behind_source from replica_lag");
+
+    meterRegistry = new SimpleMeterRegistry();
+    routingDataSource = new ReplicaRoutingDataSource(primary, Map.of("replica-0", replica), properties,
+        meterRegistry);
+    routingDataSource.afterPropertiesSet();
+
+    DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+    readWrite = new TransactionTemplate(transactionManager);
+    readOnly = new TransactionTemplate(transactionManager);
+    readOnly.setReadOnly(true);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    routingDataSource.destroy();
+  }
+
+  @Test
+  void readOnlyTransactionsGoToReplica() {
+    assertThat(readOnly.execute(status -> currentNode())).isEqualTo("replica");
+    assertThat(readWrite.execute(status -> currentNode())).isEqualTo("primary");
+    // 트랜잭션 밖 조회는 기본 DB
+    assertThat(currentNode()).isEqualTo("primary");
+    assertThat(meterRegistry.get("datasource.routing.reads").tag("target", "replica").counter().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void laggingReplicaFallsBackToPrimary() {
+    replicaAdmin.update("update replica_lag set seconds_behind_source = 30");
+    routingDataSource.checkReplicas();
+
+    assertThat(readOnly.execute(status -> currentNode())).isEqualTo("primary");
+    assertThat(routingDataSource.hasEligibleReplica()).isFalse();
+    assertThat(meterRegistry.get("datasource.replica.lag").tag("replica", "replica-0").gauge().value())
+        .isEqualTo(30);
+
+    // 따라잡으면 다시 복제본으로
+    replicaAdmin.update("update replica_lag set seconds_behind_source = 1");
+    routingDataSource.checkReplicas();
+    assertThat(readOnly.execute(status -> currentNode())).isEqualTo("replica");
+  }
+
+  @Test
+  void stoppedReplicationFallsBackToPrimary() {
+    // SHOW REPLICA STATUS 의 Seconds_Behind_Source 는 복제 스레드가 멈추면 NULL
+    replicaAdmin.update("update replica_lag set seconds_behind_source = null");
+    routingDataSource.checkReplicas();
+    assertThat(readOnly.execute(status -> currentNode())).isEqualTo("primary");
+
+    // 지연 조회 자체가 실패해도 제외
+    replicaAdmin.execute("drop table replica_lag");
+    routingDataSource.checkReplicas();
+    assertThat(readOnly.execute(status -> currentNode())).isEqualTo("primary");
+    assertThat(routingDataSource.replicaStatus().get("replica-0")).containsKey("error");
+    assertThat(meterRegistry.get("datasource.routing.reads").tag("target", "primary-fallback").counter().count())
+        .isEqualTo(2);
+  }
+
+  private String currentNode() {
+    return jdbcTemplate.queryForObject("select name from node", String.class);
+  }
+
+  private static DataSource h2(String name) {
+    return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+  }
+}
@@ -0,0 +1,78 @@
+package com.example.news.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+class UpstreamHttpClientsTest {
+
+  private HttpServer server;
+  private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+  private SimpleMeterRegistry meterRegistry;
+  private UpstreamHttpClients clients;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext("/translate", exchange -> {
+      // 클라이언트 소켓의 로컬 포트가 같으면 같은 TCP 커넥션을 재사용한 것
+      clientPorts.add(exchange.getRemoteAddress().getPort());
+      byte[] body = "{\"translatedText\":\"안녕\"}".getBytes(StandardCharsets.UTF_8);
+      exchange.getResponseHeaders().add("Content-Type", "application/json");
+      exchange.sendResponseHeaders(200, body.length);
+      exchange.getResponseBody().write(body);
+      exchange.close();
+    });
+    server.start();
+
+    meterRegistry = new SimpleMeterRegistry();
+    clients = new UpstreamHttpClients(meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    clients.destroy();
+    server.stop(0);
+  }
+
+  @Test
+  void pooledClientReusesConnectionAcrossRequests() {
+    RestTemplate restTemplate = new RestTemplate(
+        clients.create("stub", new HttpClientProperties.Upstream()));
+    String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/translate";
+
+    for (int i = 0; i < 20; i++) {
+      assertThat(restTemplate.postForObject(url, "{\"q\":\"hello\"}", String.class))
+          .contains("translatedText");
+    }
+
+    assertThat(clientPorts).hasSize(1);
+    assertThat(meterRegistry.get("http.client.pool.wait").tag("upstream", "stub").timer().count())
+        .isEqualTo(20);
+    assertThat(meterRegistry.get("httpcomponents.httpclient.pool.total.max").gauge().value())
+        .isEqualTo(50);
+  }
+
+  @Test
+  void completedRequestsLeaveNoDeadlineTasks() {
+    RestTemplate restTemplate = new RestTemplate(
+        clients.create("stub", new HttpClientProperties.Upstream()));
+    String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/translate";
+
+    for (int i = 0; i < 20; i++) {
+      restTemplate.postForObject(url, "{\"q\":\"hello\"}", String.class);
+    }
+
+    // 응답을 닫으면 데드라인 작업이 취소되고 큐에서 빠진다 (setRemoveOnCancelPolicy)
+    assertThat(clients.pendingDeadlines()).isZero();
+  }
+}
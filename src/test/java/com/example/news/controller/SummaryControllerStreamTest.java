@@ -0,0 +1,103 @@
+package com.example.news.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.news.dto.SummaryJobResponse;
+import com.example.news.dto.SummaryJobStatus;
+import com.example.news.dto.SummaryResponse;
+import com.example.news.exception.GlobalExceptionHandler;
+import com.example.news.exception.TooManyRequestsException;
+import com.example.news.service.SummaryJobService;
+import com.example.news.service.SummaryProgressListener;
+import com.example.news.service.SummaryService;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+/**
+ * /stream SSE 이벤트 순서와 작업 대기열이 가득 찼을 때의 응답
+ */
+class SummaryControllerStreamTest {
+
+  private static final String BODY = "{\"originalText\":\"The central bank kept rates unchanged.\"}";
+
+  private SummaryJobService summaryJobService;
+  private MockMvc mockMvc;
+
+  @BeforeEach
+  void setUp() {
+    summaryJobService = mock(SummaryJobService.class);
+    mockMvc = MockMvcBuilders.standaloneSetup(new SummaryController(mock(SummaryService.class), summaryJobService))
+        .setControllerAdvice(new GlobalExceptionHandler())
+        .build();
+  }
+
+  @Test
+  void eventsArriveInPipelineOrder() throws Exception {
+    SummaryJobResponse job = SummaryJobResponse.builder().jobId("job-1").status(SummaryJobStatus.QUEUED).build();
+    when(summaryJobService.submit(any(), any())).thenAnswer(invocation -> {
+      SummaryProgressListener listener = invocation.getArgument(1);
+      listener.onAccepted(job);
+      // 나머지 단계는 작업 스레드에서 응답 반환 뒤에 이어진다
+      Thread worker = new Thread(() -> {
+        listener.onEnglishSummary("Rates were kept unchanged.");
+        listener.onKoreanSummary("금리가 동결됐다.");
+        listener.onPersisted(SummaryResponse.builder().id(1L).summaryText("금리가 동결됐다.").build());
+      });
+      worker.start();
+      return job;
+    });
+
+    MvcResult result = mockMvc.perform(post("/api/v1/summaries/stream")
+            .contentType(MediaType.APPLICATION_JSON)
+            .accept(MediaType.TEXT_EVENT_STREAM)
+            .content(BODY))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+    result.getAsyncResult(5000);
+
+    assertThat(result.getResponse().getStatus()).isEqualTo(200);
+    assertThat(eventNames(result)).containsExactly("accepted", "summary.english", "summary.korean", "persisted");
+    assertThat(result.getResponse().getContentAsString(StandardCharsets.UTF_8)).contains("금리가 동결됐다.");
+  }
+
+  @Test
+  void fullJobQueueAnswers429WithAnErrorEvent() throws Exception {
+    when(summaryJobService.submit(any(), any()))
+        .thenThrow(new TooManyRequestsException("요약 작업 대기열이 가득 찼습니다. 잠시 후 다시 시도해 주세요.", 3));
+
+    MvcResult result = mockMvc.perform(post("/api/v1/summaries/stream")
+            .contentType(MediaType.APPLICATION_JSON)
+            .accept(MediaType.TEXT_EVENT_STREAM)
+            .content(BODY))
+        .andExpect(status().isTooManyRequests())
+        .andExpect(header().string(HttpHeaders.RETRY_AFTER, "3"))
+        .andReturn();
+    if (result.getRequest().isAsyncStarted()) {
+      result.getAsyncResult(5000);
+    }
+
+    assertThat(eventNames(result)).containsExactly("error");
+    assertThat(result.getResponse().getContentAsString(StandardCharsets.UTF_8)).contains("\"status\":429");
+  }
+
+  private static List<String> eventNames(MvcResult result) throws Exception {
+    return result.getResponse().getContentAsString(StandardCharsets.UTF_8).lines()
+        .filter(line -> line.startsWith("event:"))
+        .map(line -> line.substring("event:".length()).trim())
+        .toList();
+  }
+}
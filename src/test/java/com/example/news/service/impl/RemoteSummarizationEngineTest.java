@@ -0,0 +1,82 @@
+package com.example.news.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.news.client.HuggingFaceClient;
+import com.example.news.observability.PayloadLogger;
+import com.example.news.observability.PipelineObservations;
+import com.example.news.service.SummaryProgressListener;
+import com.example.news.service.TranslationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 언어별 요약 경로: 한국어 기사는 한국어 모델로 바로 요약하고 번역하지 않는다
+ */
+class RemoteSummarizationEngineTest {
+
+  private static final String KOREAN_ARTICLE = "한국은행이 기준금리를 연 3.5%로 동결했다. 물가 상승률이 여전히 높다는 판단이다.";
+  private static final String ENGLISH_ARTICLE =
+      "The central bank kept interest rates unchanged on Thursday, saying that inflation was still too high.";
+
+  private HuggingFaceClient huggingFaceClient;
+  private TranslationService translationService;
+  private SummaryProgressListener listener;
+  private RemoteSummarizationEngine engine;
+
+  @BeforeEach
+  void setUp() {
+    huggingFaceClient = mock(HuggingFaceClient.class);
+    translationService = mock(TranslationService.class);
+    listener = mock(SummaryProgressListener.class);
+    engine = new RemoteSummarizationEngine(huggingFaceClient, translationService,
+        new PipelineObservations(ObservationRegistry.NOOP, new SimpleMeterRegistry()), new PayloadLogger(0, 100));
+    ReflectionTestUtils.setField(engine, "maxChunkChars", 1000);
+    ReflectionTestUtils.setField(engine, "maxParallelChunks", 8);
+    ReflectionTestUtils.setField(engine, "maxKoreanChunkChars", 600);
+    ReflectionTestUtils.setField(engine, "koreanModelEnabled", true);
+  }
+
+  @Test
+  void koreanArticleIsSummarizedDirectlyWithoutTranslation() {
+    when(huggingFaceClient.summarize(KOREAN_ARTICLE, true)).thenReturn("한국은행이 기준금리를 동결했다.");
+
+    assertThat(engine.summarize(KOREAN_ARTICLE, listener)).isEqualTo("한국은행이 기준금리를 동결했다.");
+
+    verify(huggingFaceClient, never()).summarize(anyString(), eq(false));
+    verify(translationService, never()).translateToKorean(anyString());
+    verify(listener, never()).onEnglishSummary(anyString());
+  }
+
+  @Test
+  void englishArticleIsSummarizedThenTranslated() {
+    when(huggingFaceClient.summarize(ENGLISH_ARTICLE, false)).thenReturn("Rates were kept unchanged.");
+    when(translationService.translateToKorean("Rates were kept unchanged.")).thenReturn("금리가 동결됐다.");
+
+    assertThat(engine.summarize(ENGLISH_ARTICLE, listener)).isEqualTo("금리가 동결됐다.");
+
+    verify(huggingFaceClient, never()).summarize(anyString(), eq(true));
+    verify(listener).onEnglishSummary("Rates were kept unchanged.");
+  }
+
+  @Test
+  void koreanModelCanBeDisabled() {
+    ReflectionTestUtils.setField(engine, "koreanModelEnabled", false);
+    when(huggingFaceClient.summarize(anyString(), anyBoolean())).thenReturn("BOK held rates.");
+    when(translationService.translateToKorean("BOK held rates.")).thenReturn("한국은행이 금리를 동결했다.");
+
+    assertThat(engine.summarize(KOREAN_ARTICLE, listener)).isEqualTo("한국은행이 금리를 동결했다.");
+
+    verify(huggingFaceClient).summarize(KOREAN_ARTICLE, false);
+  }
+}
@@ -0,0 +1,48 @@
+package com.example.news.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.news.entity.Summary;
+import com.example.news.entity.SummaryArticle;
+import com.example.news.repository.SummaryRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * IDENTITY 시절 행보다 시퀀스가 뒤처져 있으면 기동 시 max(id) 뒤로 맞춘다
+ */
+@SpringBootTest
+class SummaryIdSequenceSeederTest {
+
+  @Autowired
+  private SummaryIdSequenceSeeder seeder;
+
+  @Autowired
+  private SummaryRepository summaryRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void sequenceIsMovedPastExistingIds() {
+    // 시퀀스가 모르는 큰 키를 가진 행 (IDENTITY로 쌓인 기존 데이터)
+    long legacyId = summaryRepository.save(summary("기존 요약")).getId() + 10_000;
+    jdbcTemplate.update("update summaries set id = ? where id = (select max(id) from summaries)", legacyId);
+
+    seeder.seed();
+
+    // 다음에 받는 블록 (v - allocationSize, v] 전체가 기존 키 뒤에 있어야 한다
+    // (이 컨텍스트에서 이미 받아 둔 블록은 그대로 쓰이므로 저장 대신 시퀀스를 직접 확인)
+    Long next = jdbcTemplate.queryForObject("select next value for " + Summary.ID_SEQUENCE, Long.class);
+    assertThat(next - Summary.ID_ALLOCATION_SIZE).isGreaterThanOrEqualTo(legacyId);
+  }
+
+  private static Summary summary(String text) {
+    return Summary.builder()
+        .article(SummaryArticle.of("시퀀스 테스트 기사 " + text))
+        .summaryText(text)
+        .build();
+  }
+}
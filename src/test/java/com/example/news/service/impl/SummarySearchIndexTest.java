@@ -0,0 +1,74 @@
+package com.example.news.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.example.news.repository.SummaryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 검색 결과는 요청자 본인의 요약(비회원은 비회원 요약)으로 한정된다
+ */
+class SummarySearchIndexTest {
+
+  private static final Long ALICE = 1L;
+  private static final Long BOB = 2L;
+
+  private SummarySearchIndex index;
+
+  @BeforeEach
+  void setUp() {
+    index = new SummarySearchIndex(mock(SummaryRepository.class), new SimpleMeterRegistry());
+    index.add(10L, ALICE, "Central bank keeps interest rate unchanged.");
+    index.add(11L, BOB, "Interest rate cut expected next year.");
+    index.add(12L, null, "Interest rate outlook for guests.");
+  }
+
+  @Test
+  void searchReturnsOnlyTheCallersSummaries() {
+    SummarySearchIndex.SearchResult alice = index.search("interest rate", ALICE, 0, 10);
+    SummarySearchIndex.SearchResult bob = index.search("interest rate", BOB, 0, 10);
+
+    assertThat(alice.totalHits()).isEqualTo(1);
+    assertThat(alice.hits()).extracting(SummarySearchIndex.Hit::summaryId).containsExactly(10L);
+    assertThat(bob.hits()).extracting(SummarySearchIndex.Hit::summaryId).containsExactly(11L);
+  }
+
+  @Test
+  void guestsOnlySeeGuestSummaries() {
+    SummarySearchIndex.SearchResult guest = index.search("interest rate", null, 0, 10);
+
+    assertThat(guest.hits()).extracting(SummarySearchIndex.Hit::summaryId).containsExactly(12L);
+    assertThat(index.isOwnedBy(12L, null)).isTrue();
+    assertThat(index.isOwnedBy(10L, null)).isFalse();
+    assertThat(index.isOwnedBy(10L, ALICE)).isTrue();
+  }
+
+  @Test
+  void replaceTextKeepsTheOwner() {
+    index.replaceText(10L, "Semiconductor exports rose again.");
+    index.replaceText(99L, "Semiconductor exports for nobody.");
+
+    assertThat(index.search("semiconductor", ALICE, 0, 10).hits())
+        .extracting(SummarySearchIndex.Hit::summaryId).containsExactly(10L);
+    assertThat(index.search("semiconductor", BOB, 0, 10).hits()).isEmpty();
+    assertThat(index.size()).isEqualTo(3);
+  }
+
+  @Test
+  void ownedSummaryIdsAreLimitedToTheOwner() {
+    index.add(13L, ALICE, "Housing prices fell.");
+
+    assertThat(index.ownedSummaryIds(ALICE, 10)).containsExactlyInAnyOrder(10L, 13L);
+    assertThat(index.ownedSummaryIds(null, 10)).containsExactly(12L);
+    assertThat(index.ownedSummaryIds(ALICE, 1)).isNull();
+
+    index.remove(13L);
+    index.remove(10L);
+    assertThat(index.ownedSummaryIds(ALICE, 10)).isEmpty();
+    assertThat(index.search("interest rate", ALICE, 0, 10).hits()).isEmpty();
+    assertThat(index.search("interest rate", BOB, 0, 10).totalHits()).isEqualTo(1);
+  }
+}
@@ -0,0 +1,72 @@
+package com.example.news.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import com.example.news.dto.SummaryRequest;
+import com.example.news.dto.SummaryResponse;
+import com.example.news.repository.SummaryRepository;
+import com.example.news.service.AIService;
+import com.example.news.service.SummaryService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@SpringBootTest(properties = "spring.datasource.hikari.maximum-pool-size=2")
+class SummaryServiceConcurrencyTest {
+
+  private static final int IN_FLIGHT = 8;
+
+  @Autowired
+  private SummaryService summaryService;
+
+  @Autowired
+  private SummaryRepository summaryRepository;
+
+  @MockitoBean
+  private AIService aiService;
+
+  @Test
+  void inFlightSummarizationsAreNotLimitedByConnectionPool() throws Exception {
+    CountDownLatch allInsideAiCall = new CountDownLatch(IN_FLIGHT);
+    CountDownLatch releaseAiCalls = new CountDownLatch(1);
+    when(aiService.summarizeText(any(), any())).thenAnswer(invocation -> {
+      allInsideAiCall.countDown();
+      releaseAiCalls.await(10, TimeUnit.SECONDS);
+      return SummaryResponse.builder().summaryText("요약").build();
+    });
+    long before = summaryRepository.count();
+
+    ExecutorService executor = Executors.newFixedThreadPool(IN_FLIGHT);
+    try {
+      List<Future<SummaryResponse>> results = new ArrayList<>();
+      for (int i = 0; i < IN_FLIGHT; i++) {
+        SummaryRequest request = new SummaryRequest();
+        request.setOriginalText("동시성 테스트 기사 " + i);
+        results.add(executor.submit(() -> summaryService.createSummary(request)));
+      }
+
+      // 커넥션 풀(2개)보다 많은 요청이 동시에 AI 호출 구간에 들어와야 한다
+      assertThat(allInsideAiCall.await(5, TimeUnit.SECONDS)).isTrue();
+      releaseAiCalls.countDown();
+
+      for (Future<SummaryResponse> result : results) {
+        assertThat(result.get(10, TimeUnit.SECONDS).getId()).isNotNull();
+      }
+    } finally {
+      releaseAiCalls.countDown();
+      executor.shutdownNow();
+    }
+
+    assertThat(summaryRepository.count()).isEqualTo(before + IN_FLIGHT);
+  }
+}
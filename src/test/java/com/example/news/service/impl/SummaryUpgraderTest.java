@@ -0,0 +1,84 @@
+package com.example.news.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.news.exception.AIServiceException;
+import com.example.news.exception.UpstreamUnavailableException;
+import com.example.news.repository.SummaryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+/**
+ * 원격 요약 실패 시 백오프 재시도: 업스트림 장애는 풀릴 때까지, 그 외 실패는 max-attempts 회까지
+ */
+class SummaryUpgraderTest {
+
+  private static final String HASH = "content-hash";
+  private static final String ARTICLE = "The central bank kept rates unchanged.";
+
+  private RemoteSummarizationEngine remoteEngine;
+  private SummaryRepository summaryRepository;
+  private SimpleMeterRegistry meterRegistry;
+  private SummaryUpgrader upgrader;
+
+  @BeforeEach
+  void setUp() {
+    remoteEngine = mock(RemoteSummarizationEngine.class);
+    summaryRepository = mock(SummaryRepository.class);
+    meterRegistry = new SimpleMeterRegistry();
+    when(remoteEngine.name()).thenReturn(RemoteSummarizationEngine.NAME);
+    upgrader = new SummaryUpgrader(remoteEngine, summaryRepository, mock(SummaryCache.class),
+        mock(SummaryResponseCache.class), mock(SummarySearchIndex.class), mock(SummarySemanticIndex.class),
+        meterRegistry, new MockEnvironment(), 1, 10, 2, Duration.ofMillis(10), Duration.ofMillis(40));
+  }
+
+  @AfterEach
+  void tearDown() {
+    upgrader.shutdown();
+  }
+
+  @Test
+  void outageIsRetriedUntilTheUpstreamRecovers() {
+    // 서킷 오픈이 max-attempts(2)보다 오래 이어져도 포기하지 않는다
+    when(remoteEngine.summarize(anyString(), any()))
+        .thenThrow(new UpstreamUnavailableException("summarizer", 0))
+        .thenThrow(new UpstreamUnavailableException("summarizer", 0))
+        .thenThrow(new UpstreamUnavailableException("summarizer", 0))
+        .thenReturn("중앙은행은 금리를 동결했다.");
+
+    upgrader.schedule(HASH, ARTICLE);
+
+    verify(summaryRepository, timeout(2000)).upgradeSummaryText(HASH, ExtractiveSummarizationEngine.NAME,
+        "중앙은행은 금리를 동결했다.", RemoteSummarizationEngine.NAME);
+    assertThat(upgrades("retried")).isEqualTo(3);
+    assertThat(upgrades("failed")).isZero();
+  }
+
+  @Test
+  void otherFailuresStopAfterMaxAttempts() {
+    when(remoteEngine.summarize(anyString(), any())).thenThrow(new AIServiceException("bad response"));
+
+    upgrader.schedule(HASH, ARTICLE);
+
+    verify(remoteEngine, after(500).times(2)).summarize(anyString(), any());
+    verify(summaryRepository, never()).upgradeSummaryText(anyString(), anyString(), anyString(), anyString());
+    assertThat(upgrades("retried")).isEqualTo(1);
+    assertThat(upgrades("failed")).isEqualTo(1);
+  }
+
+  private double upgrades(String result) {
+    return meterRegistry.get("summary.upgrade").tag("result", result).counter().count();
+  }
+}
@@ -0,0 +1,178 @@
+package com.example.news.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.news.entity.TranslationMemoryEntry;
+import com.example.news.repository.TranslationMemoryRepository;
+import com.example.news.util.TextNormalizer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+/**
+ * 헤지 번역은 스텁으로 두고 문장 단위 적중/미적중 조립과 저장 여부를 확인
+ */
+class TranslationMemoryServiceTest {
+
+  private static final String RATE = "The central bank kept rates unchanged.";
+  private static final String EXPORTS = "Exports rose for a fifth month.";
+  private static final Map<String, String> DICTIONARY = Map.of(
+      RATE, "중앙은행은 금리를 동결했다.",
+      EXPORTS, "수출이 다섯 달째 늘었다.");
+
+  private HedgedTranslationService upstream;
+  private TranslationMemoryRepository repository;
+  private SimpleMeterRegistry meterRegistry;
+  private TranslationMemoryService service;
+
+  @BeforeEach
+  void setUp() {
+    upstream = mock(HedgedTranslationService.class);
+    repository = mock(TranslationMemoryRepository.class);
+    meterRegistry = new SimpleMeterRegistry();
+    when(repository.findAllById(anyIterable())).thenReturn(List.of());
+    // 줄마다 사전대로 번역하는 스텁
+    when(upstream.tryTranslateToKorean(anyString())).thenAnswer(invocation -> Optional.of(
+        new HedgedTranslationService.Translation(translateLines(invocation.getArgument(0)), "libretranslate")));
+    service = new TranslationMemoryService(upstream, repository, meterRegistry, true, 1000, 500, 0.2, 1.5);
+  }
+
+  @Test
+  void repeatedSentencesAreServedFromMemory() {
+    String text = RATE + " " + EXPORTS;
+
+    assertThat(service.translateToKorean(text)).isEqualTo("중앙은행은 금리를 동결했다. 수출이 다섯 달째 늘었다.");
+    assertThat(service.translateToKorean(text)).isEqualTo("중앙은행은 금리를 동결했다. 수출이 다섯 달째 늘었다.");
+
+    verify(upstream, times(1)).tryTranslateToKorean(anyString());
+    assertThat(sentences("local")).isEqualTo(2);
+    assertThat(sentences("miss")).isEqualTo(2);
+  }
+
+  @Test
+  void onlyUnseenSentencesGoUpstream() {
+    service.translateToKorean(RATE);
+
+    assertThat(service.translateToKorean(RATE + " " + EXPORTS))
+        .isEqualTo("중앙은행은 금리를 동결했다. 수출이 다섯 달째 늘었다.");
+    verify(upstream).tryTranslateToKorean(EXPORTS);
+  }
+
+  @Test
+  void storedTranslationsAvoidTheUpstream() {
+    String hash = TextNormalizer.contentHash(RATE);
+    when(repository.findAllById(anyIterable()))
+        .thenReturn(List.of(TranslationMemoryEntry.of(hash, "저장된 번역입니다.", "mymemory")));
+
+    assertThat(service.translateToKorean(RATE)).isEqualTo("저장된 번역입니다.");
+    verify(upstream, never()).tryTranslateToKorean(anyString());
+    assertThat(sentences("db")).isEqualTo(1);
+  }
+
+  @Test
+  void upstreamFailureKeepsTheEnglishSentence() {
+    when(upstream.tryTranslateToKorean(anyString())).thenReturn(Optional.empty());
+
+    assertThat(service.translateToKorean(RATE)).isEqualTo(RATE);
+    verify(repository, never()).saveAll(anyIterable());
+  }
+
+  @Test
+  void misalignedResponseIsUsedButNotRemembered() {
+    // 두 문장을 한 줄로 합쳐 돌려주는 업스트림
+    when(upstream.tryTranslateToKorean(anyString())).thenReturn(Optional.of(
+        new HedgedTranslationService.Translation("중앙은행은 금리를 동결했고 수출은 늘었다.", "libretranslate")));
+
+    assertThat(service.translateToKorean(RATE + " " + EXPORTS)).isEqualTo("중앙은행은 금리를 동결했고 수출은 늘었다.");
+    service.translateToKorean(RATE + " " + EXPORTS);
+
+    verify(upstream, times(2)).tryTranslateToKorean(anyString());
+    verify(repository, never()).saveAll(anyIterable());
+    assertThat(meterRegistry.get("translation.memory.misaligned").counter().count()).isEqualTo(2);
+  }
+
+  @Test
+  void implausibleLineLengthIsUsedButNotRemembered() {
+    // 줄 수는 맞지만 첫 줄에 두 문장 번역이 몰리고 둘째 줄은 거의 빈 응답 (줄 밀림)
+    when(upstream.tryTranslateToKorean(anyString())).thenReturn(Optional.of(new HedgedTranslationService.Translation(
+        "중앙은행은 금리를 동결했다. 수출이 다섯 달째 늘었다.\n.", "libretranslate")));
+
+    assertThat(service.translateToKorean(RATE + " " + EXPORTS))
+        .isEqualTo("중앙은행은 금리를 동결했다. 수출이 다섯 달째 늘었다. .");
+    service.translateToKorean(RATE + " " + EXPORTS);
+
+    verify(upstream, times(2)).tryTranslateToKorean(anyString());
+    verify(repository, never()).saveAll(anyIterable());
+    assertThat(meterRegistry.get("translation.memory.implausible").counter().count()).isEqualTo(2);
+  }
+
+  @Test
+  void untranslatedLineIsUsedButNotRemembered() {
+    // 둘째 문장을 번역하지 못하고 원문 그대로 돌려준 응답 (길이 비율은 범위 안)
+    when(upstream.tryTranslateToKorean(anyString())).thenReturn(Optional.of(new HedgedTranslationService.Translation(
+        "중앙은행은 금리를 동결했다.\n" + EXPORTS, "mymemory")));
+
+    assertThat(service.translateToKorean(RATE + " " + EXPORTS)).isEqualTo("중앙은행은 금리를 동결했다. " + EXPORTS);
+
+    verify(repository, never()).saveAll(anyIterable());
+    assertThat(meterRegistry.get("translation.memory.implausible").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void lineWithoutHangulIsNotRemembered() {
+    when(upstream.tryTranslateToKorean(anyString())).thenReturn(Optional.of(
+        new HedgedTranslationService.Translation("La banque centrale a maintenu ses taux.", "mymemory")));
+
+    service.translateToKorean(RATE);
+
+    verify(repository, never()).saveAll(anyIterable());
+  }
+
+  @Test
+  void duplicateInBatchFallsBackToPerSentenceSaves() {
+    when(repository.saveAll(anyIterable())).thenThrow(new DataIntegrityViolationException("duplicate source_hash"));
+    when(repository.save(any(TranslationMemoryEntry.class)))
+        .thenThrow(new DataIntegrityViolationException("duplicate source_hash"))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+
+    assertThat(service.translateToKorean(RATE + " " + EXPORTS))
+        .isEqualTo("중앙은행은 금리를 동결했다. 수출이 다섯 달째 늘었다.");
+
+    // 다른 요청이 먼저 저장한 첫 문장이 중복으로 실패해도 둘째 문장은 따로 저장한다
+    verify(repository, times(2)).save(any(TranslationMemoryEntry.class));
+  }
+
+  @Test
+  void disabledMemoryDelegatesDirectly() {
+    when(upstream.translateToKorean(RATE)).thenReturn("중앙은행은 금리를 동결했다.");
+    TranslationMemoryService disabled =
+        new TranslationMemoryService(upstream, repository, meterRegistry, false, 1000, 500, 0.2, 1.5);
+
+    assertThat(disabled.translateToKorean(RATE)).isEqualTo("중앙은행은 금리를 동결했다.");
+    verify(upstream, never()).tryTranslateToKorean(anyString());
+  }
+
+  private double sentences(String result) {
+    return meterRegistry.get("translation.memory.sentences").tag("result", result).counter().count();
+  }
+
+  private static String translateLines(String text) {
+    return Stream.of(text.split("\n", -1))
+        .map(line -> DICTIONARY.getOrDefault(line, line))
+        .collect(Collectors.joining("\n"));
+  }
+}
@@ -0,0 +1,77 @@
+package com.example.news.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 저장 포맷은 기존 행을 계속 풀 수 있어야 하므로 코덱별 왕복과 고정 바이트 해제, 손상 입력을 확인
+ */
+class ArticleCodecTest {
+
+  private static final String ARTICLE = "The government said on Monday that the economy grew. "
+      + "정부는 월요일 경제가 성장했다고 밝혔다.";
+
+  // ARTICLE을 DEFLATE_NEWS_V1로 저장한 바이트 (v1 사전이 바뀌면 기존 행처럼 풀리지 않아 실패한다)
+  private static final byte[] ARTICLE_V1 = {
+      1, 11, -63, 108, -4, 34, -38, 17, -16, 74, 9, -42, -118, 3, -74, -35, 82, -53, -11, -112, 75, -73, -39, 83,
+      -34, -52, -102, 2, 74, -79, -112, -116, 10, -10, 42, 56, -81, 98, 41, 21, -11, 0};
+
+  @Test
+  void shortTextIsStoredRaw() {
+    byte[] stored = ArticleCodec.encode("Short.");
+
+    assertThat(stored[0]).isEqualTo(ArticleCodec.RAW);
+    assertThat(ArticleCodec.decode(stored, 6)).isEqualTo("Short.");
+    assertThat(ArticleCodec.decode(ArticleCodec.encode(""), 0)).isEmpty();
+  }
+
+  @Test
+  void longTextIsDeflatedWithNewsDictionary() {
+    String article = ARTICLE.repeat(50);
+    int originalLength = article.getBytes(StandardCharsets.UTF_8).length;
+
+    byte[] stored = ArticleCodec.encode(article);
+
+    assertThat(stored[0]).isEqualTo(ArticleCodec.DEFLATE_NEWS_V1);
+    assertThat(stored.length).isLessThan(originalLength / 4);
+    assertThat(ArticleCodec.decode(stored, originalLength)).isEqualTo(article);
+    assertThat(ArticleCodec.decode(stored)).isEqualTo(article);
+  }
+
+  @Test
+  void decodesStoredV1Bytes() {
+    assertThat(ArticleCodec.decode(ARTICLE_V1, ARTICLE.getBytes(StandardCharsets.UTF_8).length)).isEqualTo(ARTICLE);
+  }
+
+  @Test
+  void nullPassesThrough() {
+    assertThat(ArticleCodec.encode(null)).isNull();
+    assertThat(ArticleCodec.decode(null, 0)).isNull();
+  }
+
+  @Test
+  void rejectsCorruptInput() {
+    int originalLength = ARTICLE.getBytes(StandardCharsets.UTF_8).length;
+
+    assertThatThrownBy(() -> ArticleCodec.decode(new byte[0], 0))
+        .isInstanceOf(IllegalArgumentException.class);
+    // 알 수 없는 코덱
+    assertThatThrownBy(() -> ArticleCodec.decode(new byte[] {9, 1, 2}, 2))
+        .isInstanceOf(IllegalArgumentException.class);
+    // 잘린 deflate 스트림
+    assertThatThrownBy(() -> ArticleCodec.decode(Arrays.copyOf(ARTICLE_V1, ARTICLE_V1.length / 2), originalLength))
+        .isInstanceOf(IllegalArgumentException.class);
+    // deflate가 아닌 바이트
+    assertThatThrownBy(() -> ArticleCodec.decode(new byte[] {1, -1, -1, -1, -1, -1}, originalLength))
+        .isInstanceOf(IllegalArgumentException.class);
+    // 저장된 길이와 다름
+    assertThatThrownBy(() -> ArticleCodec.decode(ARTICLE_V1, originalLength + 1))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> ArticleCodec.decode(ArticleCodec.encode("Short."), 5))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
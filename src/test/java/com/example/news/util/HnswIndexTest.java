@@ -0,0 +1,125 @@
+package com.example.news.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 툼스톤 압축과 필터 검색 (recall/QPS는 JMH HnswIndexBenchmark에서 측정)
+ */
+class HnswIndexTest {
+
+  private static final int DIMENSION = 16;
+
+  @Test
+  void compactDropsTombstonesAndKeepsLiveVectors() {
+    SplittableRandom random = new SplittableRandom(1);
+    HnswIndex index = new HnswIndex(DIMENSION, 8, 50, 42L);
+    for (int i = 0; i < 2000; i++) {
+      index.add(i, randomUnitVector(random));
+    }
+    for (int i = 0; i < 2000; i += 2) {
+      index.remove(i);
+    }
+    assertThat(index.tombstones()).isEqualTo(1000);
+
+    assertThat(index.compact()).isTrue();
+
+    assertThat(index.tombstones()).isZero();
+    assertThat(index.size()).isEqualTo(1000);
+    for (int q = 0; q < 20; q++) {
+      float[] query = randomUnitVector(random);
+      List<HnswIndex.Result> results = index.search(query, 10, 64);
+      assertThat(results).hasSize(10).allSatisfy(result -> assertThat(result.externalId() % 2).isEqualTo(1));
+      assertThat(results.get(0)).isEqualTo(index.exactSearch(query, 1).get(0));
+    }
+  }
+
+  @Test
+  void changesDuringCompactionAreKept() throws InterruptedException {
+    SplittableRandom random = new SplittableRandom(2);
+    HnswIndex index = new HnswIndex(DIMENSION, 8, 50, 42L);
+    for (int i = 0; i < 5000; i++) {
+      index.add(i, randomUnitVector(random));
+    }
+    for (int i = 0; i < 2500; i++) {
+      index.remove(i);
+    }
+
+    Thread writer = new Thread(() -> {
+      SplittableRandom writerRandom = new SplittableRandom(3);
+      for (int i = 5000; i < 5500; i++) {
+        index.add(i, randomUnitVector(writerRandom));
+      }
+      for (int i = 2500; i < 2600; i++) {
+        index.remove(i);
+      }
+    });
+    writer.start();
+    index.compact();
+    writer.join();
+
+    assertThat(index.size()).isEqualTo(2900);
+    float[] query = randomUnitVector(random);
+    assertThat(index.search(query, 2900, 3000))
+        .allSatisfy(result -> assertThat(result.externalId()).isGreaterThanOrEqualTo(2600));
+  }
+
+  @Test
+  void filteredSearchWidensUntilEnoughVectorsPass() {
+    HnswIndex index = randomIndex(new SplittableRandom(4), 3000);
+
+    // 후보 ef개 중 한두 개만 통과하는 필터도 폭을 늘려 k개를 채운다
+    float[] query = randomUnitVector(new SplittableRandom(5));
+    List<HnswIndex.Result> results = index.search(query, 10, 16, id -> id % 10 == 0);
+
+    assertThat(results).hasSize(10).allSatisfy(result -> assertThat(result.externalId() % 10).isZero());
+  }
+
+  @Test
+  void filteredSearchStopsWideningAtTheCap() {
+    HnswIndex index = randomIndex(new SplittableRandom(6), 3000);
+
+    // 통과 대상이 3개뿐이면 전체를 훑지 않고 ef * 16 폭에서 찾은 만큼만 반환한다
+    float[] query = randomUnitVector(new SplittableRandom(7));
+    List<HnswIndex.Result> results = index.search(query, 10, 16, id -> id % 1000 == 0);
+
+    assertThat(results).hasSizeLessThan(10).allSatisfy(result -> assertThat(result.externalId() % 1000).isZero());
+  }
+
+  @Test
+  void exactSearchOverGivenIdsSkipsUnknownAndRemoved() {
+    SplittableRandom random = new SplittableRandom(8);
+    HnswIndex index = randomIndex(random, 500);
+    index.remove(3);
+    float[] query = randomUnitVector(random);
+
+    List<HnswIndex.Result> results = index.exactSearch(query, 10, new long[] {1, 2, 3, 4, 9999});
+
+    assertThat(results).extracting(HnswIndex.Result::externalId).containsExactlyInAnyOrder(1L, 2L, 4L);
+    assertThat(results).isSortedAccordingTo((a, b) -> Double.compare(b.similarity(), a.similarity()));
+  }
+
+  private static HnswIndex randomIndex(SplittableRandom random, int count) {
+    HnswIndex index = new HnswIndex(DIMENSION, 8, 50, 42L);
+    for (int i = 0; i < count; i++) {
+      index.add(i, randomUnitVector(random));
+    }
+    return index;
+  }
+
+  private static float[] randomUnitVector(SplittableRandom random) {
+    float[] vector = new float[DIMENSION];
+    double norm = 0;
+    for (int i = 0; i < DIMENSION; i++) {
+      vector[i] = (float) random.nextGaussian();
+      norm += vector[i] * vector[i];
+    }
+    for (int i = 0; i < DIMENSION; i++) {
+      vector[i] /= (float) Math.sqrt(norm);
+    }
+    return vector;
+  }
+}
@@ -0,0 +1,58 @@
+package com.example.news.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.news.util.LanguageDetector.Language;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class LanguageDetectorTest {
+
+  @Test
+  void koreanWithEmbeddedEnglishNamesIsKorean() {
+    assertThat(LanguageDetector.detect(
+        "삼성전자가 NVIDIA와 HBM3E 공급 계약을 맺었다고 Reuters가 보도했다. 계약 규모는 공개되지 않았다."))
+        .isEqualTo(Language.KOREAN);
+    assertThat(LanguageDetector.detect("애플(Apple)의 CEO 팀 쿡은 WWDC에서 새로운 AI 기능을 발표했다."))
+        .isEqualTo(Language.KOREAN);
+  }
+
+  @Test
+  void plainEnglishIsEnglish() {
+    assertThat(LanguageDetector.detect(
+        "The central bank kept interest rates unchanged on Thursday, saying that inflation was still too high."))
+        .isEqualTo(Language.ENGLISH);
+  }
+
+  @ParameterizedTest
+  @NullAndEmptySource
+  @ValueSource(strings = {"   ", "OK", "Hi"})
+  void blankOrTooShortIsUnknown(String text) {
+    assertThat(LanguageDetector.detect(text)).isEqualTo(Language.UNKNOWN);
+  }
+
+  @Test
+  void numbersOnlyIsUnknown() {
+    assertThat(LanguageDetector.detect("2024 3.5% 1,000,000 -12.75")).isEqualTo(Language.UNKNOWN);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "La banque centrale a maintenu ses taux directeurs et la présidente a dit que les prix restent élevés.",
+      "Die Zentralbank hat die Zinsen nicht verändert und die Inflation ist weiterhin hoch, sagte die Präsidentin.",
+      "El banco central mantuvo las tasas de interés y dijo que la inflación sigue alta por los precios de la energía."
+  })
+  void otherLatinLanguagesAreUnknown(String text) {
+    assertThat(LanguageDetector.detect(text)).isEqualTo(Language.UNKNOWN);
+  }
+
+  @Test
+  void onlyTheSampleIsInspected() {
+    // 앞부분이 한국어면 뒤에 긴 영어 인용문이 붙어도 한국어
+    String text = "가".repeat(LanguageDetector.SAMPLE_CHARS) + " the of and to in".repeat(1000);
+
+    assertThat(LanguageDetector.detect(text)).isEqualTo(Language.KOREAN);
+  }
+}
@@ -0,0 +1,25 @@
+package com.example.news.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.InetAddress;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class NetworkAddressesTest {
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "127.0.0.1", "0.0.0.0", "10.1.2.3", "172.16.0.1", "192.168.0.10", "169.254.169.254",
+      "100.64.0.1", "224.0.0.1", "255.255.255.255", "::1", "::", "fe80::1", "fd00::1",
+      "::ffff:127.0.0.1", "::7f00:1", "64:ff9b::a9fe:a9fe"})
+  void rejectsInternalAddresses(String address) throws Exception {
+    assertThat(NetworkAddresses.isPublic(InetAddress.getByName(address))).isFalse();
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"8.8.8.8", "1.1.1.1", "203.0.113.7", "2001:4860:4860::8888", "64:ff9b::808:808"})
+  void acceptsPublicAddresses(String address) throws Exception {
+    assertThat(NetworkAddresses.isPublic(InetAddress.getByName(address))).isTrue();
+  }
+}
@@ -0,0 +1,163 @@
+package com.example.news.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 가짜 시계로 시간을 직접 움직여 버스트/충전/재시도 시간 확인
+ */
+class StripedTokenBucketsTest {
+
+  // 40비트 상대 시각이 실제 epoch ms 값에서도 맞게 동작하는지 보도록 현재와 비슷한 시각에서 시작
+  private final AtomicLong clock = new AtomicLong(1_700_000_000_000L);
+
+  @Test
+  void admitsBurstThenRejects() {
+    StripedTokenBuckets buckets = new StripedTokenBuckets(1024, 5, 10 / 60.0, clock::get);
+
+    for (int i = 0; i < 5; i++) {
+      assertThat(buckets.tryAcquire("alice", 1)).isZero();
+    }
+    assertThat(buckets.tryAcquire("alice", 1)).isPositive();
+  }
+
+  @Test
+  void retryAfterIsTimeUntilMissingTokensRefill() {
+    // 분당 10개 = 6초에 1개
+    StripedTokenBuckets buckets = new StripedTokenBuckets(1024, 5, 10 / 60.0, clock::get);
+    drain(buckets, "alice", 5);
+
+    assertThat(buckets.tryAcquire("alice", 1)).isEqualTo(6000);
+    clock.addAndGet(3000);
+    assertThat(buckets.tryAcquire("alice", 1)).isEqualTo(3000);
+    // 3개가 필요하면 이미 찬 0.5개를 뺀 2.5개 분량
+    assertThat(buckets.tryAcquire("alice", 3)).isEqualTo(15000);
+  }
+
+  @Test
+  void waitingRetryAfterIsEnough() {
+    // 0.7/s 처럼 나누어 떨어지지 않는 속도에서도 안내한 시간만 기다리면 허용
+    for (double tokensPerSecond : new double[] {10 / 60.0, 7 / 60.0, 1 / 3.0, 0.7}) {
+      StripedTokenBuckets buckets = new StripedTokenBuckets(16, 3, tokensPerSecond, clock::get);
+      drain(buckets, "alice", 3);
+
+      long wait = buckets.tryAcquire("alice", 1);
+      clock.addAndGet(wait - 1);
+      assertThat(buckets.tryAcquire("alice", 1)).isPositive();
+      clock.addAndGet(1);
+      assertThat(buckets.tryAcquire("alice", 1)).isZero();
+    }
+  }
+
+  @Test
+  void rejectionDoesNotResetRefill() {
+    StripedTokenBuckets buckets = new StripedTokenBuckets(1024, 5, 1, clock::get);
+    drain(buckets, "alice", 5);
+
+    // 거절이 이어져도 경과 시간은 계속 쌓인다
+    for (int i = 0; i < 4; i++) {
+      clock.addAndGet(250);
+      assertThat(buckets.tryAcquire("alice", 1)).isPositive();
+    }
+    clock.addAndGet(1);
+    assertThat(buckets.tryAcquire("alice", 1)).isZero();
+  }
+
+  @Test
+  void refillIsCappedAtCapacity() {
+    StripedTokenBuckets buckets = new StripedTokenBuckets(1024, 5, 1, clock::get);
+    drain(buckets, "alice", 5);
+
+    clock.addAndGet(TimeUnit.DAYS.toMillis(30));
+    drain(buckets, "alice", 5);
+    assertThat(buckets.tryAcquire("alice", 1)).isEqualTo(1000);
+  }
+
+  @Test
+  void batchCostIsDeductedAtOnce() {
+    StripedTokenBuckets buckets = new StripedTokenBuckets(1024, 20, 1, clock::get);
+
+    for (int i = 0; i < 4; i++) {
+      assertThat(buckets.tryAcquire("alice", 5)).isZero();
+    }
+    assertThat(buckets.tryAcquire("alice", 1)).isEqualTo(1000);
+    assertThatThrownBy(() -> buckets.tryAcquire("alice", 21)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void collidingKeysShareBucket() {
+    // 슬롯이 하나뿐이면 모든 키가 같은 버킷을 쓴다 (더 엄격해질 뿐)
+    StripedTokenBuckets buckets = new StripedTokenBuckets(1, 5, 1, clock::get);
+    drain(buckets, "alice", 3);
+    drain(buckets, "bob", 2);
+
+    assertThat(buckets.tryAcquire("alice", 1)).isPositive();
+    assertThat(buckets.tryAcquire("carol", 1)).isPositive();
+  }
+
+  @Test
+  void separateStripesAreIndependent() {
+    StripedTokenBuckets buckets = new StripedTokenBuckets(65536, 5, 1, clock::get);
+    drain(buckets, "alice", 5);
+
+    assertThat(buckets.tryAcquire("alice", 1)).isPositive();
+    drain(buckets, "bob", 5);
+  }
+
+  @Test
+  void rejectsInvalidConfiguration() {
+    assertThatThrownBy(() -> new StripedTokenBuckets(16, 0, 1, clock::get))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new StripedTokenBuckets(16, StripedTokenBuckets.MAX_CAPACITY + 1, 1, clock::get))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new StripedTokenBuckets(16, 5, 0, clock::get))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void concurrentCallersNeverExceedCapacity() throws Exception {
+    // 시계가 멈춰 있으므로 충전 없이 정확히 용량만큼만 허용되어야 한다 (CAS 경합 확인)
+    StripedTokenBuckets buckets = new StripedTokenBuckets(1, 1000, 1, clock::get);
+    AtomicInteger admitted = new AtomicInteger();
+    CountDownLatch start = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < 8; t++) {
+        futures.add(executor.submit(() -> {
+          start.await();
+          for (int i = 0; i < 500; i++) {
+            if (buckets.tryAcquire("alice", 1) == 0) {
+              admitted.incrementAndGet();
+            }
+          }
+          return null;
+        }));
+      }
+      start.countDown();
+      for (Future<?> future : futures) {
+        future.get(10, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    assertThat(admitted.get()).isEqualTo(1000);
+  }
+
+  private static void drain(StripedTokenBuckets buckets, String key, int permits) {
+    for (int i = 0; i < permits; i++) {
+      assertThat(buckets.tryAcquire(key, 1)).isZero();
+    }
+  }
+}
@@ -0,0 +1,61 @@
+package com.example.news.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TextChunkerTest {
+
+  @Test
+  void shortTextIsOneChunk() {
+    assertThat(TextChunker.split("One sentence.", 100)).containsExactly("One sentence.");
+    assertThat(TextChunker.split("  ", 100)).isEmpty();
+    assertThat(TextChunker.split(null, 100)).isEmpty();
+  }
+
+  @Test
+  void paragraphsArePackedWhole() {
+    List<String> chunks = TextChunker.split("First paragraph.\n\nSecond paragraph.\n\nThird paragraph.", 40);
+
+    assertThat(chunks).containsExactly("First paragraph.\n\nSecond paragraph.", "Third paragraph.");
+  }
+
+  @Test
+  void splitsAtSentenceBoundaries() {
+    List<String> chunks = TextChunker.split("Alpha beta gamma. Delta epsilon! Zeta eta theta? 한국어 문장입니다。 끝", 35);
+
+    assertThat(chunks).containsExactly("Alpha beta gamma. Delta epsilon!", "Zeta eta theta? 한국어 문장입니다。 끝");
+    assertThat(chunks).allSatisfy(chunk -> assertThat(chunk.length()).isLessThanOrEqualTo(35));
+  }
+
+  @Test
+  void splitsLongSentenceAtWhitespace() {
+    List<String> chunks = TextChunker.split("aaaa bbbb cccc dddd eeee ffff.", 12);
+
+    // 단어 중간에서 자르지 않는다
+    assertThat(chunks).containsExactly("aaaa bbbb", "cccc dddd", "eeee ffff.");
+  }
+
+  @Test
+  void hardSplitsWhenThereIsNoWhitespace() {
+    List<String> chunks = TextChunker.split("abcdefghijklmnopqrstuvwxy", 10);
+
+    assertThat(chunks).containsExactly("abcdefghij", "klmnopqrst", "uvwxy");
+  }
+
+  @Test
+  void headPrefersSentenceThenWhitespaceThenHardCut() {
+    assertThat(TextChunker.head("First one. Second one is longer.", 20)).isEqualTo("First one.");
+    assertThat(TextChunker.head("no sentence end here at all", 12)).isEqualTo("no sentence");
+    assertThat(TextChunker.head("abcdefghijklmnop", 5)).isEqualTo("abcde");
+    assertThat(TextChunker.head("short", 10)).isEqualTo("short");
+  }
+
+  @Test
+  void rejectsNonPositiveSize() {
+    assertThatThrownBy(() -> TextChunker.split("text", 0)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> TextChunker.head("text", 0)).isInstanceOf(IllegalArgumentException.class);
+  }
+}